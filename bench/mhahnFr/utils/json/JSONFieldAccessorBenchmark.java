@@ -0,0 +1,153 @@
+/*
+ * JUtilities - Some utilities written for Java.
+ *
+ * Copyright (C) 2026  mhahnFr
+ *
+ * This file is part of the JUtilities. This library is free software:
+ * you can redistribute it and/or modify it under the terms of the
+ * GNU General Public License as published by the Free Software Foundation,
+ * either version 3 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with
+ * this library, see the file LICENSE.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package mhahnFr.utils.json;
+
+import java.lang.reflect.Field;
+
+/**
+ * This class measures the field accessors against plain reflection. It
+ * copies an {@code int} and a {@code double} field of many objects from
+ * one field to another, first boxing the values through
+ * {@link Field#get(Object)}, then using the typed reflective methods and
+ * finally using the {@link JSONFieldAccessor}s.
+ * <p>
+ * Run it using {@code gradle bench}. The best of several rounds is
+ * reported in nanoseconds per copied field.
+ *
+ * @author mhahnFr
+ * @since 16.10.26
+ */
+public final class JSONFieldAccessorBenchmark {
+    /** The number of objects to be copied per pass. */
+    private static final int OBJECTS = 1024;
+    /** The number of passes per round.              */
+    private static final int PASSES  = 2000;
+    /** The number of rounds per measurement.        */
+    private static final int ROUNDS  = 10;
+
+    /**
+     * The objects whose fields are copied.
+     *
+     * @author mhahnFr
+     * @since 16.10.26
+     */
+    static final class Sample {
+        /** The source {@code int} field.         */
+        int sourceInt;
+        /** The destination {@code int} field.    */
+        int targetInt;
+        /** The source {@code double} field.      */
+        double sourceDouble;
+        /** The destination {@code double} field. */
+        double targetDouble;
+    }
+
+    /**
+     * This interface defines a single pass of copying the fields.
+     *
+     * @author mhahnFr
+     * @since 16.10.26
+     */
+    @FunctionalInterface
+    private interface Pass {
+        /**
+         * Copies the fields of the given objects.
+         *
+         * @param samples the objects whose fields to copy
+         * @throws IllegalAccessException if a field cannot be accessed
+         */
+        void run(Sample[] samples) throws IllegalAccessException;
+    }
+
+    private JSONFieldAccessorBenchmark() {}
+
+    /**
+     * Measures the given pass and prints the best round.
+     *
+     * @param name the name of the measured access
+     * @param samples the objects whose fields to copy
+     * @param pass the pass to be measured
+     * @throws IllegalAccessException if a field cannot be accessed
+     */
+    private static void measure(final String name, final Sample[] samples, final Pass pass) throws IllegalAccessException {
+        var best = Long.MAX_VALUE;
+        for (int round = 0; round < ROUNDS; ++round) {
+            final var start = System.nanoTime();
+            for (int i = 0; i < PASSES; ++i) {
+                pass.run(samples);
+            }
+            best = Math.min(best, System.nanoTime() - start);
+        }
+        System.out.printf("%-22s %6.2f ns/field%n", name, best / (2.0 * OBJECTS * PASSES));
+    }
+
+    /**
+     * Runs the benchmark.
+     *
+     * @param args ignored
+     * @throws ReflectiveOperationException if the fields of the samples cannot be accessed
+     */
+    public static void main(final String[] args) throws ReflectiveOperationException {
+        final var samples = new Sample[OBJECTS];
+        for (int i = 0; i < OBJECTS; ++i) {
+            samples[i] = new Sample();
+            samples[i].sourceInt    = i;
+            samples[i].sourceDouble = i / 3.0;
+        }
+
+        final var sourceInt    = Sample.class.getDeclaredField("sourceInt");
+        final var targetInt    = Sample.class.getDeclaredField("targetInt");
+        final var sourceDouble = Sample.class.getDeclaredField("sourceDouble");
+        final var targetDouble = Sample.class.getDeclaredField("targetDouble");
+        for (final var field : new Field[] { sourceInt, targetInt, sourceDouble, targetDouble }) {
+            field.setAccessible(true);
+        }
+
+        final var sourceIntAccessor    = JSONFieldAccessor.of(sourceInt);
+        final var targetIntAccessor    = JSONFieldAccessor.of(targetInt);
+        final var sourceDoubleAccessor = JSONFieldAccessor.of(sourceDouble);
+        final var targetDoubleAccessor = JSONFieldAccessor.of(targetDouble);
+
+        measure("reflection (boxed)", samples, s -> {
+            for (final var sample : s) {
+                targetInt.set(sample, sourceInt.get(sample));
+                targetDouble.set(sample, sourceDouble.get(sample));
+            }
+        });
+        measure("reflection (typed)", samples, s -> {
+            for (final var sample : s) {
+                targetInt.setInt(sample, sourceInt.getInt(sample));
+                targetDouble.setDouble(sample, sourceDouble.getDouble(sample));
+            }
+        });
+        measure("accessor (typed)", samples, s -> {
+            for (final var sample : s) {
+                targetIntAccessor.setInt(sample, sourceIntAccessor.getInt(sample));
+                targetDoubleAccessor.setDouble(sample, sourceDoubleAccessor.getDouble(sample));
+            }
+        });
+        measure("accessor (boxed)", samples, s -> {
+            for (final var sample : s) {
+                targetIntAccessor.set(sample, sourceIntAccessor.get(sample));
+                targetDoubleAccessor.set(sample, sourceDoubleAccessor.get(sample));
+            }
+        });
+    }
+}
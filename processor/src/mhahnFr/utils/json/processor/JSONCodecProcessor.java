@@ -0,0 +1,392 @@
+/*
+ * JUtilities - Some utilities written for Java.
+ *
+ * Copyright (C) 2026  mhahnFr
+ *
+ * This file is part of the JUtilities. This library is free software:
+ * you can redistribute it and/or modify it under the terms of the
+ * GNU General Public License as published by the Free Software Foundation,
+ * either version 3 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with
+ * this library, see the file LICENSE.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package mhahnFr.utils.json.processor;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.*;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.ElementFilter;
+import javax.tools.Diagnostic;
+import javax.tools.StandardLocation;
+import java.io.IOException;
+import java.util.*;
+
+/**
+ * This annotation processor generates a {@code JSONObjectCodec} for every
+ * class annotated using {@code JSONGenerateCodec}. The generated codecs
+ * access the fields directly and are registered as services, so that
+ * the {@code JSONParser} and the {@code JSONWriter} use them instead of
+ * reflection.
+ * <p>
+ * Fields that cannot be accessed from the package of the annotated class
+ * and fields of generic, array, collection or map types are delegated to
+ * the reflective path of the parser and writer.
+ *
+ * @author mhahnFr
+ * @since 16.10.26
+ */
+@SupportedAnnotationTypes(JSONCodecProcessor.ANNOTATION)
+public class JSONCodecProcessor extends AbstractProcessor {
+    /** The name of the annotation requesting a codec.       */
+    static final String ANNOTATION = "mhahnFr.utils.json.JSONGenerateCodec";
+    /** The name of the interface implemented by the codecs. */
+    private static final String CODEC = "mhahnFr.utils.json.JSONObjectCodec";
+    /** The name of the annotation preventing serialization. */
+    private static final String NO_SERIALIZATION = "mhahnFr.utils.json.JSONNoSerialization";
+
+    /** The names of the generated codecs. */
+    private final List<String> codecs = new ArrayList<>();
+
+    /**
+     * Constructs this annotation processor.
+     */
+    public JSONCodecProcessor() {
+        super();
+    }
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+        for (final var annotation : annotations) {
+            for (final var element : roundEnv.getElementsAnnotatedWith(annotation)) {
+                if (element.getKind() != ElementKind.CLASS) {
+                    error(element, "Codecs can only be generated for classes!");
+                    continue;
+                }
+                generate((TypeElement) element);
+            }
+        }
+        if (roundEnv.processingOver() && !codecs.isEmpty()) {
+            writeServices();
+        }
+        return true;
+    }
+
+    /**
+     * Reports an error for the given element.
+     *
+     * @param element the element causing the error
+     * @param message the error message
+     */
+    private void error(final Element element, final String message) {
+        processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR, message, element);
+    }
+
+    /**
+     * Writes the service registration of the generated codecs.
+     */
+    private void writeServices() {
+        try {
+            final var file = processingEnv.getFiler().createResource(StandardLocation.CLASS_OUTPUT, "",
+                                                                     "META-INF/services/" + CODEC);
+            try (final var writer = file.openWriter()) {
+                for (final var codec : codecs) {
+                    writer.write(codec + "\n");
+                }
+            }
+        } catch (IOException e) {
+            processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR, "Could not register the codecs: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Returns whether the given type element can be referenced from
+     * the given package.
+     *
+     * @param type the type element to be checked
+     * @param pkg the package to reference the type from
+     * @return whether the type is accessible
+     */
+    private boolean isAccessible(final TypeElement type, final PackageElement pkg) {
+        Element current = type;
+        while (current instanceof TypeElement) {
+            final var modifiers = current.getModifiers();
+            if (modifiers.contains(Modifier.PRIVATE)) return false;
+            if (!modifiers.contains(Modifier.PUBLIC) &&
+                !processingEnv.getElementUtils().getPackageOf(current).equals(pkg)) return false;
+
+            current = current.getEnclosingElement();
+        }
+        return true;
+    }
+
+    /**
+     * Returns whether the given field can be accessed directly from
+     * the given package.
+     *
+     * @param field the field to be checked
+     * @param pkg the package of the generated codec
+     * @return whether the field is accessible
+     */
+    private boolean isAccessible(final VariableElement field, final PackageElement pkg) {
+        final var modifiers = field.getModifiers();
+        if (modifiers.contains(Modifier.PRIVATE)) return false;
+
+        return modifiers.contains(Modifier.PUBLIC) ||
+               processingEnv.getElementUtils().getPackageOf(field).equals(pkg);
+    }
+
+    /**
+     * Returns the name of the class to be used in a class literal if
+     * the given type can be read and written as a whole, {@code null}
+     * otherwise. Generic, array, collection and map types are not
+     * supported.
+     *
+     * @param type the type to be checked
+     * @param pkg the package of the generated codec
+     * @return the name of the class or {@code null}
+     */
+    private String simpleClassOf(final TypeMirror type, final PackageElement pkg) {
+        if (type.getKind() != TypeKind.DECLARED) return null;
+
+        final var declared = (DeclaredType) type;
+        if (!declared.getTypeArguments().isEmpty()) return null;
+
+        final var element = (TypeElement) declared.asElement();
+        final var types   = processingEnv.getTypeUtils();
+        final var utils   = processingEnv.getElementUtils();
+        for (final var container : List.of("java.util.Collection", "java.util.Map")) {
+            final var containerType = utils.getTypeElement(container);
+            if (containerType != null && types.isSubtype(types.erasure(type), types.erasure(containerType.asType()))) {
+                return null;
+            }
+        }
+        return isAccessible(element, pkg) ? element.getQualifiedName().toString() : null;
+    }
+
+    /**
+     * Returns the name of the reading method of the parser for the
+     * given primitive type.
+     *
+     * @param kind the primitive type
+     * @return the name of the reading method
+     */
+    private static String readerOf(final TypeKind kind) {
+        return switch (kind) {
+            case BOOLEAN -> "readBoolean";
+            case BYTE    -> "readByte";
+            case SHORT   -> "readShort";
+            case CHAR    -> "readChar";
+            case INT     -> "readInt";
+            case LONG    -> "readLong";
+            case FLOAT   -> "readFloat";
+            case DOUBLE  -> "readDouble";
+            default      -> throw new IllegalArgumentException("Not a primitive type: " + kind);
+        };
+    }
+
+    /**
+     * Returns whether the given element is annotated using the annotation
+     * with the given name.
+     *
+     * @param element the element to be checked
+     * @param annotation the qualified name of the annotation
+     * @return whether the annotation is present
+     */
+    private static boolean isAnnotated(final Element element, final String annotation) {
+        for (final var mirror : element.getAnnotationMirrors()) {
+            if (((TypeElement) mirror.getAnnotationType().asElement()).getQualifiedName().contentEquals(annotation)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Collects the fields of the given class in the order used by the
+     * writer: first the declared fields, then the public inherited ones.
+     *
+     * @param type the class whose fields to collect
+     * @return the collected fields
+     */
+    private List<VariableElement> collectFields(final TypeElement type) {
+        final var toReturn = new ArrayList<VariableElement>(ElementFilter.fieldsIn(type.getEnclosedElements()));
+
+        var superclass = type.getSuperclass();
+        while (superclass.getKind() == TypeKind.DECLARED) {
+            final var element = (TypeElement) ((DeclaredType) superclass).asElement();
+            for (final var field : ElementFilter.fieldsIn(element.getEnclosedElements())) {
+                if (field.getModifiers().contains(Modifier.PUBLIC)) {
+                    toReturn.add(field);
+                }
+            }
+            superclass = element.getSuperclass();
+        }
+        return toReturn;
+    }
+
+    /**
+     * Returns whether the given class can be instantiated by the
+     * generated codec.
+     *
+     * @param type the class to be checked
+     * @param pkg the package of the generated codec
+     * @return whether the default constructor can be called
+     */
+    private boolean hasDefaultConstructor(final TypeElement type, final PackageElement pkg) {
+        if (type.getModifiers().contains(Modifier.ABSTRACT)) return false;
+
+        for (final var constructor : ElementFilter.constructorsIn(type.getEnclosedElements())) {
+            if (constructor.getParameters().isEmpty()) {
+                final var modifiers = constructor.getModifiers();
+                return !modifiers.contains(Modifier.PRIVATE) &&
+                       (modifiers.contains(Modifier.PUBLIC) || processingEnv.getElementUtils().getPackageOf(type).equals(pkg));
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Generates the codec for the given class.
+     *
+     * @param type the class to generate the codec for
+     */
+    private void generate(final TypeElement type) {
+        final var utils = processingEnv.getElementUtils();
+        final var pkg   = utils.getPackageOf(type);
+
+        for (Element current = type; current instanceof TypeElement; current = current.getEnclosingElement()) {
+            if (current != type && !current.getModifiers().contains(Modifier.STATIC) &&
+                ((TypeElement) current).getNestingKind().isNested()) {
+                error(type, "Codecs cannot be generated for inner classes of inner classes!");
+                return;
+            }
+        }
+        if (type.getNestingKind().isNested() && !type.getModifiers().contains(Modifier.STATIC)) {
+            error(type, "Codecs cannot be generated for inner classes!");
+            return;
+        }
+        if (!isAccessible(type, pkg)) {
+            error(type, "Codecs cannot be generated for private classes!");
+            return;
+        }
+
+        final var packageName = pkg.isUnnamed() ? "" : pkg.getQualifiedName().toString();
+        final var typeName    = type.getQualifiedName().toString();
+        final var flatName    = (packageName.isEmpty() ? typeName : typeName.substring(packageName.length() + 1)).replace('.', '_');
+        final var codecName   = flatName + "_JSONCodec";
+        final var isGeneric   = !type.getTypeParameters().isEmpty();
+
+        final var fields         = collectFields(type);
+        final var publicNames    = new HashSet<String>();
+        for (final var field : fields) {
+            if (field.getEnclosingElement() != type) {
+                publicNames.add(field.getSimpleName().toString());
+            }
+        }
+
+        final var source = new StringBuilder();
+        if (!packageName.isEmpty()) {
+            source.append("package ").append(packageName).append(";\n\n");
+        }
+        source.append("/**\n")
+              .append(" * The JSON codec of {@link ").append(typeName).append("}.\n")
+              .append(" * Generated by the JUtilities, do not edit.\n")
+              .append(" */\n");
+        if (isGeneric) {
+            source.append("@SuppressWarnings(\"rawtypes\")\n");
+        }
+        source.append("public final class ").append(codecName).append(" implements ").append(CODEC)
+              .append('<').append(typeName).append("> {\n");
+
+        source.append("    @Override\n")
+              .append("    public Class<").append(typeName).append("> getType() {\n")
+              .append("        return ").append(typeName).append(".class;\n")
+              .append("    }\n\n");
+
+        source.append("    @Override\n")
+              .append("    public ").append(typeName).append(" newInstance() throws ReflectiveOperationException {\n");
+        if (hasDefaultConstructor(type, pkg)) {
+            source.append("        return new ").append(typeName).append("();\n");
+        } else {
+            source.append("        throw new NoSuchMethodException(\"").append(typeName).append(".<init>()\");\n");
+        }
+        source.append("    }\n\n");
+
+        source.append("    @Override\n")
+              .append("    public void read(mhahnFr.utils.json.JSONParser parser, ").append(typeName).append(" obj)\n")
+              .append("            throws ReflectiveOperationException, mhahnFr.utils.json.JSONParseException {\n")
+              .append("        if (!parser.hasField()) return;\n\n")
+              .append("        do {\n")
+              .append("            final String name = parser.readFieldName();\n")
+              .append("            switch (name) {\n");
+        final var readNames = new HashSet<String>();
+        for (final var field : fields) {
+            final var name      = field.getSimpleName().toString();
+            final var modifiers = field.getModifiers();
+            if (!isAccessible(field, pkg) || modifiers.contains(Modifier.STATIC) || modifiers.contains(Modifier.FINAL)) continue;
+            if (!modifiers.contains(Modifier.PUBLIC) && publicNames.contains(name)) continue;
+            if (!readNames.add(name)) continue;
+
+            final var fieldType = field.asType();
+            final String value;
+            if (fieldType.getKind().isPrimitive()) {
+                value = "parser." + readerOf(fieldType.getKind()) + "()";
+            } else {
+                final var simpleClass = simpleClassOf(fieldType, pkg);
+                if (simpleClass == null) continue;
+
+                value = "parser.readValue(" + simpleClass + ".class, obj." + name + ")";
+            }
+            source.append("                case \"").append(name).append("\" -> obj.").append(name)
+                  .append(" = ").append(value).append(";\n");
+        }
+        source.append("                default -> parser.readFieldValue(obj, name);\n")
+              .append("            }\n")
+              .append("        } while (parser.nextField());\n")
+              .append("    }\n\n");
+
+        source.append("    @Override\n")
+              .append("    public void write(mhahnFr.utils.json.JSONWriter writer, ").append(typeName).append(" obj)\n")
+              .append("            throws java.io.IOException, IllegalAccessException {\n");
+        final var written = new HashSet<VariableElement>();
+        for (final var field : fields) {
+            final var name      = field.getSimpleName().toString();
+            final var modifiers = field.getModifiers();
+            if (modifiers.contains(Modifier.STATIC) || isAnnotated(field, NO_SERIALIZATION) || !written.add(field)) continue;
+
+            final var fieldType = field.asType();
+            if (isAccessible(field, pkg) && (fieldType.getKind().isPrimitive() || simpleClassOf(fieldType, pkg) != null)) {
+                source.append("        writer.writeField(\"").append(name).append("\", obj.").append(name).append(");\n");
+            } else {
+                source.append("        writer.writeFieldValue(obj, \"").append(name).append("\");\n");
+            }
+        }
+        source.append("    }\n")
+              .append("}\n");
+
+        final var qualifiedCodecName = packageName.isEmpty() ? codecName : packageName + "." + codecName;
+        try (final var writer = processingEnv.getFiler().createSourceFile(qualifiedCodecName, type).openWriter()) {
+            writer.write(source.toString());
+            codecs.add(qualifiedCodecName);
+        } catch (IOException e) {
+            error(type, "Could not generate the codec: " + e.getMessage());
+        }
+    }
+}
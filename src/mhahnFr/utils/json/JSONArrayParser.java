@@ -0,0 +1,486 @@
+/*
+ * JUtilities - Some utilities written for Java.
+ *
+ * Copyright (C) 2026  mhahnFr
+ *
+ * This file is part of the JUtilities. This library is free software:
+ * you can redistribute it and/or modify it under the terms of the
+ * GNU General Public License as published by the Free Software Foundation,
+ * either version 3 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with
+ * this library, see the file LICENSE.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package mhahnFr.utils.json;
+
+import java.io.IOException;
+import java.lang.reflect.Array;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * This class parses a JSON array of values of the same class in parallel.
+ * <p>
+ * The boundaries of the elements are found in a cheap pre-scan, which
+ * only tracks the nesting of the containers and the strings. The elements
+ * are then bound using fork/join: the range of the elements is split in
+ * halves until a range spans no more than the set chunk size. The bound
+ * objects are assembled in the order of the elements.
+ * <p>
+ * The data is expected to be encoded in UTF-8. Files are read directly
+ * from a memory mapping.
+ *
+ * @param <T> the type of the bound objects
+ * @author mhahnFr
+ * @since 16.10.26
+ */
+public class JSONArrayParser<T> {
+    /** The default number of bytes per chunk.                        */
+    public static final int DEFAULT_CHUNK_SIZE = 1 << 16;
+
+    /** The class the elements are bound to.                          */
+    private final Class<T> type;
+    /** The pool binding the elements.                                */
+    private ForkJoinPool pool = ForkJoinPool.commonPool();
+    /** The maximal number of bytes bound by a single task.           */
+    private int chunkSize = DEFAULT_CHUNK_SIZE;
+    /** Indicates whether to use generated codecs.                    */
+    private boolean generatingCodecs = false;
+    /** Indicates whether to skip unknown fields.                     */
+    private boolean ignoringUnknownFields = false;
+
+    /**
+     * Constructs this parser binding the elements to the given class.
+     *
+     * @param type the class of the bound objects
+     * @throws IllegalArgumentException if the given class is primitive
+     */
+    public JSONArrayParser(final Class<T> type) {
+        if (type.isPrimitive()) throw new IllegalArgumentException("The element class must not be primitive!");
+
+        this.type = type;
+    }
+
+    /**
+     * This class represents the elements of a JSON array found by the
+     * pre-scan. The element at index {@code i} lies between the delimiters
+     * at the indices {@code i} and {@code i + 1}.
+     *
+     * @author mhahnFr
+     * @since 16.10.26
+     */
+    private static final class Elements {
+        /** The positions of the opening bracket, the commas and the closing bracket. */
+        private int[] delimiters = new int[1024];
+        /** The number of found delimiters.                                           */
+        private int count;
+
+        /**
+         * Adds the position of a delimiter.
+         *
+         * @param position the position of the delimiter
+         */
+        private void add(final int position) {
+            if (count == delimiters.length) {
+                delimiters = Arrays.copyOf(delimiters, count * 2);
+            }
+            delimiters[count++] = position;
+        }
+
+        /**
+         * Returns the number of found elements.
+         *
+         * @return the number of elements
+         */
+        private int size() {
+            return count - 1;
+        }
+
+        /**
+         * Returns the position of the first byte of the given element.
+         *
+         * @param index the index of the element
+         * @return the position where the element begins
+         */
+        private int begin(final int index) {
+            return delimiters[index] + 1;
+        }
+
+        /**
+         * Returns the position after the last byte of the given element.
+         *
+         * @param index the index of the element
+         * @return the position where the element ends
+         */
+        private int end(final int index) {
+            return delimiters[index + 1];
+        }
+    }
+
+    /**
+     * This class binds a range of the elements. Ranges spanning more
+     * bytes than the chunk size are split in halves.
+     *
+     * @author mhahnFr
+     * @since 16.10.26
+     */
+    @SuppressWarnings("serial")
+    private final class Task extends RecursiveAction {
+        /** The data containing the array.            */
+        private final ByteBuffer data;
+        /** The boundaries of the elements.           */
+        private final Elements elements;
+        /** The array receiving the bound objects.    */
+        private final T[] values;
+        /** The index of the first element to bind.   */
+        private final int from;
+        /** The index after the last element to bind. */
+        private final int to;
+
+        /**
+         * Constructs this task.
+         *
+         * @param data the data containing the array
+         * @param elements the boundaries of the elements
+         * @param values the array receiving the bound objects
+         * @param from the index of the first element to bind
+         * @param to the index after the last element to bind
+         */
+        private Task(final ByteBuffer data, final Elements elements, final T[] values, final int from, final int to) {
+            this.data     = data;
+            this.elements = elements;
+            this.values   = values;
+            this.from     = from;
+            this.to       = to;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from > 1 && elements.end(to - 1) - elements.begin(from) > chunkSize) {
+                final var middle = (from + to) >>> 1;
+                invokeAll(new Task(data, elements, values, from, middle),
+                          new Task(data, elements, values, middle, to));
+                return;
+            }
+            try {
+                bind(data, elements, values, from, to);
+            } catch (JSONParseException | ReflectiveOperationException e) {
+                throw new CompletionException(e);
+            }
+        }
+    }
+
+    /**
+     * Binds the given range of the elements. The elements are read using
+     * a single parser over the bytes of the range.
+     *
+     * @param data the data containing the array
+     * @param elements the boundaries of the elements
+     * @param values the array receiving the bound objects
+     * @param from the index of the first element to bind
+     * @param to the index after the last element to bind
+     * @throws JSONParseException if the JSON data is malformed
+     * @throws ReflectiveOperationException if an object could not be filled with the values
+     */
+    private void bind(final ByteBuffer data,
+                      final Elements   elements,
+                      final T[]        values,
+                      final int        from,
+                      final int        to) throws JSONParseException, ReflectiveOperationException {
+        final var begin  = elements.begin(from);
+        final var parser = new JSONParser(data.slice(begin, elements.end(to - 1) - begin));
+        parser.setGeneratingCodecs(generatingCodecs);
+        parser.setIgnoringUnknownFields(ignoringUnknownFields);
+
+        final var reader = parser.getReader();
+        reader.beginElements();
+        for (int i = from; i < to; ++i) {
+            values[i] = parser.readValue(type);
+        }
+        reader.endElements();
+    }
+
+    /**
+     * Creates an exception with the given message pointing to the given
+     * position in the data.
+     *
+     * @param data the data
+     * @param position the position of the error
+     * @param message the error message
+     * @return the created exception
+     */
+    private static JSONParseException error(final ByteBuffer data, final int position, final String message) {
+        return new JSONParseException(message, new JSONReader(data).createPosition(position));
+    }
+
+    /**
+     * Returns whether the given byte is a JSON whitespace.
+     *
+     * @param b the byte to be checked
+     * @return whether the byte is a whitespace
+     */
+    private static boolean isWhitespace(final byte b) {
+        return b == ' ' || b == '\n' || b == '\r' || b == '\t';
+    }
+
+    /**
+     * Finds the boundaries of the elements of the array in the given data.
+     * Only the nesting of the containers and the strings is tracked; the
+     * elements themselves are validated when they are bound.
+     *
+     * @param data the data containing the array
+     * @return the found boundaries
+     * @throws JSONParseException if the data does not consist of a single array
+     */
+    private static Elements scan(final ByteBuffer data) throws JSONParseException {
+        final var limit = data.limit();
+
+        var i = 0;
+        while (i < limit && isWhitespace(data.get(i))) ++i;
+        if (i == limit || data.get(i) != '[') throw error(data, i, "Expected \"[\"!");
+
+        final var elements = new Elements();
+        elements.add(i++);
+
+        var depth = 1;
+        while (depth > 0) {
+            if (i == limit) throw error(data, i, "Unexpected end of data!");
+
+            switch (data.get(i)) {
+                case '"' -> {
+                    for (++i; i < limit && data.get(i) != '"'; ++i) {
+                        if (data.get(i) == '\\') ++i;
+                    }
+                    if (i >= limit) throw error(data, limit, "Unterminated string!");
+                }
+                case '[', '{' -> ++depth;
+                case ']', '}' -> {
+                    if (--depth == 0) {
+                        if (data.get(i) != ']') throw error(data, i, "Expected \",\" or \"]\"!");
+                        elements.add(i);
+                    }
+                }
+                case ',' -> {
+                    if (depth == 1) elements.add(i);
+                }
+                default -> {}
+            }
+            ++i;
+        }
+        for (; i < limit; ++i) {
+            if (!isWhitespace(data.get(i))) throw error(data, i, "Expected the end of the data!");
+        }
+
+        if (elements.size() == 1) {
+            var empty = true;
+            for (int j = elements.begin(0); empty && j < elements.end(0); ++j) {
+                empty = isWhitespace(data.get(j));
+            }
+            if (empty) elements.count = 1;
+        }
+        return elements;
+    }
+
+    /**
+     * Reads the elements of the array contained in the remaining UTF-8
+     * encoded bytes of the given buffer. The bytes are not copied and
+     * must not be changed while they are read.
+     *
+     * @param buffer the buffer containing the JSON array
+     * @return the bound objects in the order of the elements
+     * @throws JSONParseException if the JSON data is malformed
+     * @throws ReflectiveOperationException if an object could not be filled with the values
+     */
+    public T[] readArray(final ByteBuffer buffer) throws JSONParseException, ReflectiveOperationException {
+        final var data     = buffer.slice();
+        final var elements = scan(data);
+
+        @SuppressWarnings("unchecked")
+        final var values = (T[]) Array.newInstance(type, elements.size());
+        if (values.length == 0) return values;
+
+        try {
+            pool.invoke(new Task(data, elements, values, 0, values.length));
+        } catch (CompletionException e) {
+            var cause = e.getCause();
+            while (cause instanceof CompletionException) cause = cause.getCause();
+
+            if (cause instanceof JSONParseException parseException) throw parseException;
+            if (cause instanceof ReflectiveOperationException reflectiveException) throw reflectiveException;
+            throw e;
+        }
+        return values;
+    }
+
+    /**
+     * Reads the elements of the array contained in the given UTF-8
+     * encoded data.
+     *
+     * @param bytes the JSON data
+     * @return the bound objects in the order of the elements
+     * @throws JSONParseException if the JSON data is malformed
+     * @throws ReflectiveOperationException if an object could not be filled with the values
+     */
+    public T[] readArray(final byte[] bytes) throws JSONParseException, ReflectiveOperationException {
+        return readArray(ByteBuffer.wrap(bytes));
+    }
+
+    /**
+     * Reads the elements of the array contained in the UTF-8 encoded
+     * file at the given path. The file is mapped into memory as a whole.
+     *
+     * @param path the path of the JSON file
+     * @return the bound objects in the order of the elements
+     * @throws IOException if the file cannot be read or exceeds the maximal mapping size
+     * @throws JSONParseException if the JSON data is malformed
+     * @throws ReflectiveOperationException if an object could not be filled with the values
+     */
+    public T[] readArray(final Path path) throws IOException, JSONParseException, ReflectiveOperationException {
+        try (final var channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            final var size = channel.size();
+            if (size > Integer.MAX_VALUE) {
+                throw new IOException("The file exceeds the maximal mapping size!");
+            }
+            return readArray(channel.map(FileChannel.MapMode.READ_ONLY, 0, size));
+        }
+    }
+
+    /**
+     * Reads the elements of the array contained in the remaining UTF-8
+     * encoded bytes of the given buffer into a list.
+     *
+     * @param buffer the buffer containing the JSON array
+     * @return the bound objects in the order of the elements
+     * @throws JSONParseException if the JSON data is malformed
+     * @throws ReflectiveOperationException if an object could not be filled with the values
+     * @see #readArray(ByteBuffer)
+     */
+    public List<T> readList(final ByteBuffer buffer) throws JSONParseException, ReflectiveOperationException {
+        return new ArrayList<>(Arrays.asList(readArray(buffer)));
+    }
+
+    /**
+     * Reads the elements of the array contained in the given UTF-8
+     * encoded data into a list.
+     *
+     * @param bytes the JSON data
+     * @return the bound objects in the order of the elements
+     * @throws JSONParseException if the JSON data is malformed
+     * @throws ReflectiveOperationException if an object could not be filled with the values
+     * @see #readArray(byte[])
+     */
+    public List<T> readList(final byte[] bytes) throws JSONParseException, ReflectiveOperationException {
+        return new ArrayList<>(Arrays.asList(readArray(bytes)));
+    }
+
+    /**
+     * Reads the elements of the array contained in the UTF-8 encoded
+     * file at the given path into a list.
+     *
+     * @param path the path of the JSON file
+     * @return the bound objects in the order of the elements
+     * @throws IOException if the file cannot be read or exceeds the maximal mapping size
+     * @throws JSONParseException if the JSON data is malformed
+     * @throws ReflectiveOperationException if an object could not be filled with the values
+     * @see #readArray(Path)
+     */
+    public List<T> readList(final Path path) throws IOException, JSONParseException, ReflectiveOperationException {
+        return new ArrayList<>(Arrays.asList(readArray(path)));
+    }
+
+    /**
+     * Returns the pool used to bind the elements.
+     *
+     * @return the used pool
+     */
+    public ForkJoinPool getPool() {
+        return pool;
+    }
+
+    /**
+     * Sets the pool used to bind the elements. Defaults to the
+     * {@link ForkJoinPool#commonPool() common pool}.
+     *
+     * @param pool the pool to be used
+     * @throws NullPointerException if no pool is given
+     */
+    public void setPool(ForkJoinPool pool) {
+        if (pool == null) throw new NullPointerException("The pool must not be null!");
+
+        this.pool = pool;
+    }
+
+    /**
+     * Returns the maximal number of bytes bound by a single task.
+     *
+     * @return the chunk size
+     */
+    public int getChunkSize() {
+        return chunkSize;
+    }
+
+    /**
+     * Sets the maximal number of bytes bound by a single task. A task
+     * binds at least one element, regardless of its size.
+     *
+     * @param chunkSize the chunk size
+     * @throws IllegalArgumentException if the chunk size is not positive
+     */
+    public void setChunkSize(int chunkSize) {
+        if (chunkSize <= 0) throw new IllegalArgumentException("The chunk size must be positive!");
+
+        this.chunkSize = chunkSize;
+    }
+
+    /**
+     * Returns whether codecs are generated for the read classes.
+     *
+     * @return whether generated codecs are used
+     */
+    public boolean isGeneratingCodecs() {
+        return generatingCodecs;
+    }
+
+    /**
+     * Sets whether to generate specialized codecs for the read classes.
+     *
+     * @param generatingCodecs whether to use generated codecs
+     * @see JSONParser#setGeneratingCodecs(boolean)
+     */
+    public void setGeneratingCodecs(boolean generatingCodecs) {
+        this.generatingCodecs = generatingCodecs;
+    }
+
+    /**
+     * Returns whether the values of unknown fields are skipped.
+     *
+     * @return whether unknown fields are ignored
+     */
+    public boolean isIgnoringUnknownFields() {
+        return ignoringUnknownFields;
+    }
+
+    /**
+     * Sets whether to skip the values of unknown fields.
+     *
+     * @param ignoringUnknownFields whether to ignore unknown fields
+     * @see JSONParser#setIgnoringUnknownFields(boolean)
+     */
+    public void setIgnoringUnknownFields(boolean ignoringUnknownFields) {
+        this.ignoringUnknownFields = ignoringUnknownFields;
+    }
+}
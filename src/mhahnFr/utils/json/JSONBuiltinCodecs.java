@@ -0,0 +1,352 @@
+/*
+ * JUtilities - Some utilities written for Java.
+ *
+ * Copyright (C) 2026  mhahnFr
+ *
+ * This file is part of the JUtilities. This library is free software:
+ * you can redistribute it and/or modify it under the terms of the
+ * GNU General Public License as published by the Free Software Foundation,
+ * either version 3 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with
+ * this library, see the file LICENSE.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package mhahnFr.utils.json;
+
+import java.io.IOException;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.math.BigDecimal;
+import java.time.DateTimeException;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * This class holds the {@link JSONCodec}s built in for common classes
+ * of the JDK. The textual values are decoded directly from the buffer
+ * of the reader; the common formats are parsed by hand, other formats
+ * fall back to the parsers of the JDK.
+ *
+ * @author mhahnFr
+ * @since 16.10.26
+ */
+final class JSONBuiltinCodecs {
+    /** The built-in codecs. */
+    static final List<JSONCodec<?>> CODECS = List.of(new UUIDCodec(),
+                                                     new InstantCodec(),
+                                                     new LocalDateCodec(),
+                                                     new BigDecimalCodec(),
+                                                     new OptionalCodec());
+
+    private JSONBuiltinCodecs() {}
+
+    /**
+     * Returns the value of the given decimal digit.
+     *
+     * @param c the digit
+     * @return the value of the digit or {@code -1} if the character is no digit
+     */
+    private static int digit(final char c) {
+        return c >= '0' && c <= '9' ? c - '0' : -1;
+    }
+
+    /**
+     * Parses the decimal number of the given range of characters.
+     *
+     * @param chars the characters
+     * @param start the index of the first digit
+     * @param end the index after the last digit
+     * @return the parsed number or {@code -1} if the range contains other characters
+     */
+    private static int decimal(final CharSequence chars, final int start, final int end) {
+        var value = 0;
+        for (int i = start; i < end; ++i) {
+            final var digit = digit(chars.charAt(i));
+            if (digit < 0) return -1;
+
+            value = value * 10 + digit;
+        }
+        return value;
+    }
+
+    /**
+     * Parses a date in the form {@code yyyy-MM-dd} at the beginning of the
+     * given characters.
+     *
+     * @param chars the characters
+     * @return the parsed date or {@code null} if the characters are not in the expected form
+     * @throws DateTimeException if the date does not exist
+     */
+    private static LocalDate parseDate(final CharSequence chars) {
+        if (chars.length() < 10 || chars.charAt(4) != '-' || chars.charAt(7) != '-') return null;
+
+        final var year  = decimal(chars, 0, 4);
+        final var month = decimal(chars, 5, 7);
+        final var day   = decimal(chars, 8, 10);
+        if (year < 0 || month < 0 || day < 0) return null;
+
+        return LocalDate.of(year, month, day);
+    }
+
+    /**
+     * Creates an exception for the value starting at the given index.
+     *
+     * @param reader the reader the value was read by
+     * @param message the message of the exception
+     * @param start the index of the value in the input
+     * @return the created exception
+     */
+    private static JSONParseException error(final JSONReader reader, final String message, final long start) {
+        return new JSONParseException(message, reader.createPosition(start));
+    }
+
+    /**
+     * This class reads and writes {@link UUID}s as strings in their
+     * canonical form.
+     *
+     * @author mhahnFr
+     * @since 16.10.26
+     */
+    private static final class UUIDCodec implements JSONCodec<UUID> {
+        @Override
+        public Class<UUID> getType() {
+            return UUID.class;
+        }
+
+        /**
+         * Parses the hexadecimal number of the given range of at most
+         * twelve characters.
+         *
+         * @param chars the characters
+         * @param start the index of the first digit
+         * @param end the index after the last digit
+         * @return the parsed number or {@code -1} if the range contains other characters
+         */
+        private static long hex(final CharSequence chars, final int start, final int end) {
+            var value = 0L;
+            for (int i = start; i < end; ++i) {
+                final var c = chars.charAt(i);
+
+                final int digit;
+                if      (c >= '0' && c <= '9') digit = c - '0';
+                else if (c >= 'a' && c <= 'f') digit = c - 'a' + 10;
+                else if (c >= 'A' && c <= 'F') digit = c - 'A' + 10;
+                else                           return -1;
+
+                value = (value << 4) | digit;
+            }
+            return value;
+        }
+
+        @Override
+        public UUID read(final JSONParser parser, final Type type) throws JSONParseException {
+            final var reader = parser.getReader();
+            reader.peek();
+            final var start = reader.getTokenStart();
+            final var chars = reader.nextStringText();
+
+            if (chars.length() == 36 && chars.charAt(8) == '-' && chars.charAt(13) == '-' &&
+                chars.charAt(18) == '-' && chars.charAt(23) == '-') {
+                final var time     = hex(chars, 0, 8);
+                final var middle   = hex(chars, 9, 13);
+                final var version  = hex(chars, 14, 18);
+                final var sequence = hex(chars, 19, 23);
+                final var node     = hex(chars, 24, 36);
+                if ((time | middle | version | sequence | node) >= 0) {
+                    return new UUID(time << 32 | middle << 16 | version, sequence << 48 | node);
+                }
+            }
+            throw error(reader, "Expected a UUID!", start);
+        }
+
+        @Override
+        public void write(final JSONWriter writer, final UUID value) throws IOException {
+            writer.writeStringValue(value.toString());
+        }
+    }
+
+    /**
+     * This class reads and writes {@link Instant}s as strings in the
+     * ISO-8601 format. Instants in the form {@code yyyy-MM-ddTHH:mm:ssZ}
+     * with an optional fraction of the second are parsed by hand.
+     *
+     * @author mhahnFr
+     * @since 16.10.26
+     */
+    private static final class InstantCodec implements JSONCodec<Instant> {
+        @Override
+        public Class<Instant> getType() {
+            return Instant.class;
+        }
+
+        /**
+         * Parses the given characters in the form {@code yyyy-MM-ddTHH:mm:ssZ}
+         * with an optional fraction of the second.
+         *
+         * @param chars the characters
+         * @return the parsed instant or {@code null} if the characters are not in the expected form
+         * @throws DateTimeException if the date does not exist
+         */
+        private static Instant parse(final CharSequence chars) {
+            final var length = chars.length();
+            if (length < 20 || chars.charAt(10) != 'T' || chars.charAt(13) != ':' ||
+                chars.charAt(16) != ':' || chars.charAt(length - 1) != 'Z') {
+                return null;
+            }
+
+            final var hour   = decimal(chars, 11, 13);
+            final var minute = decimal(chars, 14, 16);
+            final var second = decimal(chars, 17, 19);
+            if (hour < 0 || hour > 23 || minute < 0 || minute > 59 || second < 0 || second > 59) return null;
+
+            var nanos = 0;
+            if (length > 20) {
+                final var digits = length - 21;
+                if (chars.charAt(19) != '.' || digits < 1 || digits > 9) return null;
+
+                nanos = decimal(chars, 20, length - 1);
+                if (nanos < 0) return null;
+                for (int i = digits; i < 9; ++i) {
+                    nanos *= 10;
+                }
+            }
+
+            final var date = parseDate(chars);
+            if (date == null) return null;
+
+            return Instant.ofEpochSecond(date.toEpochDay() * 86400 + hour * 3600 + minute * 60 + second, nanos);
+        }
+
+        @Override
+        public Instant read(final JSONParser parser, final Type type) throws JSONParseException {
+            final var reader = parser.getReader();
+            reader.peek();
+            final var start = reader.getTokenStart();
+            final var chars = reader.nextStringText();
+            try {
+                final var toReturn = parse(chars);
+                return toReturn != null ? toReturn : DateTimeFormatter.ISO_INSTANT.parse(chars, Instant::from);
+            } catch (DateTimeException __) {
+                throw error(reader, "Expected an instant!", start);
+            }
+        }
+
+        @Override
+        public void write(final JSONWriter writer, final Instant value) throws IOException {
+            writer.writeStringValue(value.toString());
+        }
+    }
+
+    /**
+     * This class reads and writes {@link LocalDate}s as strings in the
+     * ISO-8601 format. Dates in the form {@code yyyy-MM-dd} are parsed
+     * by hand.
+     *
+     * @author mhahnFr
+     * @since 16.10.26
+     */
+    private static final class LocalDateCodec implements JSONCodec<LocalDate> {
+        @Override
+        public Class<LocalDate> getType() {
+            return LocalDate.class;
+        }
+
+        @Override
+        public LocalDate read(final JSONParser parser, final Type type) throws JSONParseException {
+            final var reader = parser.getReader();
+            reader.peek();
+            final var start = reader.getTokenStart();
+            final var chars = reader.nextStringText();
+            try {
+                final var toReturn = chars.length() == 10 ? parseDate(chars) : null;
+                return toReturn != null ? toReturn : LocalDate.parse(chars);
+            } catch (DateTimeException __) {
+                throw error(reader, "Expected a date!", start);
+            }
+        }
+
+        @Override
+        public void write(final JSONWriter writer, final LocalDate value) throws IOException {
+            writer.writeStringValue(value.toString());
+        }
+    }
+
+    /**
+     * This class reads and writes {@link BigDecimal}s as numbers without
+     * loss of precision. Quoted numbers are read as well.
+     *
+     * @author mhahnFr
+     * @since 16.10.26
+     */
+    private static final class BigDecimalCodec implements JSONCodec<BigDecimal> {
+        @Override
+        public Class<BigDecimal> getType() {
+            return BigDecimal.class;
+        }
+
+        @Override
+        public BigDecimal read(final JSONParser parser, final Type type) throws JSONParseException {
+            final var reader = parser.getReader();
+            reader.peek();
+            final var start = reader.getTokenStart();
+            final var chars = reader.nextNumberText();
+
+            final var digits = new char[chars.length()];
+            for (int i = 0; i < digits.length; ++i) {
+                digits[i] = chars.charAt(i);
+            }
+            try {
+                return new BigDecimal(digits);
+            } catch (NumberFormatException __) {
+                throw error(reader, "Expected a number!", start);
+            }
+        }
+
+        @Override
+        public void write(final JSONWriter writer, final BigDecimal value) throws IOException {
+            writer.writeNumberValue(value);
+        }
+    }
+
+    /**
+     * This class reads and writes {@link Optional}s as their contained
+     * value or {@code null} if they are empty.
+     *
+     * @author mhahnFr
+     * @since 16.10.26
+     */
+    @SuppressWarnings("rawtypes")
+    private static final class OptionalCodec implements JSONCodec<Optional> {
+        @Override
+        public Class<Optional> getType() {
+            return Optional.class;
+        }
+
+        @Override
+        public Optional read(final JSONParser parser, final Type type) throws ReflectiveOperationException, JSONParseException {
+            final var argument = type instanceof ParameterizedType parameterized ? parameterized.getActualTypeArguments()[0]
+                                                                                 : Object.class;
+            return Optional.ofNullable(parser.readValue(argument));
+        }
+
+        @Override
+        public void write(final JSONWriter writer, final Optional value) throws IOException, IllegalAccessException {
+            writer.writeValue(value.isPresent() ? value.get() : null);
+        }
+
+        @Override
+        public Optional nullValue() {
+            return Optional.empty();
+        }
+    }
+}
@@ -0,0 +1,406 @@
+/*
+ * JUtilities - Some utilities written for Java.
+ *
+ * Copyright (C) 2026  mhahnFr
+ *
+ * This file is part of the JUtilities. This library is free software:
+ * you can redistribute it and/or modify it under the terms of the
+ * GNU General Public License as published by the Free Software Foundation,
+ * either version 3 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with
+ * this library, see the file LICENSE.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package mhahnFr.utils.json;
+
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.util.*;
+
+/**
+ * This class holds the metadata of a class needed to read and write
+ * its instances as JSON. The metadata is resolved once per class and
+ * shared by all {@link JSONParser}s and {@link JSONWriter}s.
+ *
+ * @author mhahnFr
+ * @since 16.10.26
+ */
+final class JSONClassInfo {
+    /** The registry of the already resolved classes. */
+    private static final ClassValue<JSONClassInfo> registry = new ClassValue<>() {
+        @Override
+        protected JSONClassInfo computeValue(final Class<?> type) {
+            return new JSONClassInfo(type);
+        }
+    };
+
+    /** The described class.                                          */
+    private final Class<?> type;
+    /** The description of the class as type.                         */
+    private final JSONTypeInfo typeInfo;
+    /** The codec registered for the class, {@code null} if none.     */
+    private final JSONObjectCodec<Object> registeredCodec;
+    /** The value codec of the class, {@code null} if none.           */
+    private final JSONCodec<Object> valueCodec;
+    /** The public default constructor, {@code null} if not present.  */
+    private final Constructor<?> constructor;
+    /** The fields that can be read, mapped to their names.           */
+    private final Map<String, JSONFieldInfo> fields;
+    /** The perfect hash table of the fields that can be read.        */
+    private final JSONFieldTable fieldTable;
+    /** The fields that are written.                                  */
+    private final JSONFieldInfo[] serializableFields;
+    /** The enum constants mapped to their names.                     */
+    private final Map<String, Object> enumConstants;
+    /** Whether instances can be written as primitives.               */
+    private final boolean direct;
+    /** Whether the class is a map.                                   */
+    private final boolean map;
+    /** Whether the class is a collection.                            */
+    private final boolean collection;
+    /** The generated codec, {@code null} if none can be generated.   */
+    private volatile JSONGeneratedCodec codec;
+    /** Whether the generation of the codec has been attempted.       */
+    private volatile boolean codecGenerated;
+
+    /**
+     * Constructs the metadata of the given class.
+     *
+     * @param type the class to be described
+     */
+    private JSONClassInfo(final Class<?> type) {
+        this.type            = type;
+        this.typeInfo        = new JSONTypeInfo(type);
+        this.registeredCodec = JSONCodecRegistry.get(type);
+        this.valueCodec      = JSONCodecRegistry.getValueCodec(type);
+
+        Constructor<?> constructor;
+        try {
+            constructor = type.getConstructor();
+        } catch (NoSuchMethodException | SecurityException __) {
+            constructor = null;
+        }
+        this.constructor = constructor;
+
+        final var infos = new HashMap<Field, JSONFieldInfo>();
+        fields             = resolveFields(infos);
+        serializableFields = resolveSerializableFields(infos);
+        fieldTable         = resolveFieldTable();
+
+        final var constants = new HashMap<String, Object>();
+        if (type.getEnumConstants() != null) {
+            for (final var constant : type.getEnumConstants()) {
+                constants.put(((Enum<?>) constant).name(), constant);
+            }
+        }
+        enumConstants = constants;
+
+        direct = type.isPrimitive()            ||
+                 type.equals(Boolean.class)    ||
+                 type.equals(Byte.class)       ||
+                 type.equals(Short.class)      ||
+                 type.equals(Integer.class)    ||
+                 type.equals(Long.class)       ||
+                 type.equals(Float.class)      ||
+                 type.equals(Double.class)     ||
+                 type.equals(Character.class)  ||
+                 type.equals(String.class)     ||
+                 Enum.class.isAssignableFrom(type);
+        map        = Map.class.isAssignableFrom(type);
+        collection = Collection.class.isAssignableFrom(type);
+    }
+
+    /**
+     * Returns the field information for the given field, creating it
+     * if not already done.
+     *
+     * @param infos the already created field information
+     * @param field the field whose information to return
+     * @return the information about the given field
+     */
+    private static JSONFieldInfo infoOf(final Map<Field, JSONFieldInfo> infos, final Field field) {
+        return infos.computeIfAbsent(field, JSONFieldInfo::new);
+    }
+
+    /**
+     * Resolves the fields that can be read. Public fields, including
+     * the inherited ones, take precedence over the declared fields.
+     *
+     * @param infos the already created field information
+     * @return the fields mapped to their names
+     */
+    private Map<String, JSONFieldInfo> resolveFields(final Map<Field, JSONFieldInfo> infos) {
+        final var toReturn = new HashMap<String, JSONFieldInfo>();
+
+        for (final var field : type.getDeclaredFields()) {
+            toReturn.put(field.getName(), infoOf(infos, field));
+        }
+        for (final var field : type.getFields()) {
+            if (toReturn.containsKey(field.getName())) continue;
+
+            toReturn.put(field.getName(), infoOf(infos, field));
+        }
+        for (final var name : toReturn.keySet()) {
+            try {
+                toReturn.put(name, infoOf(infos, type.getField(name)));
+            } catch (NoSuchFieldException __) {
+                // Not public, the declared field is used.
+            }
+        }
+        return Map.copyOf(toReturn);
+    }
+
+    /**
+     * Resolves the perfect hash table of the fields that can be read.
+     * The fields are ordered as they are written, followed by the fields
+     * that can only be read.
+     *
+     * @return the table of the fields
+     */
+    private JSONFieldTable resolveFieldTable() {
+        final var names = new LinkedHashSet<String>();
+        for (final var field : serializableFields) {
+            if (fields.containsKey(field.getName())) names.add(field.getName());
+        }
+        names.addAll(fields.keySet());
+
+        final var ordered = names.toArray(new String[0]);
+        final var infos   = new JSONFieldInfo[ordered.length];
+        for (int i = 0; i < ordered.length; ++i) {
+            infos[i] = fields.get(ordered[i]);
+        }
+        return new JSONFieldTable(ordered, infos);
+    }
+
+    /**
+     * Resolves the fields that are written. These are the accessible
+     * and non-static fields not annotated using {@link JSONNoSerialization}.
+     *
+     * @param infos the already created field information
+     * @return the fields to be written
+     */
+    private JSONFieldInfo[] resolveSerializableFields(final Map<Field, JSONFieldInfo> infos) {
+        final var toReturn = new LinkedHashSet<JSONFieldInfo>();
+
+        for (final var field : type.getDeclaredFields()) {
+            final var info = infoOf(infos, field);
+
+            if (!info.isStatic() && info.isAccessible() && !info.isNoSerialization()) {
+                toReturn.add(info);
+            }
+        }
+        for (final var field : type.getFields()) {
+            final var info = infoOf(infos, field);
+
+            if (!info.isStatic() && !info.isNoSerialization()) {
+                toReturn.add(info);
+            }
+        }
+        return toReturn.toArray(new JSONFieldInfo[0]);
+    }
+
+    /**
+     * Returns the metadata of the given class. It is created on the
+     * first request and shared afterwards.
+     *
+     * @param type the class whose metadata to return
+     * @return the metadata of the given class
+     */
+    static JSONClassInfo of(final Class<?> type) {
+        return registry.get(type);
+    }
+
+    /**
+     * Returns the described class.
+     *
+     * @return the described class
+     */
+    Class<?> getType() {
+        return type;
+    }
+
+    /**
+     * Returns the description of the described class as type.
+     *
+     * @return the type information of the class
+     */
+    JSONTypeInfo getTypeInfo() {
+        return typeInfo;
+    }
+
+    /**
+     * Returns the codec registered for the described class.
+     *
+     * @return the registered codec or {@code null} if none is registered
+     * @see JSONCodecRegistry#get(Class)
+     */
+    JSONObjectCodec<Object> getRegisteredCodec() {
+        return registeredCodec;
+    }
+
+    /**
+     * Returns the value codec registered or built in for the described
+     * class.
+     *
+     * @return the value codec or {@code null} if there is none
+     * @see JSONCodecRegistry#getValueCodec(Class)
+     */
+    JSONCodec<Object> getValueCodec() {
+        return valueCodec;
+    }
+
+    /**
+     * Creates a new instance of the described class. If a codec is
+     * registered for the class, the instance is created by it, otherwise
+     * the public default constructor is used.
+     *
+     * @return the newly created instance
+     * @throws ReflectiveOperationException if the instance cannot be created
+     */
+    Object newInstance() throws ReflectiveOperationException {
+        if (registeredCodec != null) {
+            return registeredCodec.newInstance();
+        }
+        if (constructor == null) {
+            throw new NoSuchMethodException(type.getName() + ".<init>()");
+        }
+        return constructor.newInstance();
+    }
+
+    /**
+     * Returns the field with the given name.
+     *
+     * @param name the name of the requested field
+     * @return the information about the requested field
+     * @throws NoSuchFieldException if the requested field does not exist
+     */
+    JSONFieldInfo getField(final String name) throws NoSuchFieldException {
+        final var toReturn = findField(name);
+        if (toReturn == null) {
+            throw new NoSuchFieldException(name);
+        }
+        return toReturn;
+    }
+
+    /**
+     * Returns the field with the given name if it exists. The name is
+     * looked up in the perfect hash table of the fields, so that no
+     * string needs to be created for it.
+     *
+     * @param name the characters of the name of the requested field
+     * @return the information about the requested field or {@code null} if it does not exist
+     * @see JSONFieldTable#get(CharSequence)
+     */
+    JSONFieldInfo findField(final CharSequence name) {
+        return fieldTable.get(name);
+    }
+
+    /**
+     * Returns the perfect hash table of the fields that can be read. The
+     * fields are ordered as they are written.
+     *
+     * @return the table of the readable fields
+     */
+    JSONFieldTable getFieldTable() {
+        return fieldTable;
+    }
+
+    /**
+     * Returns the fields that can be read.
+     *
+     * @return the readable fields
+     */
+    JSONFieldInfo[] getReadableFields() {
+        return fields.values().toArray(new JSONFieldInfo[0]);
+    }
+
+    /**
+     * Returns the codec generated for the described class. The codec
+     * is generated on the first request.
+     *
+     * @return the generated codec or {@code null} if none can be generated
+     * @see JSONCodecGenerator#generate(JSONClassInfo)
+     */
+    JSONGeneratedCodec getCodec() {
+        if (!codecGenerated) {
+            synchronized (this) {
+                if (!codecGenerated) {
+                    codec          = JSONCodecGenerator.generate(this);
+                    codecGenerated = true;
+                }
+            }
+        }
+        return codec;
+    }
+
+    /**
+     * Returns the fields that should be written.
+     *
+     * @return the serializable fields
+     */
+    JSONFieldInfo[] getSerializableFields() {
+        return serializableFields;
+    }
+
+    /**
+     * Returns the enum constant with the given name.
+     *
+     * @param name the name of the enum constant
+     * @return the enum constant or {@code null} if there is none with the given name
+     */
+    Object getEnumConstant(final String name) {
+        return enumConstants.get(name);
+    }
+
+    /**
+     * Returns whether the described class is an enum.
+     *
+     * @return whether the class is an enum
+     */
+    boolean isEnum() {
+        return Enum.class.isAssignableFrom(type);
+    }
+
+    /**
+     * Returns whether instances of the described class can be written
+     * using their {@link Object#toString() toString()} method.
+     *
+     * @return whether instances can be written directly
+     */
+    boolean isDirect() {
+        return direct;
+    }
+
+    /**
+     * Returns whether the described class is a map.
+     *
+     * @return whether the class is a map
+     */
+    boolean isMap() {
+        return map;
+    }
+
+    /**
+     * Returns whether the described class is a collection.
+     *
+     * @return whether the class is a collection
+     */
+    boolean isCollection() {
+        return collection;
+    }
+
+    /**
+     * Returns whether the described class is an array class.
+     *
+     * @return whether the class is an array
+     */
+    boolean isArray() {
+        return type.isArray();
+    }
+}
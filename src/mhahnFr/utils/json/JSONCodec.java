@@ -0,0 +1,81 @@
+/*
+ * JUtilities - Some utilities written for Java.
+ *
+ * Copyright (C) 2026  mhahnFr
+ *
+ * This file is part of the JUtilities. This library is free software:
+ * you can redistribute it and/or modify it under the terms of the
+ * GNU General Public License as published by the Free Software Foundation,
+ * either version 3 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with
+ * this library, see the file LICENSE.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package mhahnFr.utils.json;
+
+import java.io.IOException;
+import java.lang.reflect.Type;
+
+/**
+ * This interface defines a codec reading and writing the values of a
+ * single class as a whole, such as strings or numbers. The codecs are
+ * discovered using the {@link java.util.ServiceLoader} and are resolved
+ * once per class; they are preferred by the {@link JSONParser} and the
+ * {@link JSONWriter} over the reflective handling of objects.
+ * <p>
+ * Codecs for {@link java.util.UUID}, {@link java.time.Instant},
+ * {@link java.time.LocalDate}, {@link java.math.BigDecimal} and
+ * {@link java.util.Optional} are built in; registered codecs take
+ * precedence over them.
+ *
+ * @param <T> the type of the values handled by this codec
+ * @author mhahnFr
+ * @since 16.10.26
+ * @see JSONObjectCodec
+ */
+public interface JSONCodec<T> {
+    /**
+     * Returns the class whose values are handled by this codec.
+     *
+     * @return the handled class
+     */
+    Class<T> getType();
+
+    /**
+     * Reads a value. The value is not {@code null}, {@code null} values
+     * are read by the parser.
+     *
+     * @param parser the parser to read the value with
+     * @param type the generic type of the value to be read
+     * @return the read value
+     * @throws ReflectiveOperationException if a nested object could not be filled with the read values
+     * @throws JSONParseException if the JSON data could not be parsed
+     * @see #nullValue()
+     */
+    T read(JSONParser parser, Type type) throws ReflectiveOperationException, JSONParseException;
+
+    /**
+     * Writes the given value.
+     *
+     * @param writer the writer to write the value with
+     * @param value the value to be written
+     * @throws IOException if an I/O error occurs
+     * @throws IllegalAccessException if a field of a nested object cannot be accessed
+     */
+    void write(JSONWriter writer, T value) throws IOException, IllegalAccessException;
+
+    /**
+     * Returns the value represented by {@code null} in the JSON data.
+     *
+     * @return the value read for {@code null}
+     */
+    default T nullValue() {
+        return null;
+    }
+}
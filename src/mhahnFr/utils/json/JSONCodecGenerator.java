@@ -0,0 +1,720 @@
+/*
+ * JUtilities - Some utilities written for Java.
+ *
+ * Copyright (C) 2026  mhahnFr
+ *
+ * This file is part of the JUtilities. This library is free software:
+ * you can redistribute it and/or modify it under the terms of the
+ * GNU General Public License as published by the Free Software Foundation,
+ * either version 3 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with
+ * this library, see the file LICENSE.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package mhahnFr.utils.json;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.lang.invoke.MethodHandles;
+import java.lang.reflect.Modifier;
+import java.util.*;
+
+/**
+ * This class generates {@link JSONGeneratedCodec}s at runtime. The
+ * generated codecs are hidden classes in this package that access the
+ * public fields of primitive and {@link String} type directly and match
+ * the field names using a {@code switch} over their hash codes. All other
+ * fields are read and written using the reflective path.
+ * <p>
+ * The class files are generated in version 49 so that no stack map
+ * frames need to be computed.
+ *
+ * @author mhahnFr
+ * @since 16.10.26
+ */
+final class JSONCodecGenerator {
+    /** The internal name of the base class of the generated codecs. */
+    private static final String CODEC  = "mhahnFr/utils/json/JSONGeneratedCodec";
+    /** The internal name of the generated classes.                   */
+    private static final String NAME   = CODEC + "$Generated";
+    /** The internal name of the {@link JSONParser}.                  */
+    private static final String PARSER = "mhahnFr/utils/json/JSONParser";
+    /** The internal name of the {@link JSONWriter}.                  */
+    private static final String WRITER = "mhahnFr/utils/json/JSONWriter";
+    /** The descriptor of an array of {@link JSONFieldInfo}s.         */
+    private static final String FIELDS = "[LmhahnFr/utils/json/JSONFieldInfo;";
+
+    private JSONCodecGenerator() {}
+
+    /**
+     * Generates a codec for the given class. If no codec can be generated
+     * for the given class, {@code null} is returned.
+     *
+     * @param info the class information of the class to generate a codec for
+     * @return the generated codec or {@code null}
+     */
+    static JSONGeneratedCodec generate(final JSONClassInfo info) {
+        final var type = info.getType();
+        if (!isVisible(type) || type.isInterface() || info.isDirect() || info.isMap() ||
+            info.isCollection() || info.isArray() || info.getValueCodec() != null) {
+            return null;
+        }
+
+        final var readable = info.getReadableFields();
+        final var writable = info.getSerializableFields();
+        try {
+            final var bytes = generateClass(type, readable, writable);
+            final var codec = MethodHandles.lookup().defineHiddenClass(bytes, true).lookupClass();
+
+            return (JSONGeneratedCodec) codec.getDeclaredConstructor(JSONFieldInfo[].class, JSONFieldInfo[].class)
+                                             .newInstance(readable, writable);
+        } catch (IllegalArgumentException | IOException | ReflectiveOperationException | LinkageError __) {
+            return null;
+        }
+    }
+
+    /**
+     * Returns whether the given class can be referenced by the classes
+     * generated in this package.
+     *
+     * @param type the class to be checked
+     * @return whether generated classes can access the given class
+     */
+    private static boolean isVisible(final Class<?> type) {
+        if (!Modifier.isPublic(type.getModifiers()) || type.isHidden()) return false;
+
+        final var module = type.getModule();
+        if (!module.isExported(type.getPackageName(), JSONCodecGenerator.class.getModule())) return false;
+
+        try {
+            return Class.forName(type.getName(), false, JSONCodecGenerator.class.getClassLoader()) == type;
+        } catch (ClassNotFoundException | LinkageError __) {
+            return false;
+        }
+    }
+
+    /**
+     * Returns whether the given field can be accessed directly by the
+     * generated code. String fields are only written directly; they are
+     * read like by the reflective binding, which accepts {@code null}.
+     *
+     * @param field the field to be checked
+     * @param read whether the field is written by the generated code
+     * @return whether the given field is accessed directly
+     */
+    private static boolean isDirect(final JSONFieldInfo field, final boolean read) {
+        final var f         = field.getField();
+        final var modifiers = f.getModifiers();
+
+        return (field.getPrimitive() != null || !read && f.getType() == String.class) &&
+               Modifier.isPublic(modifiers) && !Modifier.isStatic(modifiers) &&
+               !(read && Modifier.isFinal(modifiers)) && isVisible(f.getDeclaringClass());
+    }
+
+    /**
+     * Returns the field descriptor of the given field.
+     *
+     * @param field the field whose descriptor to return
+     * @return the descriptor of the field
+     */
+    private static String descriptorOf(final JSONFieldInfo field) {
+        final var primitive = field.getPrimitive();
+        if (primitive == null) return "Ljava/lang/String;";
+
+        return switch (primitive) {
+            case BOOLEAN -> "Z";
+            case BYTE    -> "B";
+            case SHORT   -> "S";
+            case CHAR    -> "C";
+            case INT     -> "I";
+            case LONG    -> "J";
+            case FLOAT   -> "F";
+            case DOUBLE  -> "D";
+        };
+    }
+
+    /**
+     * Generates the class file of the codec for the given class.
+     *
+     * @param type the class to generate the codec for
+     * @param readable the fields that can be read
+     * @param writable the fields that are written
+     * @return the bytes of the generated class file
+     * @throws IOException should not happen
+     */
+    private static byte[] generateClass(final Class<?> type,
+                                        final JSONFieldInfo[] readable,
+                                        final JSONFieldInfo[] writable) throws IOException {
+        final var pool   = new ConstantPool();
+        final var target = type.getName().replace('.', '/');
+
+        final var init  = generateConstructor(pool);
+        final var read  = generateRead(pool, target, readable);
+        final var write = generateWrite(pool, target, writable);
+
+        final var thisClass  = pool.classRef(NAME);
+        final var superClass = pool.classRef(CODEC);
+        final var codeName   = pool.utf8("Code");
+        final var methods    = new Object[][] {
+            { "<init>", "(" + FIELDS + FIELDS + ")V",                init  },
+            { "read",   "(L" + PARSER + ";Ljava/lang/Object;)V", read  },
+            { "write",  "(L" + WRITER + ";Ljava/lang/Object;)V", write }
+        };
+        final var methodNames = new int[methods.length];
+        final var methodTypes = new int[methods.length];
+        for (int i = 0; i < methods.length; ++i) {
+            methodNames[i] = pool.utf8((String) methods[i][0]);
+            methodTypes[i] = pool.utf8((String) methods[i][1]);
+        }
+
+        final var bytes = new ByteArrayOutputStream();
+        final var out   = new DataOutputStream(bytes);
+        out.writeInt(0xCAFEBABE);
+        out.writeShort(0);
+        out.writeShort(49);
+        pool.writeTo(out);
+        out.writeShort(0x0030); // ACC_FINAL | ACC_SUPER
+        out.writeShort(thisClass);
+        out.writeShort(superClass);
+        out.writeShort(0);
+        out.writeShort(0);
+        out.writeShort(methods.length);
+        for (int i = 0; i < methods.length; ++i) {
+            out.writeShort(0x0000);
+            out.writeShort(methodNames[i]);
+            out.writeShort(methodTypes[i]);
+            out.writeShort(1);
+            ((Code) methods[i][2]).writeTo(out, codeName);
+        }
+        out.writeShort(0);
+        return bytes.toByteArray();
+    }
+
+    /**
+     * Generates the constructor, which passes the field arrays to the
+     * constructor of the base class.
+     *
+     * @param pool the constant pool
+     * @return the code of the constructor
+     */
+    private static Code generateConstructor(final ConstantPool pool) {
+        final var code = new Code(3, 3);
+        code.op(Code.ALOAD_0);
+        code.op(Code.ALOAD_1);
+        code.op(Code.ALOAD_2);
+        code.op(Code.INVOKESPECIAL, pool.methodRef(CODEC, "<init>", "(" + FIELDS + FIELDS + ")V"));
+        code.op(Code.RETURN);
+        return code;
+    }
+
+    /**
+     * Generates the code loading the field information at the given index.
+     *
+     * @param pool the constant pool
+     * @param code the code to append to
+     * @param fieldName the name of the array of field information in the codec
+     * @param index the index of the field information
+     */
+    private static void loadFieldInfo(final ConstantPool pool, final Code code, final String fieldName, final int index) {
+        code.op(Code.ALOAD_0);
+        code.op(Code.GETFIELD, pool.fieldRef(CODEC, fieldName, FIELDS));
+        code.op(Code.SIPUSH, index);
+        code.op(Code.AALOAD);
+    }
+
+    /**
+     * Generates the method reading the fields of an object.
+     *
+     * @param pool the constant pool
+     * @param target the internal name of the class to be read
+     * @param fields the fields that can be read
+     * @return the code of the generated method
+     */
+    private static Code generateRead(final ConstantPool pool, final String target, final JSONFieldInfo[] fields) {
+        // Locals: 0 = this, 1 = parser, 2 = obj, 3 = obj as target, 4 = name
+        final var code = new Code(6, 5);
+
+        final var end     = new Label();
+        final var loop    = new Label();
+        final var next    = new Label();
+        final var unknown = new Label();
+
+        code.op(Code.ALOAD_2);
+        code.op(Code.CHECKCAST, pool.classRef(target));
+        code.op(Code.ASTORE_3);
+        code.op(Code.ALOAD_1);
+        code.op(Code.INVOKEVIRTUAL, pool.methodRef(PARSER, "hasField", "()Z"));
+        code.jump(Code.IFEQ, end);
+
+        code.bind(loop);
+        code.op(Code.ALOAD_1);
+        code.op(Code.INVOKEVIRTUAL, pool.methodRef(PARSER, "readFieldName", "()Ljava/lang/String;"));
+        code.op(Code.ASTORE, 4);
+        code.op(Code.ALOAD, 4);
+        code.op(Code.INVOKEVIRTUAL, pool.methodRef("java/lang/String", "hashCode", "()I"));
+
+        final var buckets = new TreeMap<Integer, List<Integer>>();
+        for (int i = 0; i < fields.length; ++i) {
+            buckets.computeIfAbsent(fields[i].getName().hashCode(), __ -> new ArrayList<>()).add(i);
+        }
+        final var bucketLabels = new LinkedHashMap<Integer, Label>();
+        for (final var hash : buckets.keySet()) {
+            bucketLabels.put(hash, new Label());
+        }
+        code.lookupSwitch(unknown, bucketLabels);
+
+        final var fieldLabels = new Label[fields.length];
+        for (final var bucket : buckets.entrySet()) {
+            code.bind(bucketLabels.get(bucket.getKey()));
+            for (final var index : bucket.getValue()) {
+                fieldLabels[index] = new Label();
+
+                code.op(Code.ALOAD, 4);
+                code.op(Code.LDC_W, pool.string(fields[index].getName()));
+                code.op(Code.INVOKEVIRTUAL, pool.methodRef("java/lang/String", "equals", "(Ljava/lang/Object;)Z"));
+                code.jump(Code.IFNE, fieldLabels[index]);
+            }
+            code.jump(Code.GOTO, unknown);
+        }
+
+        for (int i = 0; i < fields.length; ++i) {
+            final var field = fields[i];
+            code.bind(fieldLabels[i]);
+
+            if (isDirect(field, true)) {
+                final var descriptor = descriptorOf(field);
+                final var primitive  = field.getPrimitive();
+                final var reader     = switch (primitive) {
+                    case BOOLEAN -> "readBoolean";
+                    case BYTE    -> "readByte";
+                    case SHORT   -> "readShort";
+                    case CHAR    -> "readChar";
+                    case INT     -> "readInt";
+                    case LONG    -> "readLong";
+                    case FLOAT   -> "readFloat";
+                    case DOUBLE  -> "readDouble";
+                };
+                code.op(Code.ALOAD_3);
+                code.op(Code.ALOAD_1);
+                code.op(Code.INVOKEVIRTUAL, pool.methodRef(PARSER, reader, "()" + descriptor));
+                code.op(Code.PUTFIELD, pool.fieldRef(target, field.getName(), descriptor));
+            } else {
+                code.op(Code.ALOAD_1);
+                code.op(Code.ALOAD_2);
+                loadFieldInfo(pool, code, "readableFields", i);
+                code.op(Code.INVOKEVIRTUAL, pool.methodRef(PARSER, "readFieldValue",
+                                                           "(Ljava/lang/Object;LmhahnFr/utils/json/JSONFieldInfo;)V"));
+            }
+            code.jump(Code.GOTO, next);
+        }
+
+        code.bind(unknown);
+        code.op(Code.ALOAD_1);
+        code.op(Code.ALOAD_2);
+        code.op(Code.ALOAD, 4);
+        code.op(Code.INVOKEVIRTUAL, pool.methodRef(PARSER, "readFieldValue", "(Ljava/lang/Object;Ljava/lang/String;)V"));
+
+        code.bind(next);
+        code.op(Code.ALOAD_1);
+        code.op(Code.INVOKEVIRTUAL, pool.methodRef(PARSER, "nextField", "()Z"));
+        code.jump(Code.IFNE, loop);
+
+        code.bind(end);
+        code.op(Code.RETURN);
+        return code;
+    }
+
+    /**
+     * Generates the method writing the fields of an object.
+     *
+     * @param pool the constant pool
+     * @param target the internal name of the class to be written
+     * @param fields the fields to be written
+     * @return the code of the generated method
+     */
+    private static Code generateWrite(final ConstantPool pool, final String target, final JSONFieldInfo[] fields) {
+        // Locals: 0 = this, 1 = writer, 2 = obj, 3 = obj as target
+        final var code = new Code(6, 4);
+
+        code.op(Code.ALOAD_2);
+        code.op(Code.CHECKCAST, pool.classRef(target));
+        code.op(Code.ASTORE_3);
+
+        for (int i = 0; i < fields.length; ++i) {
+            final var field = fields[i];
+
+            if (isDirect(field, false)) {
+                final var descriptor = descriptorOf(field);
+                final var primitive  = field.getPrimitive();
+                final var parameter  = primitive == null ? descriptor : switch (primitive) {
+                    case BYTE, SHORT, INT -> "I";
+                    default               -> descriptor;
+                };
+                code.op(Code.ALOAD_1);
+                code.op(Code.LDC_W, pool.string(field.getName()));
+                code.op(Code.ALOAD_3);
+                code.op(Code.GETFIELD, pool.fieldRef(target, field.getName(), descriptor));
+                code.op(Code.INVOKEVIRTUAL, pool.methodRef(WRITER, "writeField", "(Ljava/lang/String;" + parameter + ")V"));
+            } else {
+                code.op(Code.ALOAD_1);
+                code.op(Code.ALOAD_2);
+                loadFieldInfo(pool, code, "writableFields", i);
+                code.op(Code.INVOKEVIRTUAL, pool.methodRef(WRITER, "writeField",
+                                                           "(Ljava/lang/Object;LmhahnFr/utils/json/JSONFieldInfo;)V"));
+            }
+        }
+        code.op(Code.RETURN);
+        return code;
+    }
+
+    /**
+     * This class builds the constant pool of a class file.
+     *
+     * @author mhahnFr
+     * @since 16.10.26
+     */
+    private static final class ConstantPool {
+        /** The indices of the already added entries.   */
+        private final Map<String, Integer> indices = new HashMap<>();
+        /** The written entries.                          */
+        private final ByteArrayOutputStream bytes  = new ByteArrayOutputStream();
+        /** The stream used to write the entries.         */
+        private final DataOutputStream out         = new DataOutputStream(bytes);
+        /** The next free index.                          */
+        private int next = 1;
+
+        /**
+         * Adds the given entry if not already present.
+         *
+         * @param key the unique key of the entry
+         * @param tag the tag of the entry
+         * @param first the first value
+         * @param second the second value, negative if none
+         * @return the index of the entry
+         */
+        private int add(final String key, final int tag, final int first, final int second) {
+            final var index = indices.get(key);
+            if (index != null) return index;
+
+            try {
+                out.writeByte(tag);
+                out.writeShort(first);
+                if (second >= 0) { out.writeShort(second); }
+            } catch (IOException e) {
+                throw new IllegalStateException(e);
+            }
+            indices.put(key, next);
+            return next++;
+        }
+
+        /**
+         * Adds a UTF-8 entry.
+         *
+         * @param value the string value
+         * @return the index of the entry
+         */
+        int utf8(final String value) {
+            final var key   = "U" + value;
+            final var index = indices.get(key);
+            if (index != null) return index;
+
+            try {
+                out.writeByte(1);
+                out.writeUTF(value);
+            } catch (IOException e) {
+                throw new IllegalArgumentException(e);
+            }
+            indices.put(key, next);
+            return next++;
+        }
+
+        /**
+         * Adds a class reference.
+         *
+         * @param name the internal name of the class
+         * @return the index of the entry
+         */
+        int classRef(final String name) {
+            return add("C" + name, 7, utf8(name), -1);
+        }
+
+        /**
+         * Adds a string constant.
+         *
+         * @param value the value of the string constant
+         * @return the index of the entry
+         */
+        int string(final String value) {
+            return add("S" + value, 8, utf8(value), -1);
+        }
+
+        /**
+         * Adds a name and type entry.
+         *
+         * @param name the name
+         * @param descriptor the type descriptor
+         * @return the index of the entry
+         */
+        private int nameAndType(final String name, final String descriptor) {
+            return add("N" + name + ' ' + descriptor, 12, utf8(name), utf8(descriptor));
+        }
+
+        /**
+         * Adds a field reference.
+         *
+         * @param owner the internal name of the owning class
+         * @param name the name of the field
+         * @param descriptor the type descriptor of the field
+         * @return the index of the entry
+         */
+        int fieldRef(final String owner, final String name, final String descriptor) {
+            return add("F" + owner + ' ' + name + ' ' + descriptor, 9, classRef(owner), nameAndType(name, descriptor));
+        }
+
+        /**
+         * Adds a method reference.
+         *
+         * @param owner the internal name of the owning class
+         * @param name the name of the method
+         * @param descriptor the type descriptor of the method
+         * @return the index of the entry
+         */
+        int methodRef(final String owner, final String name, final String descriptor) {
+            return add("M" + owner + ' ' + name + ' ' + descriptor, 10, classRef(owner), nameAndType(name, descriptor));
+        }
+
+        /**
+         * Writes this constant pool to the given stream.
+         *
+         * @param stream the stream to write to
+         * @throws IOException if an I/O error occurs
+         */
+        void writeTo(final DataOutputStream stream) throws IOException {
+            if (next > 0xFFFF) throw new IllegalArgumentException("Too many constants!");
+
+            stream.writeShort(next);
+            bytes.writeTo(stream);
+        }
+    }
+
+    /**
+     * This class represents a position in the generated code.
+     *
+     * @author mhahnFr
+     * @since 16.10.26
+     */
+    private static final class Label {
+        /** The bound position, negative if not yet bound. */
+        private int position = -1;
+        /** The jumps to this label: opcode position and offset position. */
+        private final List<int[]> jumps = new ArrayList<>();
+    }
+
+    /**
+     * This class builds the code of a single method.
+     *
+     * @author mhahnFr
+     * @since 16.10.26
+     */
+    private static final class Code {
+        // The used opcodes.
+        static final int ALOAD_0       = 0x2A;
+        static final int ALOAD_1       = 0x2B;
+        static final int ALOAD_2       = 0x2C;
+        static final int ALOAD_3       = 0x2D;
+        static final int ALOAD         = 0x19;
+        static final int ASTORE_3      = 0x4E;
+        static final int ASTORE        = 0x3A;
+        static final int AALOAD        = 0x32;
+        static final int SIPUSH        = 0x11;
+        static final int LDC_W         = 0x13;
+        static final int IFEQ          = 0x99;
+        static final int IFNE          = 0x9A;
+        static final int GOTO          = 0xA7;
+        static final int RETURN        = 0xB1;
+        static final int GETFIELD      = 0xB4;
+        static final int PUTFIELD      = 0xB5;
+        static final int INVOKEVIRTUAL = 0xB6;
+        static final int INVOKESPECIAL = 0xB7;
+        static final int CHECKCAST     = 0xC0;
+        static final int LOOKUPSWITCH  = 0xAB;
+
+        /** The maximum depth of the operand stack. */
+        private final int maxStack;
+        /** The number of local variables.          */
+        private final int maxLocals;
+        /** The generated bytes.                    */
+        private byte[] bytes = new byte[256];
+        /** The number of generated bytes.          */
+        private int length;
+        /** The labels used in this code.           */
+        private final Set<Label> labels = new HashSet<>();
+
+        /**
+         * Constructs an empty code block.
+         *
+         * @param maxStack the maximum depth of the operand stack
+         * @param maxLocals the number of local variables
+         */
+        Code(final int maxStack, final int maxLocals) {
+            this.maxStack  = maxStack;
+            this.maxLocals = maxLocals;
+        }
+
+        /**
+         * Appends a single byte.
+         *
+         * @param value the byte to append
+         */
+        private void u1(final int value) {
+            if (length == bytes.length) {
+                bytes = Arrays.copyOf(bytes, bytes.length * 2);
+            }
+            bytes[length++] = (byte) value;
+        }
+
+        /**
+         * Appends two bytes.
+         *
+         * @param value the value to append
+         */
+        private void u2(final int value) {
+            u1(value >> 8);
+            u1(value);
+        }
+
+        /**
+         * Appends four bytes.
+         *
+         * @param value the value to append
+         */
+        private void u4(final int value) {
+            u2(value >> 16);
+            u2(value);
+        }
+
+        /**
+         * Appends the given opcode.
+         *
+         * @param opcode the opcode
+         */
+        void op(final int opcode) {
+            u1(opcode);
+        }
+
+        /**
+         * Appends the given opcode with its operand.
+         *
+         * @param opcode the opcode
+         * @param operand the operand
+         */
+        void op(final int opcode, final int operand) {
+            u1(opcode);
+            if (opcode == ALOAD || opcode == ASTORE) {
+                u1(operand);
+            } else {
+                u2(operand);
+            }
+        }
+
+        /**
+         * Appends a jump to the given label.
+         *
+         * @param opcode the jump instruction
+         * @param label the target of the jump
+         */
+        void jump(final int opcode, final Label label) {
+            final var position = length;
+            u1(opcode);
+            labels.add(label);
+            label.jumps.add(new int[] { position, length, 2 });
+            u2(0);
+        }
+
+        /**
+         * Appends a {@code lookupswitch} instruction.
+         *
+         * @param defaultLabel the default target
+         * @param cases the targets mapped to their keys in ascending order
+         */
+        void lookupSwitch(final Label defaultLabel, final Map<Integer, Label> cases) {
+            final var position = length;
+            u1(LOOKUPSWITCH);
+            while (length % 4 != 0) { u1(0); }
+            labels.add(defaultLabel);
+            labels.addAll(cases.values());
+            defaultLabel.jumps.add(new int[] { position, length, 4 });
+            u4(0);
+            u4(cases.size());
+            for (final var entry : cases.entrySet()) {
+                u4(entry.getKey());
+                entry.getValue().jumps.add(new int[] { position, length, 4 });
+                u4(0);
+            }
+        }
+
+        /**
+         * Binds the given label to the current position.
+         *
+         * @param label the label to be bound
+         */
+        void bind(final Label label) {
+            label.position = length;
+        }
+
+        /**
+         * Resolves the jumps to the given label.
+         *
+         * @param label the label whose jumps to resolve
+         */
+        private void resolve(final Label label) {
+            if (label.position < 0) throw new IllegalStateException("Unbound label!");
+
+            for (final var jump : label.jumps) {
+                final var offset = label.position - jump[0];
+                if (jump[2] == 2) {
+                    if (offset != (short) offset) throw new IllegalArgumentException("Jump too far!");
+
+                    bytes[jump[1]]     = (byte) (offset >> 8);
+                    bytes[jump[1] + 1] = (byte) offset;
+                } else {
+                    bytes[jump[1]]     = (byte) (offset >> 24);
+                    bytes[jump[1] + 1] = (byte) (offset >> 16);
+                    bytes[jump[1] + 2] = (byte) (offset >> 8);
+                    bytes[jump[1] + 3] = (byte) offset;
+                }
+            }
+            label.jumps.clear();
+        }
+
+        /**
+         * Writes this code as {@code Code} attribute.
+         *
+         * @param out the stream to write to
+         * @param name the constant pool index of the attribute name
+         * @throws IOException if an I/O error occurs
+         */
+        void writeTo(final DataOutputStream out, final int name) throws IOException {
+            if (length > 0xFFFF) throw new IllegalArgumentException("Method too large!");
+
+            for (final var label : labels) {
+                resolve(label);
+            }
+            out.writeShort(name);
+            out.writeInt(12 + length);
+            out.writeShort(maxStack);
+            out.writeShort(maxLocals);
+            out.writeInt(length);
+            out.write(bytes, 0, length);
+            out.writeShort(0);
+            out.writeShort(0);
+        }
+    }
+}
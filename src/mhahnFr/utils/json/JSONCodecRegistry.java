@@ -0,0 +1,116 @@
+/*
+ * JUtilities - Some utilities written for Java.
+ *
+ * Copyright (C) 2026  mhahnFr
+ *
+ * This file is part of the JUtilities. This library is free software:
+ * you can redistribute it and/or modify it under the terms of the
+ * GNU General Public License as published by the Free Software Foundation,
+ * either version 3 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with
+ * this library, see the file LICENSE.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package mhahnFr.utils.json;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.ServiceConfigurationError;
+import java.util.ServiceLoader;
+
+/**
+ * This class holds the {@link JSONObjectCodec}s and {@link JSONCodec}s
+ * registered as services. The codecs are loaded once when the registry
+ * is used the first time.
+ *
+ * @author mhahnFr
+ * @since 16.10.26
+ */
+final class JSONCodecRegistry {
+    /** The registered codecs mapped to the class they handle.       */
+    private static final Map<Class<?>, JSONObjectCodec<?>> codecs = loadCodecs();
+    /** The registered value codecs mapped to the class they handle. */
+    private static final Map<Class<?>, JSONCodec<?>> valueCodecs = loadValueCodecs();
+
+    private JSONCodecRegistry() {}
+
+    /**
+     * Loads the codecs registered as services. Codecs that cannot be
+     * loaded are ignored.
+     *
+     * @return the loaded codecs mapped to their handled classes
+     */
+    private static Map<Class<?>, JSONObjectCodec<?>> loadCodecs() {
+        final var toReturn = new HashMap<Class<?>, JSONObjectCodec<?>>();
+
+        final var loader = ServiceLoader.load(JSONObjectCodec.class);
+        final var it     = loader.stream().iterator();
+        while (true) {
+            try {
+                if (!it.hasNext()) break;
+
+                final var codec = it.next().get();
+                toReturn.putIfAbsent(codec.getType(), codec);
+            } catch (ServiceConfigurationError __) {
+                // The broken codec is not used.
+            }
+        }
+        return Map.copyOf(toReturn);
+    }
+
+    /**
+     * Loads the value codecs registered as services, followed by the
+     * built-in value codecs. Codecs that cannot be loaded are ignored.
+     *
+     * @return the loaded value codecs mapped to their handled classes
+     * @see JSONBuiltinCodecs#CODECS
+     */
+    private static Map<Class<?>, JSONCodec<?>> loadValueCodecs() {
+        final var toReturn = new HashMap<Class<?>, JSONCodec<?>>();
+
+        final var loader = ServiceLoader.load(JSONCodec.class);
+        final var it     = loader.stream().iterator();
+        while (true) {
+            try {
+                if (!it.hasNext()) break;
+
+                final var codec = it.next().get();
+                toReturn.putIfAbsent(codec.getType(), codec);
+            } catch (ServiceConfigurationError __) {
+                // The broken codec is not used.
+            }
+        }
+        for (final var codec : JSONBuiltinCodecs.CODECS) {
+            toReturn.putIfAbsent(codec.getType(), codec);
+        }
+        return Map.copyOf(toReturn);
+    }
+
+    /**
+     * Returns the codec registered for the given class.
+     *
+     * @param type the class whose codec to return
+     * @return the registered codec or {@code null} if none is registered
+     */
+    @SuppressWarnings("unchecked")
+    static JSONObjectCodec<Object> get(final Class<?> type) {
+        return (JSONObjectCodec<Object>) codecs.get(type);
+    }
+
+    /**
+     * Returns the value codec registered or built in for the given class.
+     *
+     * @param type the class whose value codec to return
+     * @return the value codec or {@code null} if there is none for the class
+     */
+    @SuppressWarnings("unchecked")
+    static JSONCodec<Object> getValueCodec(final Class<?> type) {
+        return (JSONCodec<Object>) valueCodecs.get(type);
+    }
+}
@@ -0,0 +1,322 @@
+/*
+ * JUtilities - Some utilities written for Java.
+ *
+ * Copyright (C) 2026  mhahnFr
+ *
+ * This file is part of the JUtilities. This library is free software:
+ * you can redistribute it and/or modify it under the terms of the
+ * GNU General Public License as published by the Free Software Foundation,
+ * either version 3 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with
+ * this library, see the file LICENSE.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package mhahnFr.utils.json;
+
+import java.util.Arrays;
+
+/**
+ * This class navigates through the values of a {@link JSONTape}.
+ * The cursor is positioned at a single value, beginning with the root
+ * value of the tape. Objects and arrays are entered using {@link #enter()},
+ * which positions the cursor before their first child. The children are
+ * then visited using {@link #next()}, the container is left again using
+ * {@link #exit()}.
+ * <p>
+ * Moving the cursor does not create any objects; only the strings that
+ * are requested are created.
+ *
+ * @author mhahnFr
+ * @since 16.10.26
+ */
+public final class JSONCursor {
+    /** The tape navigated by this cursor.                           */
+    private final JSONTape tape;
+    /** The indices of the entered containers.                       */
+    private int[] parents = new int[16];
+    /** The number of entered containers.                            */
+    private int depth;
+    /** The index of the current value, {@code -1} if there is none. */
+    private int current;
+    /** The index of the entry following the current value.          */
+    private int next;
+
+    /**
+     * Constructs this cursor positioned at the root of the given tape.
+     *
+     * @param tape the tape to be navigated
+     */
+    JSONCursor(final JSONTape tape) {
+        this.tape = tape;
+    }
+
+    /**
+     * Returns the navigated tape.
+     *
+     * @return the tape
+     */
+    JSONTape getTape() {
+        return tape;
+    }
+
+    /**
+     * Returns the index of the entry of the current value.
+     *
+     * @return the index of the current value
+     * @throws IllegalStateException if the cursor is not positioned at a value
+     */
+    int getIndex() {
+        if (current < 0) throw new IllegalStateException("The cursor is not positioned at a value!");
+
+        return current;
+    }
+
+    /**
+     * Checks that the current value has the given tag.
+     *
+     * @param tag the expected tag
+     * @param expected the expected type used in the error message
+     * @return the index of the current value
+     * @throws IllegalStateException if the current value has another tag
+     */
+    private int expect(final int tag, final JSONValue.Type expected) {
+        final var index = getIndex();
+        if (tape.tag(index) != tag) {
+            throw new IllegalStateException("Expected " + expected + ", but the value is " + tape.type(index) + "!");
+        }
+        return index;
+    }
+
+    /**
+     * Returns the index of the current container.
+     *
+     * @return the index of the entered container
+     * @throws IllegalStateException if no container has been entered
+     */
+    private int parent() {
+        if (depth == 0) throw new IllegalStateException("No object or array has been entered!");
+
+        return parents[depth - 1];
+    }
+
+    /**
+     * Positions this cursor at the root value of the tape again.
+     */
+    public void reset() {
+        depth   = 0;
+        current = 0;
+        next    = 0;
+    }
+
+    /**
+     * Returns the type of the current value.
+     *
+     * @return the type of the current value
+     * @throws IllegalStateException if the cursor is not positioned at a value
+     */
+    public JSONValue.Type getType() {
+        return tape.type(getIndex());
+    }
+
+    /**
+     * Returns whether the current value is {@code null}.
+     *
+     * @return whether the current value is {@code null}
+     * @throws IllegalStateException if the cursor is not positioned at a value
+     */
+    public boolean isNull() {
+        return tape.tag(getIndex()) == JSONTape.NULL;
+    }
+
+    /**
+     * Returns the name of the current value if it is the value of
+     * a field.
+     *
+     * @return the name of the field or {@code null} if the value is not in an object
+     * @throws IllegalStateException if the cursor is not positioned at a value
+     */
+    public String getName() {
+        final var index = getIndex();
+        if (depth == 0 || tape.tag(parent()) != JSONTape.OBJECT) return null;
+
+        return tape.string(index - 2);
+    }
+
+    /**
+     * Returns the number of children of the current object or array.
+     *
+     * @return the number of fields or elements
+     * @throws IllegalStateException if the current value is neither an object nor an array
+     */
+    public int size() {
+        final var index = getIndex();
+        final var tag   = tape.tag(index);
+        if (tag != JSONTape.OBJECT && tag != JSONTape.ARRAY) {
+            throw new IllegalStateException("Expected OBJECT or ARRAY, but the value is " + tape.type(index) + "!");
+        }
+        return (int) tape.word(index);
+    }
+
+    /**
+     * Enters the current object or array. The cursor is positioned
+     * before its first child afterwards.
+     *
+     * @throws IllegalStateException if the current value is neither an object nor an array
+     */
+    public void enter() {
+        size();
+
+        if (depth == parents.length) {
+            parents = Arrays.copyOf(parents, depth * 2);
+        }
+        parents[depth++] = current;
+        next             = current + 2;
+        current          = -1;
+    }
+
+    /**
+     * Moves this cursor to the next child of the entered object or array.
+     *
+     * @return whether there is another child
+     * @throws IllegalStateException if no container has been entered
+     */
+    public boolean next() {
+        final var parent = parent();
+        if (next >= tape.skip(parent)) {
+            current = -1;
+            return false;
+        }
+        if (tape.tag(parent) == JSONTape.OBJECT) {
+            next += 2;
+        }
+        current = next;
+        next    = tape.skip(current);
+        return true;
+    }
+
+    /**
+     * Moves this cursor to the field with the given name of the entered
+     * object. If the name occurs multiple times, the first field is used.
+     * If there is no such field, the cursor is not moved.
+     *
+     * @param name the name of the field
+     * @return whether the field has been found
+     * @throws IllegalStateException if no object has been entered
+     */
+    public boolean find(final String name) {
+        final var parent = parent();
+        if (tape.tag(parent) != JSONTape.OBJECT) {
+            throw new IllegalStateException("Expected OBJECT, but the value is " + tape.type(parent) + "!");
+        }
+        final var end = tape.skip(parent);
+        for (int i = parent + 2; i < end; i = tape.skip(i + 2)) {
+            if (tape.textEquals(i, name)) {
+                current = i + 2;
+                next    = tape.skip(current);
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Leaves the entered object or array. The cursor is positioned at
+     * the left container afterwards.
+     *
+     * @throws IllegalStateException if no container has been entered
+     */
+    public void exit() {
+        current = parent();
+        next    = tape.skip(current);
+        --depth;
+    }
+
+    /**
+     * Returns the current string value.
+     *
+     * @return the string
+     * @throws IllegalStateException if the current value is not a string
+     */
+    public String asString() {
+        return tape.string(expect(JSONTape.STRING, JSONValue.Type.STRING));
+    }
+
+    /**
+     * Returns the current number as {@code long}.
+     *
+     * @return the number
+     * @throws IllegalStateException if the current value is not a number
+     * @throws NumberFormatException if the number is not a {@code long}
+     */
+    public long asLong() {
+        final var index = getIndex();
+        return switch (tape.tag(index)) {
+            case JSONTape.LONG -> tape.word(index);
+            case JSONTape.BIG  -> Long.parseLong(tape.string(index));
+
+            case JSONTape.DOUBLE -> {
+                final var value = Double.longBitsToDouble(tape.word(index));
+                if (value != Math.rint(value) || value < Long.MIN_VALUE || value >= 0x1p63) {
+                    throw new NumberFormatException("Not a long: " + value);
+                }
+                yield (long) value;
+            }
+
+            default -> throw new IllegalStateException("Expected NUMBER, but the value is " + tape.type(index) + "!");
+        };
+    }
+
+    /**
+     * Returns the current number as {@code int}.
+     *
+     * @return the number
+     * @throws IllegalStateException if the current value is not a number
+     * @throws NumberFormatException if the number is not an {@code int}
+     */
+    public int asInt() {
+        final var value = asLong();
+        if (value < Integer.MIN_VALUE || value > Integer.MAX_VALUE) {
+            throw new NumberFormatException("Value out of range. Value:\"" + value + "\"");
+        }
+        return (int) value;
+    }
+
+    /**
+     * Returns the current number as {@code double}.
+     *
+     * @return the number
+     * @throws IllegalStateException if the current value is not a number
+     */
+    public double asDouble() {
+        final var index = getIndex();
+        return switch (tape.tag(index)) {
+            case JSONTape.LONG   -> tape.word(index);
+            case JSONTape.DOUBLE -> Double.longBitsToDouble(tape.word(index));
+            case JSONTape.BIG    -> Double.parseDouble(tape.string(index));
+
+            default -> throw new IllegalStateException("Expected NUMBER, but the value is " + tape.type(index) + "!");
+        };
+    }
+
+    /**
+     * Returns the current boolean value.
+     *
+     * @return the boolean
+     * @throws IllegalStateException if the current value is not a boolean
+     */
+    public boolean asBoolean() {
+        final var index = getIndex();
+        return switch (tape.tag(index)) {
+            case JSONTape.TRUE  -> true;
+            case JSONTape.FALSE -> false;
+
+            default -> throw new IllegalStateException("Expected BOOLEAN, but the value is " + tape.type(index) + "!");
+        };
+    }
+}
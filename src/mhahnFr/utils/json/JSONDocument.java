@@ -0,0 +1,129 @@
+/*
+ * JUtilities - Some utilities written for Java.
+ *
+ * Copyright (C) 2026  mhahnFr
+ *
+ * This file is part of the JUtilities. This library is free software:
+ * you can redistribute it and/or modify it under the terms of the
+ * GNU General Public License as published by the Free Software Foundation,
+ * either version 3 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with
+ * this library, see the file LICENSE.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package mhahnFr.utils.json;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * This class represents a JSON document that is parsed on demand.
+ * When constructed, the document is only checked for its structure
+ * and the spelling of its numbers and literals.
+ * The values are accessed through {@link JSONValue}s, which find the
+ * boundaries of their children the first time they are accessed and
+ * materialize strings and numbers only when requested.
+ * <p>
+ * The data is kept as UTF-8 encoded bytes; byte buffers, including
+ * memory mapped files, are not copied.
+ *
+ * @author mhahnFr
+ * @since 16.10.26
+ */
+public final class JSONDocument {
+    /** The UTF-8 encoded data of this document. */
+    private final ByteBuffer data;
+    /** The value at the root of this document.  */
+    private final JSONValue root;
+
+    /**
+     * Constructs this document using the given UTF-8 encoded bytes.
+     *
+     * @param bytes the data of the document
+     * @throws JSONParseException if the JSON data is malformed
+     */
+    public JSONDocument(final byte[] bytes) throws JSONParseException {
+        this(ByteBuffer.wrap(bytes));
+    }
+
+    /**
+     * Constructs this document using the given string.
+     *
+     * @param string the data of the document
+     * @throws JSONParseException if the JSON data is malformed
+     */
+    public JSONDocument(final String string) throws JSONParseException {
+        this(string.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Constructs this document using the remaining UTF-8 encoded bytes
+     * of the given buffer. The bytes are not copied and must not be
+     * changed while this document is used.
+     *
+     * @param buffer the buffer containing the data of the document
+     * @throws JSONParseException if the JSON data is malformed
+     */
+    public JSONDocument(final ByteBuffer buffer) throws JSONParseException {
+        this.data = buffer.slice();
+
+        final var reader = reader(0, data.limit());
+        final var type   = JSONValue.Type.of(reader.peek());
+        if (type == null) {
+            throw new JSONParseException("Expected a value!", reader.getPosition());
+        }
+        final var start = (int) reader.getTokenStart();
+        reader.skipValueChecked();
+        final var end = (int) reader.getIndex();
+        if (reader.peek() != JSONToken.END_DOCUMENT) {
+            throw new JSONParseException("Expected the end of the data!", reader.getPosition());
+        }
+        root = new JSONValue(this, start, end, type);
+    }
+
+    /**
+     * Creates a reader reading the given range of the data of this
+     * document. The indices of the reader are relative to the start
+     * of the range.
+     *
+     * @param start the index of the first byte to be read
+     * @param end the index after the last byte to be read
+     * @return a reader for the given range
+     */
+    JSONReader reader(final int start, final int end) {
+        return new JSONReader(JSONInput.of(data.slice(start, end - start)));
+    }
+
+    /**
+     * Decodes the given range of the data of this document.
+     *
+     * @param start the index of the first byte
+     * @param end the index after the last byte
+     * @return the decoded text
+     */
+    String text(final int start, final int end) {
+        final var bytes = new byte[end - start];
+        data.get(start, bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Returns the value at the root of this document.
+     *
+     * @return the root value
+     */
+    public JSONValue getRoot() {
+        return root;
+    }
+
+    @Override
+    public String toString() {
+        return root.toString();
+    }
+}
@@ -0,0 +1,540 @@
+/*
+ * JUtilities - Some utilities written for Java.
+ *
+ * Copyright (C) 2026  mhahnFr
+ *
+ * This file is part of the JUtilities. This library is free software:
+ * you can redistribute it and/or modify it under the terms of the
+ * GNU General Public License as published by the Free Software Foundation,
+ * either version 3 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with
+ * this library, see the file LICENSE.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package mhahnFr.utils.json;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.UndeclaredThrowableException;
+
+/**
+ * This class reads and writes the value of a field. Primitive values
+ * can be accessed using the typed methods, which do not box the value.
+ *
+ * @author mhahnFr
+ * @since 16.10.26
+ */
+abstract class JSONFieldAccessor {
+    /**
+     * Creates an accessor for the given field. If possible, the field
+     * is accessed using {@link MethodHandle}s, otherwise reflection is used.
+     *
+     * @param field the field to be accessed
+     * @return the accessor for the given field
+     */
+    static JSONFieldAccessor of(final Field field) {
+        final var modifiers = field.getModifiers();
+        if (!Modifier.isStatic(modifiers) && !Modifier.isFinal(modifiers)) {
+            try {
+                final var lookup = MethodHandles.privateLookupIn(field.getDeclaringClass(), MethodHandles.lookup());
+                return new HandleAccessor(lookup.unreflectGetter(field), lookup.unreflectSetter(field));
+            } catch (IllegalAccessException | SecurityException __) {
+                // Falls back to the reflective access.
+            }
+        }
+        return new ReflectiveAccessor(field);
+    }
+
+    /**
+     * Returns the value of the field in the given object.
+     *
+     * @param obj the object whose field to read
+     * @return the value of the field
+     * @throws IllegalAccessException if the field cannot be accessed
+     */
+    abstract Object get(Object obj) throws IllegalAccessException;
+
+    /**
+     * Sets the value of the field in the given object.
+     *
+     * @param obj the object whose field to set
+     * @param value the new value
+     * @throws IllegalAccessException if the field cannot be accessed
+     */
+    abstract void set(Object obj, Object value) throws IllegalAccessException;
+
+    /**
+     * Returns the {@code boolean} value of the field in the given object.
+     *
+     * @param obj the object whose field to read
+     * @return the value of the field
+     * @throws IllegalAccessException if the field cannot be accessed
+     */
+    abstract boolean getBoolean(Object obj) throws IllegalAccessException;
+
+    /**
+     * Sets the {@code boolean} value of the field in the given object.
+     *
+     * @param obj the object whose field to set
+     * @param value the new value
+     * @throws IllegalAccessException if the field cannot be accessed
+     */
+    abstract void setBoolean(Object obj, boolean value) throws IllegalAccessException;
+
+    /**
+     * Returns the {@code byte} value of the field in the given object.
+     *
+     * @param obj the object whose field to read
+     * @return the value of the field
+     * @throws IllegalAccessException if the field cannot be accessed
+     */
+    abstract byte getByte(Object obj) throws IllegalAccessException;
+
+    /**
+     * Sets the {@code byte} value of the field in the given object.
+     *
+     * @param obj the object whose field to set
+     * @param value the new value
+     * @throws IllegalAccessException if the field cannot be accessed
+     */
+    abstract void setByte(Object obj, byte value) throws IllegalAccessException;
+
+    /**
+     * Returns the {@code short} value of the field in the given object.
+     *
+     * @param obj the object whose field to read
+     * @return the value of the field
+     * @throws IllegalAccessException if the field cannot be accessed
+     */
+    abstract short getShort(Object obj) throws IllegalAccessException;
+
+    /**
+     * Sets the {@code short} value of the field in the given object.
+     *
+     * @param obj the object whose field to set
+     * @param value the new value
+     * @throws IllegalAccessException if the field cannot be accessed
+     */
+    abstract void setShort(Object obj, short value) throws IllegalAccessException;
+
+    /**
+     * Returns the {@code char} value of the field in the given object.
+     *
+     * @param obj the object whose field to read
+     * @return the value of the field
+     * @throws IllegalAccessException if the field cannot be accessed
+     */
+    abstract char getChar(Object obj) throws IllegalAccessException;
+
+    /**
+     * Sets the {@code char} value of the field in the given object.
+     *
+     * @param obj the object whose field to set
+     * @param value the new value
+     * @throws IllegalAccessException if the field cannot be accessed
+     */
+    abstract void setChar(Object obj, char value) throws IllegalAccessException;
+
+    /**
+     * Returns the {@code int} value of the field in the given object.
+     *
+     * @param obj the object whose field to read
+     * @return the value of the field
+     * @throws IllegalAccessException if the field cannot be accessed
+     */
+    abstract int getInt(Object obj) throws IllegalAccessException;
+
+    /**
+     * Sets the {@code int} value of the field in the given object.
+     *
+     * @param obj the object whose field to set
+     * @param value the new value
+     * @throws IllegalAccessException if the field cannot be accessed
+     */
+    abstract void setInt(Object obj, int value) throws IllegalAccessException;
+
+    /**
+     * Returns the {@code long} value of the field in the given object.
+     *
+     * @param obj the object whose field to read
+     * @return the value of the field
+     * @throws IllegalAccessException if the field cannot be accessed
+     */
+    abstract long getLong(Object obj) throws IllegalAccessException;
+
+    /**
+     * Sets the {@code long} value of the field in the given object.
+     *
+     * @param obj the object whose field to set
+     * @param value the new value
+     * @throws IllegalAccessException if the field cannot be accessed
+     */
+    abstract void setLong(Object obj, long value) throws IllegalAccessException;
+
+    /**
+     * Returns the {@code float} value of the field in the given object.
+     *
+     * @param obj the object whose field to read
+     * @return the value of the field
+     * @throws IllegalAccessException if the field cannot be accessed
+     */
+    abstract float getFloat(Object obj) throws IllegalAccessException;
+
+    /**
+     * Sets the {@code float} value of the field in the given object.
+     *
+     * @param obj the object whose field to set
+     * @param value the new value
+     * @throws IllegalAccessException if the field cannot be accessed
+     */
+    abstract void setFloat(Object obj, float value) throws IllegalAccessException;
+
+    /**
+     * Returns the {@code double} value of the field in the given object.
+     *
+     * @param obj the object whose field to read
+     * @return the value of the field
+     * @throws IllegalAccessException if the field cannot be accessed
+     */
+    abstract double getDouble(Object obj) throws IllegalAccessException;
+
+    /**
+     * Sets the {@code double} value of the field in the given object.
+     *
+     * @param obj the object whose field to set
+     * @param value the new value
+     * @throws IllegalAccessException if the field cannot be accessed
+     */
+    abstract void setDouble(Object obj, double value) throws IllegalAccessException;
+
+    /**
+     * This class accesses a field using method handles. The handles are
+     * adapted to the exact types of the typed accessor methods, so that
+     * they can be invoked exactly without converting the arguments.
+     *
+     * @author mhahnFr
+     * @since 16.10.26
+     */
+    private static final class HandleAccessor extends JSONFieldAccessor {
+        /** The getter returning the value of the field in its type. */
+        private final MethodHandle getter;
+        /** The setter taking the value of the field in its type.    */
+        private final MethodHandle setter;
+        /** The getter returning the value as {@link Object}.        */
+        private final MethodHandle boxedGetter;
+        /** The setter taking the value as {@link Object}.           */
+        private final MethodHandle boxedSetter;
+
+        /**
+         * Constructs this accessor using the given handles.
+         *
+         * @param getter the getter of the field
+         * @param setter the setter of the field
+         */
+        private HandleAccessor(final MethodHandle getter, final MethodHandle setter) {
+            final var type = getter.type().returnType();
+            final var kind = type.isPrimitive() ? type : Object.class;
+
+            this.getter      = getter.asType(MethodType.methodType(kind, Object.class));
+            this.setter      = setter.asType(MethodType.methodType(void.class, Object.class, kind));
+            this.boxedGetter = getter.asType(MethodType.methodType(Object.class, Object.class));
+            this.boxedSetter = setter.asType(MethodType.methodType(void.class, Object.class, Object.class));
+        }
+
+        /**
+         * Returns the given throwable thrown by a handle as unchecked
+         * exception to be thrown. Errors are thrown directly.
+         *
+         * @param throwable the thrown throwable
+         * @return the exception to be thrown
+         */
+        private static RuntimeException propagate(final Throwable throwable) {
+            if (throwable instanceof Error error) throw error;
+            if (throwable instanceof RuntimeException exception) return exception;
+
+            return new UndeclaredThrowableException(throwable);
+        }
+
+        @Override
+        Object get(final Object obj) {
+            try {
+                return (Object) boxedGetter.invokeExact(obj);
+            } catch (Throwable e) {
+                throw propagate(e);
+            }
+        }
+
+        @Override
+        void set(final Object obj, final Object value) {
+            try {
+                boxedSetter.invokeExact(obj, value);
+            } catch (Throwable e) {
+                throw propagate(e);
+            }
+        }
+
+        @Override
+        boolean getBoolean(final Object obj) {
+            try {
+                return (boolean) getter.invokeExact(obj);
+            } catch (Throwable e) {
+                throw propagate(e);
+            }
+        }
+
+        @Override
+        void setBoolean(final Object obj, final boolean value) {
+            try {
+                setter.invokeExact(obj, value);
+            } catch (Throwable e) {
+                throw propagate(e);
+            }
+        }
+
+        @Override
+        byte getByte(final Object obj) {
+            try {
+                return (byte) getter.invokeExact(obj);
+            } catch (Throwable e) {
+                throw propagate(e);
+            }
+        }
+
+        @Override
+        void setByte(final Object obj, final byte value) {
+            try {
+                setter.invokeExact(obj, value);
+            } catch (Throwable e) {
+                throw propagate(e);
+            }
+        }
+
+        @Override
+        short getShort(final Object obj) {
+            try {
+                return (short) getter.invokeExact(obj);
+            } catch (Throwable e) {
+                throw propagate(e);
+            }
+        }
+
+        @Override
+        void setShort(final Object obj, final short value) {
+            try {
+                setter.invokeExact(obj, value);
+            } catch (Throwable e) {
+                throw propagate(e);
+            }
+        }
+
+        @Override
+        char getChar(final Object obj) {
+            try {
+                return (char) getter.invokeExact(obj);
+            } catch (Throwable e) {
+                throw propagate(e);
+            }
+        }
+
+        @Override
+        void setChar(final Object obj, final char value) {
+            try {
+                setter.invokeExact(obj, value);
+            } catch (Throwable e) {
+                throw propagate(e);
+            }
+        }
+
+        @Override
+        int getInt(final Object obj) {
+            try {
+                return (int) getter.invokeExact(obj);
+            } catch (Throwable e) {
+                throw propagate(e);
+            }
+        }
+
+        @Override
+        void setInt(final Object obj, final int value) {
+            try {
+                setter.invokeExact(obj, value);
+            } catch (Throwable e) {
+                throw propagate(e);
+            }
+        }
+
+        @Override
+        long getLong(final Object obj) {
+            try {
+                return (long) getter.invokeExact(obj);
+            } catch (Throwable e) {
+                throw propagate(e);
+            }
+        }
+
+        @Override
+        void setLong(final Object obj, final long value) {
+            try {
+                setter.invokeExact(obj, value);
+            } catch (Throwable e) {
+                throw propagate(e);
+            }
+        }
+
+        @Override
+        float getFloat(final Object obj) {
+            try {
+                return (float) getter.invokeExact(obj);
+            } catch (Throwable e) {
+                throw propagate(e);
+            }
+        }
+
+        @Override
+        void setFloat(final Object obj, final float value) {
+            try {
+                setter.invokeExact(obj, value);
+            } catch (Throwable e) {
+                throw propagate(e);
+            }
+        }
+
+        @Override
+        double getDouble(final Object obj) {
+            try {
+                return (double) getter.invokeExact(obj);
+            } catch (Throwable e) {
+                throw propagate(e);
+            }
+        }
+
+        @Override
+        void setDouble(final Object obj, final double value) {
+            try {
+                setter.invokeExact(obj, value);
+            } catch (Throwable e) {
+                throw propagate(e);
+            }
+        }
+    }
+
+    /**
+     * This class accesses a field using reflection. It is used for
+     * the fields that cannot be accessed using {@link MethodHandle}s.
+     *
+     * @author mhahnFr
+     * @since 16.10.26
+     */
+    private static final class ReflectiveAccessor extends JSONFieldAccessor {
+        /** The accessed field. */
+        private final Field field;
+
+        /**
+         * Constructs this accessor using the given field.
+         *
+         * @param field the field to be accessed
+         */
+        private ReflectiveAccessor(final Field field) {
+            this.field = field;
+        }
+
+        @Override
+        Object get(final Object obj) throws IllegalAccessException {
+            return field.get(obj);
+        }
+
+        @Override
+        void set(final Object obj, final Object value) throws IllegalAccessException {
+            field.set(obj, value);
+        }
+
+        @Override
+        boolean getBoolean(final Object obj) throws IllegalAccessException {
+            return field.getBoolean(obj);
+        }
+
+        @Override
+        void setBoolean(final Object obj, final boolean value) throws IllegalAccessException {
+            field.setBoolean(obj, value);
+        }
+
+        @Override
+        byte getByte(final Object obj) throws IllegalAccessException {
+            return field.getByte(obj);
+        }
+
+        @Override
+        void setByte(final Object obj, final byte value) throws IllegalAccessException {
+            field.setByte(obj, value);
+        }
+
+        @Override
+        short getShort(final Object obj) throws IllegalAccessException {
+            return field.getShort(obj);
+        }
+
+        @Override
+        void setShort(final Object obj, final short value) throws IllegalAccessException {
+            field.setShort(obj, value);
+        }
+
+        @Override
+        char getChar(final Object obj) throws IllegalAccessException {
+            return field.getChar(obj);
+        }
+
+        @Override
+        void setChar(final Object obj, final char value) throws IllegalAccessException {
+            field.setChar(obj, value);
+        }
+
+        @Override
+        int getInt(final Object obj) throws IllegalAccessException {
+            return field.getInt(obj);
+        }
+
+        @Override
+        void setInt(final Object obj, final int value) throws IllegalAccessException {
+            field.setInt(obj, value);
+        }
+
+        @Override
+        long getLong(final Object obj) throws IllegalAccessException {
+            return field.getLong(obj);
+        }
+
+        @Override
+        void setLong(final Object obj, final long value) throws IllegalAccessException {
+            field.setLong(obj, value);
+        }
+
+        @Override
+        float getFloat(final Object obj) throws IllegalAccessException {
+            return field.getFloat(obj);
+        }
+
+        @Override
+        void setFloat(final Object obj, final float value) throws IllegalAccessException {
+            field.setFloat(obj, value);
+        }
+
+        @Override
+        double getDouble(final Object obj) throws IllegalAccessException {
+            return field.getDouble(obj);
+        }
+
+        @Override
+        void setDouble(final Object obj, final double value) throws IllegalAccessException {
+            field.setDouble(obj, value);
+        }
+    }
+}
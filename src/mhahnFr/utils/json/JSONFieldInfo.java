@@ -0,0 +1,139 @@
+/*
+ * JUtilities - Some utilities written for Java.
+ *
+ * Copyright (C) 2026  mhahnFr
+ *
+ * This file is part of the JUtilities. This library is free software:
+ * you can redistribute it and/or modify it under the terms of the
+ * GNU General Public License as published by the Free Software Foundation,
+ * either version 3 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with
+ * this library, see the file LICENSE.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package mhahnFr.utils.json;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+
+/**
+ * This class holds the resolved information about a single field
+ * that is read or written as JSON.
+ *
+ * @author mhahnFr
+ * @since 16.10.26
+ */
+final class JSONFieldInfo {
+    /** The described field.                                    */
+    private final Field field;
+    /** The name of the field.                                  */
+    private final String name;
+    /** The description of the generic type of the field.       */
+    private final JSONTypeInfo type;
+    /** The primitive type of the field, {@code null} if none.  */
+    private final JSONPrimitive primitive;
+    /** The accessor used to read and write the field.          */
+    private final JSONFieldAccessor accessor;
+    /** Whether the field is static.                            */
+    private final boolean isStatic;
+    /** Whether the field can be accessed.                      */
+    private final boolean accessible;
+    /** Whether the field is annotated to not be serialized.    */
+    private final boolean noSerialization;
+
+    /**
+     * Constructs the information about the given field. The
+     * field is made accessible if possible.
+     *
+     * @param field the field to be described
+     */
+    JSONFieldInfo(final Field field) {
+        this.field           = field;
+        this.name            = field.getName();
+        this.type            = new JSONTypeInfo(field.getGenericType());
+        this.isStatic        = Modifier.isStatic(field.getModifiers());
+        this.accessible      = field.trySetAccessible() || Modifier.isPublic(field.getModifiers());
+        this.noSerialization = field.isAnnotationPresent(JSONNoSerialization.class);
+        this.primitive       = JSONPrimitive.of(field.getType());
+        this.accessor        = JSONFieldAccessor.of(field);
+    }
+
+    /**
+     * Returns the described field.
+     *
+     * @return the field
+     */
+    Field getField() {
+        return field;
+    }
+
+    /**
+     * Returns the name of the described field.
+     *
+     * @return the name of the field
+     */
+    String getName() {
+        return name;
+    }
+
+    /**
+     * Returns the description of the type of the field.
+     *
+     * @return the type of the field
+     */
+    JSONTypeInfo getType() {
+        return type;
+    }
+
+    /**
+     * Returns the primitive type of the described field.
+     *
+     * @return the primitive type or {@code null} if the field is not primitive
+     */
+    JSONPrimitive getPrimitive() {
+        return primitive;
+    }
+
+    /**
+     * Returns the accessor used to read and write the described field.
+     *
+     * @return the accessor of the field
+     */
+    JSONFieldAccessor getAccessor() {
+        return accessor;
+    }
+
+    /**
+     * Returns whether the described field is static.
+     *
+     * @return whether the field is static
+     */
+    boolean isStatic() {
+        return isStatic;
+    }
+
+    /**
+     * Returns whether the described field is accessible.
+     *
+     * @return whether the field can be accessed
+     */
+    boolean isAccessible() {
+        return accessible;
+    }
+
+    /**
+     * Returns whether the described field is annotated using
+     * {@link JSONNoSerialization}.
+     *
+     * @return whether the field should not be serialized
+     */
+    boolean isNoSerialization() {
+        return noSerialization;
+    }
+}
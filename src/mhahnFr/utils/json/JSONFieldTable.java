@@ -0,0 +1,242 @@
+/*
+ * JUtilities - Some utilities written for Java.
+ *
+ * Copyright (C) 2026  mhahnFr
+ *
+ * This file is part of the JUtilities. This library is free software:
+ * you can redistribute it and/or modify it under the terms of the
+ * GNU General Public License as published by the Free Software Foundation,
+ * either version 3 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with
+ * this library, see the file LICENSE.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package mhahnFr.utils.json;
+
+import java.util.Arrays;
+
+/**
+ * This class dispatches field names to the fields of a class using a
+ * minimal perfect hash built over the names of the fields.
+ * <p>
+ * The characters of a name are hashed once. The upper bits of the hash
+ * select a bucket, whose displacement is mixed into the hash to yield
+ * the slot of the only field the name can denote. The displacements
+ * are searched when the table is built, so that no two fields share a
+ * slot and the table has exactly one slot per field. A looked up name
+ * is compared once against the name in its slot; no string is created
+ * for the looked up names.
+ * <p>
+ * The fields are kept in a given order, the order in which they are
+ * expected in the JSON data. Looking up a name yields the index of its
+ * field in that order, so that the field expected next can be checked
+ * directly before the name is hashed.
+ *
+ * @author mhahnFr
+ * @since 16.10.26
+ */
+final class JSONFieldTable {
+    /** The number of displacements tried per bucket.      */
+    private static final int MAX_DISPLACEMENT = 1 << 16;
+
+    /** The seed of the hash function.                     */
+    private final int seed;
+    /** The displacements of the buckets.                  */
+    private final int[] displacements;
+    /** The indices of the fields in their slots.          */
+    private final int[] slots;
+    /** The names of the fields in their order.            */
+    private final String[] names;
+    /** The fields in their order.                         */
+    private final JSONFieldInfo[] fields;
+
+    /**
+     * Constructs a table for the given fields.
+     *
+     * @param names the names of the fields in their order
+     * @param fields the fields in the same order
+     */
+    JSONFieldTable(final String[] names, final JSONFieldInfo[] fields) {
+        this.displacements = new int[names.length / 2 + 1];
+        this.slots         = new int[names.length];
+        this.names         = names;
+        this.fields        = fields;
+
+        var seed = 0;
+        while (!build(seed)) ++seed;
+        this.seed = seed;
+    }
+
+    /**
+     * Tries to place the given names using the given seed. The buckets
+     * are placed in the order of decreasing size, each using the first
+     * displacement that maps its names to free slots.
+     *
+     * @param seed the seed of the hash function
+     * @return whether all names were placed
+     */
+    private boolean build(final int seed) {
+        final var hashes = new int[names.length];
+        for (int i = 0; i < names.length; ++i) {
+            hashes[i] = hash(names[i], seed);
+        }
+        final var sorted = hashes.clone();
+        Arrays.sort(sorted);
+        for (int i = 1; i < sorted.length; ++i) {
+            if (sorted[i] == sorted[i - 1]) return false;
+        }
+
+        final var buckets = new int[displacements.length][];
+        final var sizes   = new int[displacements.length];
+        for (int i = 0; i < names.length; ++i) {
+            final var bucket = range(hashes[i], buckets.length);
+            if (buckets[bucket] == null) {
+                buckets[bucket] = new int[2];
+            } else if (sizes[bucket] == buckets[bucket].length) {
+                buckets[bucket] = Arrays.copyOf(buckets[bucket], sizes[bucket] * 2);
+            }
+            buckets[bucket][sizes[bucket]++] = i;
+        }
+        final var order = new Integer[buckets.length];
+        for (int i = 0; i < order.length; ++i) {
+            order[i] = i;
+        }
+        Arrays.sort(order, (a, b) -> sizes[b] - sizes[a]);
+
+        Arrays.fill(this.slots, -1);
+        Arrays.fill(displacements, 0);
+        final var slots = new int[names.length];
+        for (final var bucket : order) {
+            final var size = sizes[bucket];
+            if (size == 0) break;
+
+            var displacement = 0;
+            while (!fits(hashes, buckets[bucket], size, displacement, slots)) {
+                if (++displacement == MAX_DISPLACEMENT) return false;
+            }
+            displacements[bucket] = displacement;
+            for (int i = 0; i < size; ++i) {
+                this.slots[slots[i]] = buckets[bucket][i];
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns whether the names of a bucket map to distinct free slots
+     * using the given displacement.
+     *
+     * @param hashes the hashes of all names
+     * @param bucket the indices of the names of the bucket
+     * @param size the number of names in the bucket
+     * @param displacement the displacement to be tried
+     * @param slots the array to store the found slots in
+     * @return whether the names of the bucket fit
+     */
+    private boolean fits(final int[] hashes, final int[] bucket, final int size, final int displacement, final int[] slots) {
+        for (int i = 0; i < size; ++i) {
+            final var slot = range(mix(hashes[bucket[i]] ^ displacement), names.length);
+            if (this.slots[slot] >= 0) return false;
+            for (int j = 0; j < i; ++j) {
+                if (slots[j] == slot) return false;
+            }
+            slots[i] = slot;
+        }
+        return true;
+    }
+
+    /**
+     * Returns the index of the field with the given name.
+     *
+     * @param name the characters of the name
+     * @return the index of the field or {@code -1} if there is no field with the given name
+     */
+    int indexOf(final CharSequence name) {
+        if (names.length == 0) return -1;
+
+        final var hash  = hash(name, seed);
+        final var index = slots[range(mix(hash ^ displacements[range(hash, displacements.length)]), names.length)];
+        return names[index].contentEquals(name) ? index : -1;
+    }
+
+    /**
+     * Returns the field with the given name.
+     *
+     * @param name the characters of the name
+     * @return the field or {@code null} if there is no field with the given name
+     */
+    JSONFieldInfo get(final CharSequence name) {
+        final var index = indexOf(name);
+        return index < 0 ? null : fields[index];
+    }
+
+    /**
+     * Returns whether the field at the given index has the given name.
+     * Only the field at the index is compared, no lookup is performed.
+     *
+     * @param index the index of the field, may be out of range
+     * @param name the characters of the name
+     * @return whether the field at the index has the given name
+     */
+    boolean matches(final int index, final CharSequence name) {
+        return index < names.length && names[index].contentEquals(name);
+    }
+
+    /**
+     * Returns the field at the given index.
+     *
+     * @param index the index of the field
+     * @return the field
+     */
+    JSONFieldInfo getField(final int index) {
+        return fields[index];
+    }
+
+    /**
+     * Hashes the given characters using the given seed.
+     *
+     * @param chars the characters to be hashed
+     * @param seed the seed of the hash
+     * @return the hash of the characters
+     */
+    private static int hash(final CharSequence chars, final int seed) {
+        var hash = 0x811C9DC5 ^ seed;
+        for (int i = 0, length = chars.length(); i < length; ++i) {
+            hash = (hash ^ chars.charAt(i)) * 0x01000193;
+        }
+        return mix(hash);
+    }
+
+    /**
+     * Mixes the bits of the given value, so that every bit of the input
+     * affects every bit of the result.
+     *
+     * @param value the value to be mixed
+     * @return the mixed value
+     */
+    private static int mix(int value) {
+        value ^= value >>> 16;
+        value *= 0x85EBCA6B;
+        value ^= value >>> 13;
+        value *= 0xC2B2AE35;
+        return value ^ (value >>> 16);
+    }
+
+    /**
+     * Maps the given hash to the range from zero to the given bound
+     * without division, using the upper bits of the hash.
+     *
+     * @param hash the hash to be mapped
+     * @param bound the exclusive upper bound
+     * @return the mapped value
+     */
+    private static int range(final int hash, final int bound) {
+        return (int) (((hash & 0xFFFFFFFFL) * bound) >>> 32);
+    }
+}
@@ -0,0 +1,70 @@
+/*
+ * JUtilities - Some utilities written for Java.
+ *
+ * Copyright (C) 2026  mhahnFr
+ *
+ * This file is part of the JUtilities. This library is free software:
+ * you can redistribute it and/or modify it under the terms of the
+ * GNU General Public License as published by the Free Software Foundation,
+ * either version 3 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with
+ * this library, see the file LICENSE.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package mhahnFr.utils.json;
+
+import java.io.IOException;
+
+/**
+ * This class is the base of the codecs generated at runtime by the
+ * {@link JSONCodecGenerator}. A generated codec reads and writes the
+ * fields of exactly one class.
+ *
+ * @author mhahnFr
+ * @since 16.10.26
+ */
+abstract class JSONGeneratedCodec {
+    /** The fields that can be read, indexed as in the generated code. */
+    final JSONFieldInfo[] readableFields;
+    /** The fields that are written, indexed as in the generated code. */
+    final JSONFieldInfo[] writableFields;
+
+    /**
+     * Constructs this codec using the given fields.
+     *
+     * @param readableFields the fields that can be read
+     * @param writableFields the fields that are written
+     */
+    JSONGeneratedCodec(final JSONFieldInfo[] readableFields, final JSONFieldInfo[] writableFields) {
+        this.readableFields = readableFields;
+        this.writableFields = writableFields;
+    }
+
+    /**
+     * Reads the fields of the given object using the given parser.
+     * The opening and closing brackets are not consumed.
+     *
+     * @param parser the parser to read the values with
+     * @param obj the object to be filled
+     * @throws ReflectiveOperationException if a field could not be filled with the read value
+     * @throws JSONParseException if the JSON data could not be parsed
+     */
+    abstract void read(JSONParser parser, Object obj) throws ReflectiveOperationException, JSONParseException;
+
+    /**
+     * Writes the fields of the given object using the given writer.
+     * The opening and closing brackets are not written.
+     *
+     * @param writer the writer to write the values with
+     * @param obj the object to be written
+     * @throws IOException if an I/O error occurs
+     * @throws IllegalAccessException if a field cannot be accessed
+     */
+    abstract void write(JSONWriter writer, Object obj) throws IOException, IllegalAccessException;
+}
@@ -0,0 +1,986 @@
+/*
+ * JUtilities - Some utilities written for Java.
+ *
+ * Copyright (C) 2026  mhahnFr
+ *
+ * This file is part of the JUtilities. This library is free software:
+ * you can redistribute it and/or modify it under the terms of the
+ * GNU General Public License as published by the Free Software Foundation,
+ * either version 3 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with
+ * this library, see the file LICENSE.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package mhahnFr.utils.json;
+
+import mhahnFr.utils.StreamPosition;
+import mhahnFr.utils.StringStream;
+
+import java.io.*;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * This class provides the characters read by the {@link JSONReader}.
+ * Besides the single character access, it provides the scanning of the
+ * lexical elements, which can be specialized by the implementations.
+ *
+ * @author mhahnFr
+ * @since 16.10.26
+ */
+abstract class JSONInput implements Closeable {
+    /** The default size of the buffers used for streamed input. */
+    static final int BUFFER_SIZE = 8192;
+    /** The maximal size of the mapped windows of a file.          */
+    static final int MAPPING_SIZE = 1 << 30;
+    /** The maximal number of bytes shown around an error.         */
+    static final int CONTEXT_SIZE = 4096;
+
+    /**
+     * Creates an input reading the characters from the given stream.
+     * The stream is advanced as the characters are read.
+     *
+     * @param stream the stream to read the characters from
+     * @return the input reading from the given stream
+     */
+    static JSONInput of(final StringStream stream) {
+        return new StringStreamInput(stream);
+    }
+
+    /**
+     * Creates an input reading the characters from the given reader.
+     * Only a bounded window of the characters is buffered.
+     *
+     * @param reader the reader to read the characters from
+     * @return the input reading from the given reader
+     */
+    static JSONInput of(final Reader reader) {
+        return new ReaderInput(reader, BUFFER_SIZE);
+    }
+
+    /**
+     * Creates an input reading the given UTF-8 encoded bytes.
+     *
+     * @param bytes the bytes to be read
+     * @return the input reading the given bytes
+     */
+    static JSONInput of(final byte[] bytes) {
+        return new ByteInput(ByteBuffer.wrap(bytes));
+    }
+
+    /**
+     * Creates an input reading the remaining UTF-8 encoded bytes of the
+     * given buffer. The given buffer itself is not modified.
+     *
+     * @param buffer the buffer whose bytes to read
+     * @return the input reading the given buffer
+     */
+    static JSONInput of(final ByteBuffer buffer) {
+        return new ByteInput(buffer.slice());
+    }
+
+    /**
+     * Creates an input reading the UTF-8 encoded bytes from the given
+     * channel. Only a bounded window of the bytes is buffered.
+     *
+     * @param channel the channel to read the bytes from
+     * @return the input reading from the given channel
+     */
+    static JSONInput of(final ReadableByteChannel channel) {
+        return new ChannelInput(channel, BUFFER_SIZE);
+    }
+
+    /**
+     * Creates an input reading the UTF-8 encoded bytes from the given
+     * stream. Only a bounded window of the bytes is buffered.
+     *
+     * @param in the stream to read the bytes from
+     * @return the input reading from the given stream
+     */
+    static JSONInput of(final InputStream in) {
+        return of(Channels.newChannel(in));
+    }
+
+    /**
+     * Creates an input reading the UTF-8 encoded file at the given path.
+     * The file is mapped into memory in windows of at most
+     * {@link #MAPPING_SIZE} bytes, so that files of any size can be read
+     * without copying them into the heap.
+     *
+     * @param path the path of the file to be read
+     * @return the input reading the given file
+     * @throws IOException if the file cannot be opened or mapped
+     */
+    static JSONInput of(final Path path) throws IOException {
+        final var channel = FileChannel.open(path, StandardOpenOption.READ);
+        try {
+            return new MappedInput(channel, MAPPING_SIZE);
+        } catch (IOException | RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    /**
+     * Returns whether another character can be read.
+     *
+     * @return whether a next character is available
+     * @throws UncheckedIOException if an I/O error occurs
+     */
+    abstract boolean hasNext();
+
+    /**
+     * Returns the next character without consuming it. Its availability
+     * has to be checked using {@link #hasNext()} beforehand.
+     *
+     * @return the next character
+     */
+    abstract char peek();
+
+    /**
+     * Returns and consumes the next character. Its availability has to
+     * be checked using {@link #hasNext()} beforehand.
+     *
+     * @return the next character
+     */
+    abstract char next();
+
+    /**
+     * Returns the index of the next character in the whole input.
+     *
+     * @return the current reading index
+     */
+    abstract long getIndex();
+
+    /**
+     * Creates a {@link StreamPosition} pointing to the given index. For
+     * streamed inputs, the position refers to the currently buffered
+     * characters.
+     *
+     * @param index the index in the whole input
+     * @return the position of the index
+     */
+    abstract StreamPosition createStreamPosition(long index);
+
+    @Override
+    public void close() throws IOException {}
+
+    /**
+     * Skips the whitespaces that follow.
+     */
+    void skipWhitespaces() {
+        while (hasNext() && Character.isWhitespace(peek())) {
+            next();
+        }
+    }
+
+    /**
+     * Consumes the given character if it follows.
+     *
+     * @param c the expected character
+     * @return whether the character was consumed
+     */
+    boolean consume(final char c) {
+        if (hasNext() && peek() == c) {
+            next();
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * Returns whether the given character ends an unquoted value.
+     *
+     * @param c the character to be checked
+     * @return whether the character terminates a raw value
+     */
+    static boolean isDelimiter(final char c) {
+        return c == ',' || c == '}' || c == ']' || c == ':' || Character.isWhitespace(c);
+    }
+
+    /**
+     * Reads the text of an unquoted value into the given buffer. The
+     * reading stops early once more than the given number of characters
+     * has been appended, so that the buffer holds a bounded number of
+     * characters if the value is too long.
+     *
+     * @param buffer the buffer to append the text to
+     * @param max the maximal number of characters to be appended
+     */
+    void readRaw(final StringBuilder buffer, final int max) {
+        final var bound = (long) buffer.length() + max;
+        while (hasNext() && !isDelimiter(peek()) && buffer.length() <= bound) {
+            buffer.append(next());
+        }
+    }
+
+    /**
+     * Skips an unquoted value.
+     */
+    void skipRaw() {
+        while (hasNext() && !isDelimiter(peek())) {
+            next();
+        }
+    }
+
+    /**
+     * Reads the content of a string whose opening quote has already
+     * been consumed into the given buffer. The closing quote is consumed.
+     * The reading stops early once more than the given number of
+     * characters has been appended, so that the buffer holds a bounded
+     * number of characters if the string is too long.
+     *
+     * @param buffer the buffer to append the content to
+     * @param max the maximal number of characters to be appended
+     * @return whether the string was terminated within the maximal number of characters
+     */
+    boolean readString(final StringBuilder buffer, final int max) {
+        final var bound = (long) buffer.length() + max;
+        while (hasNext() && buffer.length() <= bound) {
+            final var c = next();
+            if (c == '"') return true;
+
+            if (c == '\\') {
+                if (!hasNext()) break;
+                appendEscaped(buffer, next());
+            } else {
+                buffer.append(c);
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Returns the value of the given hexadecimal digit.
+     *
+     * @param c the digit
+     * @return the value of the digit or {@code -1} if the character is no hexadecimal digit
+     */
+    private static int hexValue(final char c) {
+        if (c >= '0' && c <= '9') return c - '0';
+        if (c >= 'a' && c <= 'f') return c - 'a' + 10;
+        if (c >= 'A' && c <= 'F') return c - 'A' + 10;
+        return -1;
+    }
+
+    /**
+     * Appends the character denoted by the escape sequence with the
+     * given escaped character. The backslash and the escaped character
+     * have already been consumed; the four hexadecimal digits of a
+     * unicode escape sequence are consumed by this method. Characters
+     * outside the basic multilingual plane result from the surrogate
+     * pair of two consecutive unicode escape sequences. Malformed unicode
+     * escape sequences are replaced by the replacement character, other
+     * unknown escaped characters are appended themselves.
+     *
+     * @param buffer the buffer to append the character to
+     * @param c the escaped character
+     */
+    void appendEscaped(final StringBuilder buffer, final char c) {
+        switch (c) {
+            case 'b' -> buffer.append('\b');
+            case 'f' -> buffer.append('\f');
+            case 'n' -> buffer.append('\n');
+            case 'r' -> buffer.append('\r');
+            case 't' -> buffer.append('\t');
+
+            case 'u' -> {
+                var value = 0;
+                for (int i = 0; i < 4; ++i) {
+                    final var digit = hasNext() ? hexValue(peek()) : -1;
+                    if (digit < 0) {
+                        buffer.append('\uFFFD');
+                        return;
+                    }
+                    next();
+                    value = (value << 4) | digit;
+                }
+                buffer.append((char) value);
+            }
+
+            default -> buffer.append(c);
+        }
+    }
+
+    /**
+     * Skips a string whose opening quote has already been consumed.
+     * The closing quote is consumed.
+     *
+     * @return whether the string was terminated
+     */
+    boolean skipString() {
+        while (hasNext() && peek() != '"') {
+            if (next() == '\\' && hasNext()) {
+                next();
+            }
+        }
+        return consume('"');
+    }
+
+    /**
+     * Skips the rest of an object or array whose opening bracket has
+     * already been consumed. The closing bracket is consumed. Only the
+     * nesting of the containers and the strings are tracked; the skipped
+     * content is not validated.
+     *
+     * @return whether the container was terminated
+     */
+    boolean skipNested() {
+        var depth = 1;
+        while (hasNext()) {
+            switch (next()) {
+                case '"' -> {
+                    if (!skipString()) return false;
+                }
+                case '[', '{' -> ++depth;
+                case ']', '}' -> {
+                    if (--depth == 0) return true;
+                }
+                default -> {}
+            }
+        }
+        return false;
+    }
+
+    /**
+     * This class reads the characters from a {@link StringStream}.
+     *
+     * @author mhahnFr
+     * @since 16.10.26
+     */
+    private static final class StringStreamInput extends JSONInput {
+        /** The stream to read the characters from. */
+        private final StringStream stream;
+
+        /**
+         * Constructs this input using the given stream.
+         *
+         * @param stream the stream to read the characters from
+         */
+        private StringStreamInput(final StringStream stream) {
+            this.stream = stream;
+        }
+
+        @Override
+        boolean hasNext() {
+            return stream.hasNext();
+        }
+
+        @Override
+        char peek() {
+            return stream.peek();
+        }
+
+        @Override
+        char next() {
+            return stream.next();
+        }
+
+        @Override
+        long getIndex() {
+            return stream.getIndex();
+        }
+
+        @Override
+        StreamPosition createStreamPosition(final long index) {
+            return stream.createStreamPosition((int) index);
+        }
+    }
+
+    /**
+     * This class reads the characters from a {@link Reader}. The
+     * characters are buffered in a window of fixed size, which is
+     * refilled when all of its characters are consumed.
+     *
+     * @author mhahnFr
+     * @since 16.10.26
+     */
+    private static final class ReaderInput extends JSONInput {
+        /** The reader to read the characters from.         */
+        private final Reader reader;
+        /** The window of the buffered characters.          */
+        private final char[] buffer;
+        /** The index of the next character in the window.  */
+        private int position;
+        /** The number of valid characters in the window.   */
+        private int limit;
+        /** The index of the window in the whole input.     */
+        private long offset;
+
+        /**
+         * Constructs this input using the given reader.
+         *
+         * @param reader the reader to read the characters from
+         * @param size the size of the window
+         */
+        private ReaderInput(final Reader reader, final int size) {
+            this.reader = reader;
+            this.buffer = new char[size];
+        }
+
+        /**
+         * Refills the window. The window is kept at the end of the
+         * input, so that errors can still be shown in their context.
+         *
+         * @return whether characters were read
+         * @throws UncheckedIOException if an I/O error occurs
+         */
+        private boolean fill() {
+            try {
+                int read;
+                do {
+                    read = reader.read(buffer, 0, buffer.length);
+                } while (read == 0);
+                if (read < 0) return false;
+
+                offset  += limit;
+                position = 0;
+                limit    = read;
+                return true;
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+
+        @Override
+        boolean hasNext() {
+            return position < limit || fill();
+        }
+
+        @Override
+        char peek() {
+            return buffer[position];
+        }
+
+        @Override
+        char next() {
+            return buffer[position++];
+        }
+
+        @Override
+        long getIndex() {
+            return offset + position;
+        }
+
+        @Override
+        StreamPosition createStreamPosition(final long index) {
+            final var relative = (int) Math.max(0, Math.min(limit, index - offset));
+            return new StreamPosition(relative, new String(buffer, 0, limit));
+        }
+
+        /**
+         * Scans the window for the first quote or backslash starting at
+         * the current position.
+         *
+         * @return the index of the first found character or the limit of the window
+         */
+        private int scanString() {
+            var i = position;
+            while (i < limit && buffer[i] != '"' && buffer[i] != '\\') ++i;
+            return i;
+        }
+
+        @Override
+        boolean skipString() {
+            while (hasNext()) {
+                position = scanString();
+                if (position == limit) continue;
+
+                if (buffer[position++] == '"') return true;
+                if (hasNext()) next();
+            }
+            return false;
+        }
+
+        @Override
+        boolean readString(final StringBuilder buffer, final int max) {
+            final var bound = (long) buffer.length() + max;
+            while (hasNext() && buffer.length() <= bound) {
+                final var end = (int) Math.min(scanString(), position + bound + 1 - buffer.length());
+                buffer.append(this.buffer, position, end - position);
+                position = end;
+                if (position == limit || buffer.length() > bound) continue;
+
+                if (this.buffer[position++] == '"') return true;
+                if (!hasNext()) break;
+                appendEscaped(buffer, next());
+            }
+            return false;
+        }
+
+        @Override
+        public void close() throws IOException {
+            reader.close();
+        }
+    }
+
+    /**
+     * This class reads UTF-8 encoded bytes. The structural characters,
+     * numbers and literals are handled as raw bytes; only the content of
+     * the strings is decoded. This class reads the bytes of a single
+     * buffer; the subclasses refill the buffer from their source.
+     * <p>
+     * Whitespaces and the content of strings are scanned eight bytes at
+     * a time: the bytes are loaded as a single {@code long} and compared
+     * at once using bitwise arithmetic (SWAR). Only the byte ending such
+     * a run is handled individually.
+     *
+     * @author mhahnFr
+     * @since 16.10.26
+     */
+    private static class ByteInput extends JSONInput {
+        /** The lowest bit of every byte in a word.           */
+        private static final long ONES      = 0x0101010101010101L;
+        /** The lower seven bits of every byte in a word.     */
+        private static final long LOW_BITS  = 0x7F7F7F7F7F7F7F7FL;
+        /** The highest bit of every byte in a word.          */
+        private static final long HIGH_BITS = 0x8080808080808080L;
+
+        /** The size of the scratch arrays used for copying. */
+        private static final int SCRATCH_SIZE = 1024;
+
+        /** The window of the buffered bytes.                */
+        ByteBuffer buffer;
+        /** The index of the window in the whole input.      */
+        private long offset;
+        /** The scratch array for the copied bytes.          */
+        private byte[] scratchBytes;
+        /** The scratch array for the copied characters.     */
+        private char[] scratchChars;
+
+        /**
+         * Constructs this input using the given buffer.
+         *
+         * @param buffer the buffer whose remaining bytes to read
+         */
+        ByteInput(final ByteBuffer buffer) {
+            this.buffer = buffer.order(ByteOrder.LITTLE_ENDIAN);
+        }
+
+        /**
+         * Returns a word with the highest bit set in exactly those bytes
+         * of the given word that are equal to the given byte.
+         *
+         * @param word the eight bytes to be compared
+         * @param b the byte to compare with
+         * @return the mask of the equal bytes
+         */
+        private static long matching(final long word, final int b) {
+            final var x = word ^ (ONES * b);
+            return ~(((x & LOW_BITS) + LOW_BITS) | x | LOW_BITS);
+        }
+
+        /**
+         * Returns the index of the first byte in the mask. The mask needs
+         * to have at least one bit set.
+         *
+         * @param mask the mask of the found bytes
+         * @return the index of the first found byte in the word
+         */
+        private static int firstIndex(final long mask) {
+            return Long.numberOfTrailingZeros(mask) >>> 3;
+        }
+
+        /**
+         * Scans the window for the first byte starting at the given index
+         * that is not a JSON whitespace. Less than eight bytes remaining at
+         * the end of the window are not scanned.
+         *
+         * @param position the index to start at
+         * @return the index of the first non-whitespace or the index of the unscanned rest
+         */
+        private int scanWhitespaces(int position) {
+            final var end = buffer.limit() - Long.BYTES;
+            for (; position <= end; position += Long.BYTES) {
+                final var word = buffer.getLong(position);
+                final var stop = ~(matching(word, ' ') | matching(word, '\n') | matching(word, '\r') | matching(word, '\t')) & HIGH_BITS;
+                if (stop != 0) return position + firstIndex(stop);
+            }
+            return position;
+        }
+
+        /**
+         * Scans the window for the first quote or backslash starting at the
+         * given index. If requested, the scan also stops at non-ASCII bytes.
+         * Less than eight bytes remaining at the end of the window are not
+         * scanned.
+         *
+         * @param position the index to start at
+         * @param stopAtNonASCII whether to stop at bytes that are not ASCII
+         * @return the index of the first found byte or the index of the unscanned rest
+         */
+        private int scanString(int position, final boolean stopAtNonASCII) {
+            final var end      = buffer.limit() - Long.BYTES;
+            final var nonASCII = stopAtNonASCII ? HIGH_BITS : 0;
+            for (; position <= end; position += Long.BYTES) {
+                final var word = buffer.getLong(position);
+                final var stop = matching(word, '"') | matching(word, '\\') | (word & nonASCII);
+                if (stop != 0) return position + firstIndex(stop);
+            }
+            return position;
+        }
+
+        /**
+         * Scans the window for the first quote or bracket starting at the
+         * given index. Less than eight bytes remaining at the end of the
+         * window are not scanned.
+         *
+         * @param position the index to start at
+         * @return the index of the first found byte or the index of the unscanned rest
+         */
+        private int scanStructural(int position) {
+            final var end = buffer.limit() - Long.BYTES;
+            for (; position <= end; position += Long.BYTES) {
+                final var word = buffer.getLong(position);
+                // Setting the 0x20 bit maps '[' to '{' and ']' to '}'.
+                final var folded = word | (ONES * 0x20);
+                final var stop   = matching(word, '"') | matching(folded, '{') | matching(folded, '}');
+                if (stop != 0) return position + firstIndex(stop);
+            }
+            return position;
+        }
+
+        /**
+         * Returns the window following the current one. The current
+         * window may be reused. If the end of the input is reached,
+         * the current window is to be left untouched.
+         *
+         * @return the next window or {@code null} if no more bytes follow
+         * @throws IOException if an I/O error occurs
+         */
+        ByteBuffer nextWindow() throws IOException {
+            return null;
+        }
+
+        /**
+         * Moves to the next window. The current window is kept at the
+         * end of the input, so that errors can still be shown in their
+         * context.
+         *
+         * @return whether bytes were read
+         * @throws UncheckedIOException if an I/O error occurs
+         */
+        private boolean fill() {
+            final var previous = buffer.limit();
+            try {
+                final var next = nextWindow();
+                if (next == null) return false;
+
+                buffer  = next.order(ByteOrder.LITTLE_ENDIAN);
+                offset += previous;
+                return true;
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+
+        /**
+         * Returns and consumes the next byte. Its availability has to be
+         * checked using {@link #hasNext()} beforehand.
+         *
+         * @return the next byte as unsigned value
+         */
+        private int nextByte() {
+            return buffer.get() & 0xFF;
+        }
+
+        /**
+         * Decodes the UTF-8 sequence starting with the given byte and
+         * appends the decoded character to the given buffer. Malformed
+         * sequences are replaced by the replacement character.
+         *
+         * @param buffer the buffer to append the character to
+         * @param first the first byte of the sequence
+         */
+        private void appendDecoded(final StringBuilder buffer, final int first) {
+            if (first < 0x80) {
+                buffer.append((char) first);
+                return;
+            }
+
+            final int count;
+            int codePoint;
+            if ((first & 0xE0) == 0xC0) {
+                count     = 1;
+                codePoint = first & 0x1F;
+            } else if ((first & 0xF0) == 0xE0) {
+                count     = 2;
+                codePoint = first & 0x0F;
+            } else if ((first & 0xF8) == 0xF0) {
+                count     = 3;
+                codePoint = first & 0x07;
+            } else {
+                buffer.append('\uFFFD');
+                return;
+            }
+            for (int i = 0; i < count; ++i) {
+                if (!hasNext() || (peek() & 0xC0) != 0x80) {
+                    buffer.append('\uFFFD');
+                    return;
+                }
+                codePoint = (codePoint << 6) | (nextByte() & 0x3F);
+            }
+            if (Character.isValidCodePoint(codePoint)) {
+                buffer.appendCodePoint(codePoint);
+            } else {
+                buffer.append('\uFFFD');
+            }
+        }
+
+        @Override
+        boolean hasNext() {
+            return buffer.hasRemaining() || fill();
+        }
+
+        @Override
+        char peek() {
+            return (char) (buffer.get(buffer.position()) & 0xFF);
+        }
+
+        @Override
+        char next() {
+            return (char) nextByte();
+        }
+
+        @Override
+        long getIndex() {
+            return offset + buffer.position();
+        }
+
+        @Override
+        StreamPosition createStreamPosition(final long index) {
+            final var relative = (int) Math.max(0, Math.min(buffer.limit(), index - offset));
+
+            var begin = Math.max(0, relative - CONTEXT_SIZE);
+            while (begin < relative && (buffer.get(begin) & 0xC0) == 0x80) ++begin;
+            final var end = Math.min(buffer.limit(), relative + CONTEXT_SIZE);
+
+            final var bytes = new byte[end - begin];
+            buffer.get(begin, bytes);
+            return new StreamPosition(new String(bytes, 0, relative - begin, StandardCharsets.UTF_8).length(),
+                                      new String(bytes, StandardCharsets.UTF_8));
+        }
+
+        @Override
+        void readRaw(final StringBuilder buffer, final int max) {
+            final var bound = (long) buffer.length() + max;
+            while (hasNext() && !isDelimiter(peek()) && buffer.length() <= bound) {
+                appendDecoded(buffer, nextByte());
+            }
+        }
+
+        @Override
+        void skipWhitespaces() {
+            while (hasNext()) {
+                buffer.position(scanWhitespaces(buffer.position()));
+                if (!buffer.hasRemaining()) continue;
+
+                if (!Character.isWhitespace(peek())) return;
+                nextByte();
+            }
+        }
+
+        @Override
+        boolean skipString() {
+            while (hasNext()) {
+                buffer.position(scanString(buffer.position(), false));
+                if (!buffer.hasRemaining()) continue;
+
+                final var b = nextByte();
+                if (b == '"') return true;
+                if (b == '\\' && hasNext()) {
+                    nextByte();
+                }
+            }
+            return false;
+        }
+
+        @Override
+        boolean skipNested() {
+            var depth = 1;
+            while (hasNext()) {
+                buffer.position(scanStructural(buffer.position()));
+                if (!buffer.hasRemaining()) continue;
+
+                switch (nextByte()) {
+                    case '"' -> {
+                        if (!skipString()) return false;
+                    }
+                    case '[', '{' -> ++depth;
+                    case ']', '}' -> {
+                        if (--depth == 0) return true;
+                    }
+                    default -> {}
+                }
+            }
+            return false;
+        }
+
+        /**
+         * Appends the ASCII bytes of the given range of the window to the
+         * given buffer. The bytes are copied in bulk through the scratch
+         * arrays.
+         *
+         * @param buffer the buffer to append the characters to
+         * @param start the index of the first byte
+         * @param end the index after the last byte
+         */
+        private void appendASCII(final StringBuilder buffer, int start, final int end) {
+            if (start < end && scratchBytes == null) {
+                scratchBytes = new byte[SCRATCH_SIZE];
+                scratchChars = new char[SCRATCH_SIZE];
+            }
+            while (start < end) {
+                final var length = Math.min(end - start, SCRATCH_SIZE);
+                this.buffer.get(start, scratchBytes, 0, length);
+                for (int i = 0; i < length; ++i) {
+                    scratchChars[i] = (char) scratchBytes[i];
+                }
+                buffer.append(scratchChars, 0, length);
+                start += length;
+            }
+        }
+
+        @Override
+        boolean readString(final StringBuilder buffer, final int max) {
+            final var bound = (long) buffer.length() + max;
+            while (hasNext() && buffer.length() <= bound) {
+                final var start = this.buffer.position();
+                final var end   = (int) Math.min(scanString(start, true), start + bound + 1 - buffer.length());
+                appendASCII(buffer, start, end);
+                this.buffer.position(end);
+                if (!this.buffer.hasRemaining() || buffer.length() > bound) continue;
+
+                final var b = nextByte();
+                if (b == '"') return true;
+
+                if (b == '\\') {
+                    if (!hasNext()) break;
+
+                    final var escaped = nextByte();
+                    if (escaped < 0x80) {
+                        appendEscaped(buffer, (char) escaped);
+                    } else {
+                        appendDecoded(buffer, escaped);
+                    }
+                } else {
+                    appendDecoded(buffer, b);
+                }
+            }
+            return false;
+        }
+
+    }
+
+    /**
+     * This class reads UTF-8 encoded bytes from a channel. The bytes are
+     * buffered in a window of fixed size, which is refilled when all of
+     * its bytes are consumed.
+     *
+     * @author mhahnFr
+     * @since 16.10.26
+     */
+    private static final class ChannelInput extends ByteInput {
+        /** The channel to read the bytes from. */
+        private final ReadableByteChannel channel;
+
+        /**
+         * Constructs this input using the given channel.
+         *
+         * @param channel the channel to read the bytes from
+         * @param size the size of the window
+         */
+        private ChannelInput(final ReadableByteChannel channel, final int size) {
+            super(ByteBuffer.allocate(size).flip());
+            this.channel = channel;
+        }
+
+        @Override
+        ByteBuffer nextWindow() throws IOException {
+            final var previous = buffer.limit();
+            buffer.clear();
+            int read;
+            do {
+                read = channel.read(buffer);
+            } while (read == 0);
+            if (read < 0) {
+                buffer.limit(previous).position(previous);
+                return null;
+            }
+            return buffer.flip();
+        }
+
+        @Override
+        public void close() throws IOException {
+            channel.close();
+        }
+    }
+
+    /**
+     * This class reads a UTF-8 encoded file by mapping it into memory.
+     * The file is mapped in consecutive windows, as a single mapping
+     * cannot exceed two gigabytes. The mapped pages are backed by the
+     * page cache of the operating system and are not copied into the
+     * heap.
+     *
+     * @author mhahnFr
+     * @since 16.10.26
+     */
+    private static final class MappedInput extends ByteInput {
+        /** The channel of the mapped file.                 */
+        private final FileChannel channel;
+        /** The size of the mapped file.                    */
+        private final long size;
+        /** The maximal size of a single mapped window.     */
+        private final int windowSize;
+        /** The index in the file up to which it is mapped. */
+        private long mapped;
+
+        /**
+         * Constructs this input using the given file channel. The first
+         * window of the file is mapped immediately.
+         *
+         * @param channel the channel of the file to be read
+         * @param windowSize the maximal size of a single mapped window
+         * @throws IOException if the file cannot be mapped
+         */
+        private MappedInput(final FileChannel channel, final int windowSize) throws IOException {
+            super(ByteBuffer.allocate(0));
+            this.channel    = channel;
+            this.size       = channel.size();
+            this.windowSize = windowSize;
+
+            final var first = nextWindow();
+            if (first != null) {
+                buffer = first.order(ByteOrder.LITTLE_ENDIAN);
+            }
+        }
+
+        @Override
+        ByteBuffer nextWindow() throws IOException {
+            if (mapped >= size) return null;
+
+            final var length = (int) Math.min(windowSize, size - mapped);
+            final var window = channel.map(FileChannel.MapMode.READ_ONLY, mapped, length);
+            mapped += length;
+            return window;
+        }
+
+        @Override
+        public void close() throws IOException {
+            channel.close();
+        }
+    }
+}
@@ -0,0 +1,449 @@
+/*
+ * JUtilities - Some utilities written for Java.
+ *
+ * Copyright (C) 2026  mhahnFr
+ *
+ * This file is part of the JUtilities. This library is free software:
+ * you can redistribute it and/or modify it under the terms of the
+ * GNU General Public License as published by the Free Software Foundation,
+ * either version 3 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with
+ * this library, see the file LICENSE.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package mhahnFr.utils.json;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Consumer;
+
+/**
+ * This class parses JSON Lines (NDJSON) data in parallel. The data
+ * consists of independent values, exactly one per line, which are bound
+ * to objects of the same class.
+ * <p>
+ * The data is split at line boundaries into chunks, which are parsed
+ * concurrently using the set {@link Executor}. The bound objects are
+ * handed to the consumer on the thread calling the reading method, so
+ * that the consumer does not need to be thread-safe. They are delivered
+ * either in the order of the lines or in the order their chunks finish.
+ * Only a bounded number of chunks is parsed ahead of the delivery.
+ * <p>
+ * The data is expected to be encoded in UTF-8. Files are read directly
+ * from a memory mapping.
+ *
+ * @param <T> the type of the bound objects
+ * @author mhahnFr
+ * @since 16.10.26
+ */
+public class JSONLinesParser<T> {
+    /** The default number of bytes per chunk.                        */
+    public static final int DEFAULT_CHUNK_SIZE = 1 << 20;
+
+    /** The class the values are bound to.                            */
+    private final Class<T> type;
+    /** The executor parsing the chunks.                              */
+    private Executor executor = ForkJoinPool.commonPool();
+    /** The minimal number of bytes per chunk.                        */
+    private int chunkSize = DEFAULT_CHUNK_SIZE;
+    /** The maximal number of chunks parsed ahead of the delivery.    */
+    private int maxPending = 2 * Runtime.getRuntime().availableProcessors();
+    /** Indicates whether the objects are delivered in line order.    */
+    private boolean ordered = true;
+    /** Indicates whether to use generated codecs.                    */
+    private boolean generatingCodecs = false;
+    /** Indicates whether to skip unknown fields.                     */
+    private boolean ignoringUnknownFields = false;
+
+    /**
+     * Constructs this parser binding the values to the given class.
+     *
+     * @param type the class of the bound objects
+     */
+    public JSONLinesParser(final Class<T> type) {
+        this.type = type;
+    }
+
+    /**
+     * This class keeps track of the chunks of a single reading call and
+     * delivers their objects.
+     *
+     * @author mhahnFr
+     * @since 16.10.26
+     */
+    private final class Batch {
+        /** The consumer to deliver the objects to.       */
+        private final Consumer<? super T> consumer;
+        /** The pending chunks in the order of the data.  */
+        private final List<CompletableFuture<List<T>>> pending = new ArrayList<>();
+
+        /**
+         * Constructs this batch.
+         *
+         * @param consumer the consumer to deliver the objects to
+         */
+        private Batch(final Consumer<? super T> consumer) {
+            this.consumer = consumer;
+        }
+
+        /**
+         * Submits the given chunk for parsing. If too many chunks are
+         * pending, the objects of a chunk are delivered first.
+         *
+         * @param chunk the chunk to be parsed
+         * @throws JSONParseException if a delivered chunk could not be parsed
+         * @throws ReflectiveOperationException if an object of a delivered chunk could not be filled
+         */
+        private void submit(final ByteBuffer chunk) throws JSONParseException, ReflectiveOperationException {
+            if (pending.size() >= maxPending) {
+                deliverNext();
+            }
+            pending.add(CompletableFuture.supplyAsync(() -> {
+                try {
+                    return parse(chunk);
+                } catch (JSONParseException | ReflectiveOperationException e) {
+                    throw new CompletionException(e);
+                }
+            }, executor));
+        }
+
+        /**
+         * Waits for the next chunk to be delivered and hands its objects
+         * to the consumer. If the objects are delivered unordered, the
+         * next chunk is the first one to finish.
+         *
+         * @throws JSONParseException if the chunk could not be parsed
+         * @throws ReflectiveOperationException if an object of the chunk could not be filled
+         */
+        private void deliverNext() throws JSONParseException, ReflectiveOperationException {
+            var index = 0;
+            if (!ordered) {
+                CompletableFuture.anyOf(pending.toArray(new CompletableFuture<?>[0]))
+                                 .exceptionally(__ -> null)
+                                 .join();
+                while (!pending.get(index).isDone()) ++index;
+            }
+            final List<T> values;
+            try {
+                values = pending.remove(index).join();
+            } catch (CompletionException e) {
+                final var cause = e.getCause();
+                if (cause instanceof JSONParseException parseException) throw parseException;
+                if (cause instanceof ReflectiveOperationException reflectiveException) throw reflectiveException;
+                if (cause instanceof RuntimeException runtimeException) throw runtimeException;
+                if (cause instanceof Error error) throw error;
+                throw e;
+            }
+            for (final var value : values) {
+                consumer.accept(value);
+            }
+        }
+
+        /**
+         * Delivers the objects of all pending chunks.
+         *
+         * @throws JSONParseException if a chunk could not be parsed
+         * @throws ReflectiveOperationException if an object could not be filled
+         */
+        private void finish() throws JSONParseException, ReflectiveOperationException {
+            while (!pending.isEmpty()) {
+                deliverNext();
+            }
+        }
+
+        /**
+         * Cancels the chunks that are still pending, if the reading
+         * has been aborted.
+         */
+        private void cancel() {
+            for (final var future : pending) {
+                future.cancel(false);
+            }
+            pending.clear();
+        }
+    }
+
+    /**
+     * Parses the values of the given chunk. Each line has to consist of
+     * exactly one value, optionally surrounded by whitespaces; lines
+     * consisting only of whitespaces are skipped. A value is checked to
+     * end in the line it begins in regardless of whether the line ends
+     * the chunk, so that the errors do not depend on the chunking.
+     *
+     * @param chunk the chunk to be parsed
+     * @return the bound objects in the order of the lines
+     * @throws JSONParseException if the JSON data is malformed
+     * @throws ReflectiveOperationException if an object could not be filled with the values
+     */
+    private List<T> parse(final ByteBuffer chunk) throws JSONParseException, ReflectiveOperationException {
+        final var parser = new JSONParser(chunk);
+        parser.setGeneratingCodecs(generatingCodecs);
+        parser.setIgnoringUnknownFields(ignoringUnknownFields);
+
+        final var reader = parser.getReader();
+        final var limit  = chunk.limit();
+        final var values = new ArrayList<T>();
+        while (reader.peek() != JSONToken.END_DOCUMENT) {
+            var lineEnd = (int) reader.getTokenStart();
+            while (lineEnd < limit && chunk.get(lineEnd) != '\n') ++lineEnd;
+
+            try {
+                values.add(parser.readValue(type));
+            } catch (final Exception e) {
+                if (reader.getIndex() <= lineEnd) throw e;
+            }
+            var i = (int) reader.getIndex();
+            if (i > lineEnd) {
+                throw new JSONParseException("Unexpected end of the line!", reader.createPosition(lineEnd));
+            }
+            while (i < lineEnd && isWhitespace(chunk.get(i))) ++i;
+            if (i < lineEnd) {
+                throw new JSONParseException("Expected the end of the line!", reader.createPosition(i));
+            }
+        }
+        return values;
+    }
+
+    /**
+     * Returns whether the given byte is a whitespace within a line.
+     *
+     * @param b the byte to be checked
+     * @return whether the byte is a whitespace
+     */
+    private static boolean isWhitespace(final byte b) {
+        return b == ' ' || b == '\t' || b == '\r';
+    }
+
+    /**
+     * Splits the given data at line boundaries into chunks and submits
+     * them to the given batch.
+     *
+     * @param data the data to be split
+     * @param batch the batch to submit the chunks to
+     * @throws JSONParseException if a delivered chunk could not be parsed
+     * @throws ReflectiveOperationException if an object of a delivered chunk could not be filled
+     */
+    private void split(final ByteBuffer data, final Batch batch) throws JSONParseException, ReflectiveOperationException {
+        final var limit = data.limit();
+
+        var start = 0;
+        while (start < limit) {
+            var end = (int) Math.min(limit, (long) start + chunkSize);
+            while (end < limit && data.get(end - 1) != '\n') ++end;
+
+            batch.submit(data.slice(start, end - start));
+            start = end;
+        }
+    }
+
+    /**
+     * Reads the values of the given UTF-8 encoded data and hands the
+     * bound objects to the given consumer.
+     *
+     * @param bytes the JSON Lines data
+     * @param consumer the consumer to deliver the bound objects to
+     * @throws JSONParseException if the JSON data is malformed
+     * @throws ReflectiveOperationException if an object could not be filled with the values
+     */
+    public void read(final byte[] bytes, final Consumer<? super T> consumer) throws JSONParseException, ReflectiveOperationException {
+        read(ByteBuffer.wrap(bytes), consumer);
+    }
+
+    /**
+     * Reads the values of the remaining UTF-8 encoded bytes of the given
+     * buffer and hands the bound objects to the given consumer. The bytes
+     * are not copied and must not be changed while they are read.
+     *
+     * @param buffer the buffer containing the JSON Lines data
+     * @param consumer the consumer to deliver the bound objects to
+     * @throws JSONParseException if the JSON data is malformed
+     * @throws ReflectiveOperationException if an object could not be filled with the values
+     */
+    public void read(final ByteBuffer buffer, final Consumer<? super T> consumer) throws JSONParseException, ReflectiveOperationException {
+        final var batch = new Batch(consumer);
+        try {
+            split(buffer.slice(), batch);
+            batch.finish();
+        } finally {
+            batch.cancel();
+        }
+    }
+
+    /**
+     * Reads the values of the UTF-8 encoded file at the given path and
+     * hands the bound objects to the given consumer. The file is mapped
+     * into memory in windows ending at line boundaries.
+     *
+     * @param path the path of the JSON Lines file
+     * @param consumer the consumer to deliver the bound objects to
+     * @throws IOException if the file cannot be read or a line exceeds the maximal mapping size
+     * @throws JSONParseException if the JSON data is malformed
+     * @throws ReflectiveOperationException if an object could not be filled with the values
+     */
+    public void read(final Path path, final Consumer<? super T> consumer) throws IOException, JSONParseException, ReflectiveOperationException {
+        try (final var channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            final var size  = channel.size();
+            final var batch = new Batch(consumer);
+            try {
+                var position = 0L;
+                while (position < size) {
+                    final var length = (int) Math.min(size - position, JSONInput.MAPPING_SIZE);
+                    final var window = channel.map(FileChannel.MapMode.READ_ONLY, position, length);
+
+                    var end = length;
+                    if (position + length < size) {
+                        while (end > 0 && window.get(end - 1) != '\n') --end;
+                        if (end == 0) {
+                            throw new IOException("A line exceeds the maximal mapping size!");
+                        }
+                    }
+                    split(window.slice(0, end), batch);
+                    position += end;
+                }
+                batch.finish();
+            } finally {
+                batch.cancel();
+            }
+        }
+    }
+
+    /**
+     * Returns the executor used to parse the chunks.
+     *
+     * @return the used executor
+     */
+    public Executor getExecutor() {
+        return executor;
+    }
+
+    /**
+     * Sets the executor used to parse the chunks. Defaults to the
+     * {@link ForkJoinPool#commonPool() common pool}.
+     *
+     * @param executor the executor to be used
+     * @throws NullPointerException if no executor is given
+     */
+    public void setExecutor(Executor executor) {
+        if (executor == null) throw new NullPointerException("The executor must not be null!");
+
+        this.executor = executor;
+    }
+
+    /**
+     * Returns the minimal number of bytes per chunk.
+     *
+     * @return the chunk size
+     */
+    public int getChunkSize() {
+        return chunkSize;
+    }
+
+    /**
+     * Sets the minimal number of bytes per chunk. A chunk is extended
+     * to the end of the line it ends in.
+     *
+     * @param chunkSize the chunk size
+     * @throws IllegalArgumentException if the chunk size is not positive
+     */
+    public void setChunkSize(int chunkSize) {
+        if (chunkSize <= 0) throw new IllegalArgumentException("The chunk size must be positive!");
+
+        this.chunkSize = chunkSize;
+    }
+
+    /**
+     * Returns the maximal number of chunks parsed ahead of the delivery.
+     *
+     * @return the maximal number of pending chunks
+     */
+    public int getMaxPending() {
+        return maxPending;
+    }
+
+    /**
+     * Sets the maximal number of chunks parsed ahead of the delivery.
+     * Defaults to twice the number of available processors.
+     *
+     * @param maxPending the maximal number of pending chunks
+     * @throws IllegalArgumentException if the number is not positive
+     */
+    public void setMaxPending(int maxPending) {
+        if (maxPending <= 0) throw new IllegalArgumentException("The number of pending chunks must be positive!");
+
+        this.maxPending = maxPending;
+    }
+
+    /**
+     * Returns whether the objects are delivered in the order of the lines.
+     *
+     * @return whether the delivery is ordered
+     */
+    public boolean isOrdered() {
+        return ordered;
+    }
+
+    /**
+     * Sets whether the objects are delivered in the order of the lines.
+     * Otherwise, the objects of a chunk are delivered as soon as the
+     * chunk is parsed; the objects of one chunk are still delivered in
+     * their order.
+     *
+     * @param ordered whether to deliver in order
+     */
+    public void setOrdered(boolean ordered) {
+        this.ordered = ordered;
+    }
+
+    /**
+     * Returns whether codecs are generated for the read classes.
+     *
+     * @return whether generated codecs are used
+     */
+    public boolean isGeneratingCodecs() {
+        return generatingCodecs;
+    }
+
+    /**
+     * Sets whether to generate specialized codecs for the read classes.
+     *
+     * @param generatingCodecs whether to use generated codecs
+     * @see JSONParser#setGeneratingCodecs(boolean)
+     */
+    public void setGeneratingCodecs(boolean generatingCodecs) {
+        this.generatingCodecs = generatingCodecs;
+    }
+
+    /**
+     * Returns whether the values of unknown fields are skipped.
+     *
+     * @return whether unknown fields are ignored
+     */
+    public boolean isIgnoringUnknownFields() {
+        return ignoringUnknownFields;
+    }
+
+    /**
+     * Sets whether to skip the values of unknown fields.
+     *
+     * @param ignoringUnknownFields whether to ignore unknown fields
+     * @see JSONParser#setIgnoringUnknownFields(boolean)
+     */
+    public void setIgnoringUnknownFields(boolean ignoringUnknownFields) {
+        this.ignoringUnknownFields = ignoringUnknownFields;
+    }
+}
@@ -0,0 +1,376 @@
+/*
+ * JUtilities - Some utilities written for Java.
+ *
+ * Copyright (C) 2026  mhahnFr
+ *
+ * This file is part of the JUtilities. This library is free software:
+ * you can redistribute it and/or modify it under the terms of the
+ * GNU General Public License as published by the Free Software Foundation,
+ * either version 3 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with
+ * this library, see the file LICENSE.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package mhahnFr.utils.json;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+
+/**
+ * This class parses numbers directly from the characters of their text
+ * without creating any objects.
+ * <p>
+ * Decimal numbers are converted using the exact fast path for small
+ * mantissas and exponents, otherwise using the algorithm by Eisel and
+ * Lemire, which is correctly rounded. In the rare cases the algorithm
+ * cannot decide the rounding, as well as for texts not in the plain
+ * decimal format, the conversion falls back to {@link Double#parseDouble(String)}.
+ *
+ * @author mhahnFr
+ * @since 16.10.26
+ */
+final class JSONNumbers {
+    /** The smallest power of ten in the table.                       */
+    private static final int MIN_EXPONENT = -342;
+    /** The largest power of ten in the table.                        */
+    private static final int MAX_EXPONENT = 308;
+    /** The maximum number of significant digits of a mantissa.       */
+    private static final int MAX_DIGITS   = 19;
+
+    /** The powers of ten exactly representable as {@code double}.    */
+    private static final double[] EXACT_POWERS = {
+        1e0,  1e1,  1e2,  1e3,  1e4,  1e5,  1e6,  1e7,  1e8,  1e9,  1e10, 1e11,
+        1e12, 1e13, 1e14, 1e15, 1e16, 1e17, 1e18, 1e19, 1e20, 1e21, 1e22
+    };
+    /** The powers of ten exactly representable as {@code float}.     */
+    private static final float[] EXACT_FLOAT_POWERS = {
+        1e0f, 1e1f, 1e2f, 1e3f, 1e4f, 1e5f, 1e6f, 1e7f, 1e8f, 1e9f, 1e10f
+    };
+    /**
+     * The 128 bit mantissas of the powers of ten from {@link #MIN_EXPONENT}
+     * to {@link #MAX_EXPONENT}, the high and the low half of each power
+     * stored one after the other.
+     */
+    private static final long[] POWERS = createPowers();
+
+    private JSONNumbers() {}
+
+    /**
+     * Computes the normalized 128 bit mantissas of the powers of ten.
+     * Powers that are not exactly representable are rounded down.
+     *
+     * @return the computed mantissas
+     */
+    private static long[] createPowers() {
+        final var toReturn = new long[(MAX_EXPONENT - MIN_EXPONENT + 1) * 2];
+        for (int q = MIN_EXPONENT; q <= MAX_EXPONENT; ++q) {
+            final var power = BigInteger.valueOf(5).pow(Math.abs(q));
+
+            final BigInteger mantissa;
+            if (q >= 0) {
+                final var shift = power.bitLength() - 128;
+                mantissa = shift > 0 ? power.shiftRight(shift) : power.shiftLeft(-shift);
+            } else {
+                mantissa = BigInteger.ONE.shiftLeft(power.bitLength() + 127).divide(power);
+            }
+            final var index = (q - MIN_EXPONENT) * 2;
+            toReturn[index]     = mantissa.shiftRight(64).longValue();
+            toReturn[index + 1] = mantissa.longValue();
+        }
+        return toReturn;
+    }
+
+    /**
+     * Returns whether the given character is a decimal digit.
+     *
+     * @param c the character to be checked
+     * @return whether the character is a digit
+     */
+    private static boolean isDigit(final char c) {
+        return c >= '0' && c <= '9';
+    }
+
+    /**
+     * Returns whether the given text is a number as defined by the JSON
+     * grammar: an optional minus, an integral part without leading zeros,
+     * an optional fraction and an optional exponent.
+     *
+     * @param text the text to be checked
+     * @return whether the text is a JSON number
+     */
+    static boolean isNumber(final CharSequence text) {
+        final var length = text.length();
+
+        var i = length > 0 && text.charAt(0) == '-' ? 1 : 0;
+        if (i == length || !isDigit(text.charAt(i))) return false;
+        if (text.charAt(i++) != '0') {
+            while (i < length && isDigit(text.charAt(i))) ++i;
+        }
+        if (i < length && text.charAt(i) == '.') {
+            if (++i == length || !isDigit(text.charAt(i))) return false;
+            while (i < length && isDigit(text.charAt(i))) ++i;
+        }
+        if (i < length && (text.charAt(i) == 'e' || text.charAt(i) == 'E')) {
+            if (++i < length && (text.charAt(i) == '+' || text.charAt(i) == '-')) ++i;
+            if (i == length || !isDigit(text.charAt(i))) return false;
+            while (i < length && isDigit(text.charAt(i))) ++i;
+        }
+        return i == length;
+    }
+
+    /**
+     * Parses the given number into the smallest representation holding
+     * it. Integral numbers are returned as {@code Long} or, if they do not
+     * fit, as {@code BigInteger}; other numbers are returned as
+     * {@code Double} or, if they exceed its range, as {@code BigDecimal}.
+     *
+     * @param text the text of the number
+     * @return the parsed number
+     * @throws NumberFormatException if the text is not a number
+     */
+    static Number parseNumber(final CharSequence text) {
+        final var begin = text.length() > 0 && text.charAt(0) == '-' ? 1 : 0;
+
+        var integral = text.length() > begin;
+        for (int i = begin; integral && i < text.length(); ++i) {
+            integral = isDigit(text.charAt(i));
+        }
+        if (integral) {
+            try {
+                return parseLong(text, Long.MIN_VALUE, Long.MAX_VALUE);
+            } catch (NumberFormatException e) {
+                return new BigInteger(text.toString());
+            }
+        }
+
+        final var value = parseDouble(text);
+        if (Double.isFinite(value)) {
+            return value;
+        } else if (!isNumber(text)) {
+            throw new NumberFormatException("Not a number: \"" + text + "\"");
+        }
+        return new BigDecimal(text.toString());
+    }
+
+    /**
+     * Parses the given integral number and checks its range. Decimal
+     * numbers are parsed directly, other representations are decoded
+     * using {@link JSONReader#decodeIntegral(String, long, long)}.
+     *
+     * @param text the text of the number
+     * @param min the minimal allowed value
+     * @param max the maximal allowed value
+     * @return the parsed number
+     * @throws NumberFormatException if the text is not an integral number in the given range
+     */
+    static long parseLong(final CharSequence text, final long min, final long max) {
+        final var length   = text.length();
+        final var negative = length > 1 && text.charAt(0) == '-';
+        final var begin    = negative ? 1 : 0;
+        if (length == begin || length - begin > 1 && text.charAt(begin) == '0') {
+            return JSONReader.decodeIntegral(text.toString(), min, max);
+        }
+
+        // Accumulated negatively, as the negative range is the larger one.
+        var value = 0L;
+        for (int i = begin; i < length; ++i) {
+            final var c = text.charAt(i);
+            if (!isDigit(c) || value < (Long.MIN_VALUE + (c - '0')) / 10) {
+                return JSONReader.decodeIntegral(text.toString(), min, max);
+            }
+            value = value * 10 - (c - '0');
+        }
+        if (!negative) {
+            if (value == Long.MIN_VALUE) {
+                throw new NumberFormatException("Value out of range. Value:\"" + text + "\"");
+            }
+            value = -value;
+        }
+        if (value < min || value > max) {
+            throw new NumberFormatException("Value out of range. Value:\"" + text + "\"");
+        }
+        return value;
+    }
+
+    /**
+     * Parses the given number as {@code double}.
+     *
+     * @param text the text of the number
+     * @return the parsed number
+     * @throws NumberFormatException if the text is not a number
+     */
+    static double parseDouble(final CharSequence text) {
+        final var length = text.length();
+
+        var i        = 0;
+        var negative = false;
+        if (i < length && (text.charAt(i) == '-' || text.charAt(i) == '+')) {
+            negative = text.charAt(i++) == '-';
+        }
+
+        var mantissa  = 0L;
+        var digits    = 0;
+        var exponent  = 0;
+        var truncated = false;
+        var anyDigit  = false;
+        for (; i < length && isDigit(text.charAt(i)); ++i) {
+            anyDigit = true;
+            final var digit = text.charAt(i) - '0';
+            if (digits < MAX_DIGITS) {
+                mantissa = mantissa * 10 + digit;
+                if (mantissa != 0) ++digits;
+            } else {
+                truncated |= digit != 0;
+                ++exponent;
+            }
+        }
+        if (i < length && text.charAt(i) == '.') {
+            for (++i; i < length && isDigit(text.charAt(i)); ++i) {
+                anyDigit = true;
+                final var digit = text.charAt(i) - '0';
+                if (digits < MAX_DIGITS) {
+                    mantissa = mantissa * 10 + digit;
+                    if (mantissa != 0) ++digits;
+                    --exponent;
+                } else {
+                    truncated |= digit != 0;
+                }
+            }
+        }
+        if (anyDigit && i < length && (text.charAt(i) == 'e' || text.charAt(i) == 'E')) {
+            ++i;
+            var negativeExponent = false;
+            if (i < length && (text.charAt(i) == '-' || text.charAt(i) == '+')) {
+                negativeExponent = text.charAt(i++) == '-';
+            }
+            if (i == length) return Double.parseDouble(text.toString());
+
+            var explicit = 0;
+            for (; i < length && isDigit(text.charAt(i)); ++i) {
+                if (explicit < 100_000) {
+                    explicit = explicit * 10 + (text.charAt(i) - '0');
+                }
+            }
+            exponent += negativeExponent ? -explicit : explicit;
+        }
+        if (!anyDigit || i != length || truncated) {
+            return Double.parseDouble(text.toString());
+        }
+
+        final var value = toDouble(mantissa, exponent);
+        if (Double.isNaN(value)) {
+            return Double.parseDouble(text.toString());
+        }
+        return negative ? -value : value;
+    }
+
+    /**
+     * Parses the given number as {@code float}. Mantissas and exponents
+     * small enough to be converted exactly are converted directly, other
+     * numbers are parsed using {@link Float#parseFloat(String)}.
+     *
+     * @param text the text of the number
+     * @return the parsed number
+     * @throws NumberFormatException if the text is not a number
+     */
+    static float parseFloat(final CharSequence text) {
+        final var length   = text.length();
+        final var negative = length > 0 && text.charAt(0) == '-';
+
+        var i        = negative ? 1 : 0;
+        var mantissa = 0L;
+        var exponent = 0;
+        var anyDigit = false;
+        for (; i < length && isDigit(text.charAt(i)) && mantissa < 1 << 24; ++i) {
+            anyDigit = true;
+            mantissa = mantissa * 10 + (text.charAt(i) - '0');
+        }
+        if (i < length && text.charAt(i) == '.') {
+            for (++i; i < length && isDigit(text.charAt(i)) && mantissa < 1 << 24; ++i) {
+                anyDigit = true;
+                mantissa = mantissa * 10 + (text.charAt(i) - '0');
+                --exponent;
+            }
+        }
+        if (!anyDigit || i != length || mantissa > 1 << 24 || exponent < -10) {
+            return Float.parseFloat(text.toString());
+        }
+        final var value = (float) mantissa / EXACT_FLOAT_POWERS[-exponent];
+        return negative ? -value : value;
+    }
+
+    /**
+     * Computes the unsigned high half of the product of the given values.
+     *
+     * @param a the first factor
+     * @param b the second factor
+     * @return the high 64 bits of the unsigned product
+     */
+    private static long multiplyHigh(final long a, final long b) {
+        return Math.multiplyHigh(a, b) + ((a >> 63) & b) + ((b >> 63) & a);
+    }
+
+    /**
+     * Converts the given decimal number to the nearest {@code double}.
+     *
+     * @param mantissa the decimal mantissa, as unsigned value
+     * @param exponent the decimal exponent
+     * @return the converted number or {@code NaN} if the rounding cannot be decided
+     */
+    private static double toDouble(final long mantissa, final int exponent) {
+        if (mantissa == 0 || exponent < MIN_EXPONENT) return 0;
+        if (exponent > MAX_EXPONENT) return Double.POSITIVE_INFINITY;
+
+        if (mantissa >= 0 && mantissa <= 1L << 53 && exponent >= -22 && exponent <= 22) {
+            return exponent < 0 ? mantissa / EXACT_POWERS[-exponent] : mantissa * EXACT_POWERS[exponent];
+        }
+
+        final var zeros      = Long.numberOfLeadingZeros(mantissa);
+        final var normalized = mantissa << zeros;
+        var binaryExponent   = (((217706 * exponent) >> 16) + 64 + 1023) - zeros;
+
+        final var index = (exponent - MIN_EXPONENT) * 2;
+        var high = multiplyHigh(normalized, POWERS[index]);
+        var low  = normalized * POWERS[index];
+        if ((high & 0x1FF) == 0x1FF && Long.compareUnsigned(low + normalized, normalized) < 0) {
+            final var lowerHigh = multiplyHigh(normalized, POWERS[index + 1]);
+            final var lowerLow  = normalized * POWERS[index + 1];
+
+            var mergedHigh      = high;
+            final var mergedLow = low + lowerHigh;
+            if (Long.compareUnsigned(mergedLow, low) < 0) ++mergedHigh;
+
+            if ((mergedHigh & 0x1FF) == 0x1FF && mergedLow == -1
+                && Long.compareUnsigned(lowerLow + normalized, normalized) < 0) {
+                return Double.NaN;
+            }
+            high = mergedHigh;
+            low  = mergedLow;
+        }
+
+        final var upper  = (int) (high >>> 63);
+        var result       = high >>> (upper + 9);
+        binaryExponent  -= 1 ^ upper;
+
+        if (low == 0 && (high & 0x1FF) == 0 && (result & 3) == 1) {
+            return Double.NaN;
+        }
+
+        result += result & 1;
+        result >>>= 1;
+        if (result >>> 53 > 0) {
+            result >>>= 1;
+            ++binaryExponent;
+        }
+        if (binaryExponent <= 0 || binaryExponent >= 0x7FF) {
+            return Double.NaN;
+        }
+        return Double.longBitsToDouble(((long) binaryExponent << 52) | (result & 0x000FFFFFFFFFFFFFL));
+    }
+}
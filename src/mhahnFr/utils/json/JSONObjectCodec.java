@@ -0,0 +1,74 @@
+/*
+ * JUtilities - Some utilities written for Java.
+ *
+ * Copyright (C) 2026  mhahnFr
+ *
+ * This file is part of the JUtilities. This library is free software:
+ * you can redistribute it and/or modify it under the terms of the
+ * GNU General Public License as published by the Free Software Foundation,
+ * either version 3 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with
+ * this library, see the file LICENSE.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package mhahnFr.utils.json;
+
+import java.io.IOException;
+
+/**
+ * This interface defines a codec reading and writing the fields of
+ * the objects of a single class. The codecs are discovered using the
+ * {@link java.util.ServiceLoader} and are preferred by the {@link JSONParser}
+ * and the {@link JSONWriter} over reflection.
+ * <p>
+ * Implementations are usually generated for the classes annotated
+ * using {@link JSONGenerateCodec}.
+ *
+ * @param <T> the type of the objects handled by this codec
+ * @author mhahnFr
+ * @since 16.10.26
+ */
+public interface JSONObjectCodec<T> {
+    /**
+     * Returns the class whose objects are handled by this codec.
+     *
+     * @return the handled class
+     */
+    Class<T> getType();
+
+    /**
+     * Creates a new, empty object to be filled.
+     *
+     * @return the newly created object
+     * @throws ReflectiveOperationException if the object cannot be created
+     */
+    T newInstance() throws ReflectiveOperationException;
+
+    /**
+     * Reads the fields of the given object. The opening and closing
+     * brackets of the object are consumed by the parser.
+     *
+     * @param parser the parser to read the values with
+     * @param obj the object to be filled
+     * @throws ReflectiveOperationException if a field could not be filled with the read value
+     * @throws JSONParseException if the JSON data could not be parsed
+     */
+    void read(JSONParser parser, T obj) throws ReflectiveOperationException, JSONParseException;
+
+    /**
+     * Writes the fields of the given object. The opening and closing
+     * brackets of the object are written by the writer.
+     *
+     * @param writer the writer to write the values with
+     * @param obj the object to be written
+     * @throws IOException if an I/O error occurs
+     * @throws IllegalAccessException if a field cannot be accessed
+     */
+    void write(JSONWriter writer, T obj) throws IOException, IllegalAccessException;
+}
@@ -1,7 +1,7 @@
 /*
  * JUtilities - Some utilities written for Java.
  *
- * Copyright (C) 2023 - 2024  mhahnFr
+ * Copyright (C) 2023 - 2026  mhahnFr
  *
  * This file is part of the JUtilities. This library is free software:
  * you can redistribute it and/or modify it under the terms of the
@@ -21,21 +21,42 @@ package mhahnFr.utils.json;
 
 import mhahnFr.utils.StringStream;
 
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.Reader;
 import java.lang.reflect.Array;
-import java.lang.reflect.Field;
 import java.lang.reflect.Type;
 import java.lang.reflect.ParameterizedType;
+import java.nio.ByteBuffer;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.file.Path;
 import java.util.*;
 
 /**
- * This class parses JSON data.
+ * This class parses JSON data. The data can be parsed from a
+ * {@link StringStream} or streamed from a {@link Reader}, an
+ * {@link InputStream} or a {@link ReadableByteChannel} without
+ * loading it completely into memory. UTF-8 encoded bytes are parsed
+ * without decoding them into characters first.
  *
  * @author mhahnFr
  * @since 13.01.23
  */
-public class JSONParser {
-    /** The stream to read the data from. */
-    private final StringStream stream;
+public class JSONParser implements Closeable {
+    /** Marks a value whose elements are still to be read. */
+    private static final Object PENDING = new Object();
+
+    /** The reader to read the tokens from.             */
+    private final JSONReader reader;
+    /** The frames of the containers being read.        */
+    private final List<Frame> frames = new ArrayList<>();
+    /** Indicates whether to use generated codecs.      */
+    private boolean generatingCodecs = false;
+    /** Indicates whether to reuse the existing values. */
+    private boolean reusing = false;
+    /** Indicates whether to skip unknown fields.       */
+    private boolean ignoringUnknownFields = false;
 
     /**
      * Constructs this parser using the given {@link StringStream}.
@@ -43,146 +64,234 @@ public class JSONParser {
      * @param stream the stream to read the data from
      */
     public JSONParser(StringStream stream) {
-        this.stream = stream;
+        this(new JSONReader(stream));
+    }
+
+    /**
+     * Constructs this parser using the given {@link Reader}.
+     *
+     * @param reader the reader to read the data from
+     */
+    public JSONParser(final Reader reader) {
+        this(new JSONReader(reader));
+    }
+
+    /**
+     * Constructs this parser using the given {@link InputStream}.
+     * The data is expected to be encoded in UTF-8.
+     *
+     * @param in the input stream to read the data from
+     */
+    public JSONParser(final InputStream in) {
+        this(new JSONReader(in));
+    }
+
+    /**
+     * Constructs this parser using the given {@link ReadableByteChannel}.
+     * The data is expected to be encoded in UTF-8.
+     *
+     * @param channel the channel to read the data from
+     */
+    public JSONParser(final ReadableByteChannel channel) {
+        this(new JSONReader(channel));
+    }
+
+    /**
+     * Constructs this parser using the given UTF-8 encoded bytes.
+     *
+     * @param bytes the bytes to read the data from
+     */
+    public JSONParser(final byte[] bytes) {
+        this(new JSONReader(bytes));
+    }
+
+    /**
+     * Constructs this parser using the remaining UTF-8 encoded bytes of
+     * the given buffer. The given buffer itself is not modified.
+     *
+     * @param buffer the buffer to read the data from
+     */
+    public JSONParser(final ByteBuffer buffer) {
+        this(new JSONReader(buffer));
+    }
+
+    /**
+     * Constructs this parser reading the UTF-8 encoded file at the given
+     * path. The file is mapped into memory and parsed directly from the
+     * mapping.
+     *
+     * @param path the path of the file to read the data from
+     * @throws IOException if the file cannot be opened or mapped
+     * @see JSONReader#JSONReader(Path)
+     */
+    public JSONParser(final Path path) throws IOException {
+        this(new JSONReader(path));
+    }
+
+    /**
+     * Constructs this parser using the given {@link JSONReader}.
+     *
+     * @param reader the reader to read the tokens from
+     */
+    public JSONParser(final JSONReader reader) {
+        this.reader = reader;
+    }
+
+    /**
+     * Returns the reader used by this parser. It can be used to read
+     * parts of the data token by token.
+     *
+     * @return the underlying reader
+     */
+    public JSONReader getReader() {
+        return reader;
     }
 
     /**
-     * Skips the whitespaces that follow.
+     * Tries to decode a raw value from the stream.
+     *
+     * @param c the class of the object to be read
+     * @return an object representing the read raw value
+     * @throws JSONParseException if no raw value follows
      */
-    private void skipWhitespaces() {
-        while (stream.hasNext() && Character.isWhitespace(stream.peek())) {
-            stream.skip();
+    private Object readRawValue(Class<?> c) throws JSONParseException {
+        if (reader.peek() == JSONToken.BOOLEAN) {
+            return reader.nextBoolean();
+        } else if (c.equals(Byte.class) || c.equals(Byte.TYPE)) {
+            return readByte();
+        } else if (c.equals(Short.class) || c.equals(Short.TYPE)) {
+            return readShort();
+        } else if (c.equals(Integer.class) || c.equals(Integer.TYPE)) {
+            return readInt();
+        } else if (c.equals(Long.class) || c.equals(Long.TYPE)) {
+            return readLong();
+        } else if (c.equals(Float.class) || c.equals(Float.TYPE)) {
+            return readFloat();
         }
+        return readDouble();
     }
 
     /**
-     * Checks whether the next characters equal the given string.
-     * If that is the case, they are consumed, otherwise an exception
-     * is thrown.
+     * Reads a {@code boolean} value from the stream.
      *
-     * @param string the string expected to follow
+     * @return the read value
      * @throws JSONParseException if the JSON data could not be parsed
      */
-    private void expect(final String string) throws JSONParseException {
-        expectKeep(string);
-        stream.skip(string.length());
+    public boolean readBoolean() throws JSONParseException {
+        return reader.nextBoolean();
     }
 
     /**
-     * Checks whether the next characters equal the given string.
-     * If this is not the case, an exception is thrown.
+     * Reads a {@code char} value from the stream.
      *
-     * @param string the string expected to follow
+     * @return the read value
      * @throws JSONParseException if the JSON data could not be parsed
      */
-    private void expectKeep(final String string) throws JSONParseException {
-        if (!stream.peek(string)) {
-            throw new JSONParseException("Expected \"" + string + "\"!", stream.getStreamPosition());
+    public char readChar() throws JSONParseException {
+        reader.peek();
+        final var start  = reader.getTokenStart();
+        final var string = reader.nextString();
+
+        if (string.length() != 1) {
+            throw new JSONParseException("Expected a single character!", reader.createPosition(start));
         }
+        return string.charAt(0);
     }
 
     /**
-     * Reads a string. It is expected to be in the format: {@code "< content >"}.
+     * Reads a {@code byte} value from the stream.
      *
-     * @return the read string, without quotation
+     * @return the read value
      * @throws JSONParseException if the JSON data could not be parsed
-     * @see #expect(String)
      */
-    private String readString() throws JSONParseException {
-        expect("\"");
-
-        final var buffer = new StringBuilder();
-        while (stream.hasNext() && !stream.peek('"')) {
-            if (stream.peek('\\')) stream.next();
+    public byte readByte() throws JSONParseException {
+        return (byte) reader.nextIntegral(Byte.MIN_VALUE, Byte.MAX_VALUE);
+    }
 
-            buffer.append(stream.next());
-        }
-        expect("\"");
-        return buffer.toString();
+    /**
+     * Reads a {@code short} value from the stream.
+     *
+     * @return the read value
+     * @throws JSONParseException if the JSON data could not be parsed
+     */
+    public short readShort() throws JSONParseException {
+        return (short) reader.nextIntegral(Short.MIN_VALUE, Short.MAX_VALUE);
     }
 
     /**
-     * Reads a field. It is expected to be a string followed by a colon.
+     * Reads an {@code int} value from the stream.
      *
-     * @return the name of the read field
+     * @return the read value
      * @throws JSONParseException if the JSON data could not be parsed
-     * @see #expect(String)
-     * @see #readString()
      */
-    private String readField() throws JSONParseException {
-        final var toReturn = readString();
-        skipWhitespaces();
-        expect(":");
-        return toReturn;
+    public int readInt() throws JSONParseException {
+        return reader.nextInt();
     }
 
     /**
-     * Returns the field named by the given string in the given object.
+     * Reads a {@code long} value from the stream.
      *
-     * @param obj the object whose field should be returned
-     * @param name the name of the field
-     * @return the field of the given object named by the given string
-     * @throws NoSuchFieldException if the requested field does not exist in the given object
+     * @return the read value
+     * @throws JSONParseException if the JSON data could not be parsed
      */
-    private Field getField(final Object obj, final String name) throws NoSuchFieldException {
-        final var c = obj.getClass();
+    public long readLong() throws JSONParseException {
+        return reader.nextLong();
+    }
 
-        try {
-            return c.getField(name);
-        } catch (NoSuchFieldException __) {
-            final var field = c.getDeclaredField(name);
-            field.trySetAccessible();
-            return field;
-        }
+    /**
+     * Reads a {@code float} value from the stream.
+     *
+     * @return the read value
+     * @throws JSONParseException if the JSON data could not be parsed
+     */
+    public float readFloat() throws JSONParseException {
+        return reader.nextFloat();
     }
 
     /**
-     * Peeks the given string in the underlying string. If the given
-     * string is following in the stream, it is consumed.
+     * Reads a {@code double} value from the stream.
      *
-     * @param string the string to be peeked
-     * @return whether stream was following in the stream
+     * @return the read value
+     * @throws JSONParseException if the JSON data could not be parsed
      */
-    private boolean peekConsume(final String string) {
-        if (stream.peek(string)) {
-            stream.skip(string.length());
-            return true;
-        }
-        return false;
+    public double readDouble() throws JSONParseException {
+        return reader.nextDouble();
     }
 
     /**
-     * Tries to decode a raw value from the stream.
+     * Reads a string value from the stream.
      *
-     * @param c the class of the object to be read
-     * @return an object representing the read raw value
+     * @return the read string
+     * @throws JSONParseException if the JSON data could not be parsed
      */
-    private Object readRawValue(Class<?> c) {
-        final var buffer = new StringBuilder();
-        while (stream.hasNext() && !(Character.isWhitespace(stream.peek()) ||
-                                     stream.peek(',')                   ||
-                                     stream.peek('}')                   ||
-                                     stream.peek(']'))) {
-            buffer.append(stream.next());
+    public String readStringValue() throws JSONParseException {
+        if (reader.peek() != JSONToken.STRING) {
+            throw new JSONParseException("Expected a string!", reader.getPosition());
         }
-        final var string = buffer.toString();
+        return reader.nextString();
+    }
 
-        final var isTrue = string.equals("true");
-        final var isFalse = string.equals("false");
-        if (isTrue || isFalse) {
-            return isTrue;
-        } else if (c.equals(Byte.class) || c.equals(Byte.TYPE)) {
-            return Byte.decode(string);
-        } else if (c.equals(Short.class) || c.equals(Short.TYPE)) {
-            return Short.decode(string);
-        } else if (c.equals(Integer.class) || c.equals(Integer.TYPE)) {
-            return Integer.decode(string);
-        } else if (c.equals(Long.class) || c.equals(Long.TYPE)) {
-            return Long.decode(string);
-        } else if (c.equals(Float.class) || c.equals(Float.TYPE)) {
-            return Float.valueOf(string);
+    /**
+     * Reads a raw value from the stream and stores it in the given
+     * primitive field of the given object without boxing it.
+     *
+     * @param obj the object whose field to set
+     * @param field the primitive field to be set
+     * @throws ReflectiveOperationException if the field cannot be set
+     * @throws JSONParseException if the JSON data could not be parsed
+     */
+    private void readPrimitive(final Object obj, final JSONFieldInfo field) throws ReflectiveOperationException, JSONParseException {
+        final var accessor = field.getAccessor();
+        switch (field.getPrimitive()) {
+            case BOOLEAN -> accessor.setBoolean(obj, readBoolean());
+            case CHAR    -> accessor.setChar(obj, readChar());
+            case BYTE    -> accessor.setByte(obj, readByte());
+            case SHORT   -> accessor.setShort(obj, readShort());
+            case INT     -> accessor.setInt(obj, readInt());
+            case LONG    -> accessor.setLong(obj, readLong());
+            case FLOAT   -> accessor.setFloat(obj, readFloat());
+            case DOUBLE  -> accessor.setDouble(obj, readDouble());
         }
-        return Double.valueOf(string);
     }
 
     /**
@@ -191,161 +300,756 @@ public class JSONParser {
      *
      * @param c the class of the object to be read
      * @return a string or an enum representation depending on the given class
-     * @throws ReflectiveOperationException if the class is an enum and its {@code valueOf} method cannot be invoked
-     * @throws JSONParseException if the JSON data could not be parsed
+     * @throws JSONParseException if the JSON data could not be parsed or if the enum constant does not exist
      */
-    private Object readStringEnum(Class<?> c) throws ReflectiveOperationException, JSONParseException {
-        final var buffer = readString();
-        if (Enum.class.isAssignableFrom(c)) {
-            return c.getMethod("valueOf", String.class).invoke(null, buffer);
+    private Object readStringEnum(JSONClassInfo c) throws JSONParseException {
+        reader.peek();
+        final var start = reader.getTokenStart();
+        return toStringEnum(c, reader.nextString(), start);
+    }
+
+    /**
+     * Returns an enum representation of the given string if the given
+     * class is an enum, its only character if the given class is
+     * {@link Character}, otherwise the string itself.
+     *
+     * @param c the class of the object to be read
+     * @param string the read string
+     * @param start the index of the read string in the input
+     * @return a string, a character or an enum representation depending on the given class
+     * @throws JSONParseException if the enum constant does not exist or the string is not a single character
+     */
+    private Object toStringEnum(final JSONClassInfo c, final String string, final long start) throws JSONParseException {
+        if (c.isEnum()) {
+            final var constant = c.getEnumConstant(string);
+            if (constant == null) {
+                throw new JSONParseException("No enum constant " + c.getType().getName() + "." + string + "!",
+                                             reader.createPosition(start));
+            }
+            return constant;
+        } else if (c.getType() == Character.class) {
+            if (string.length() != 1) {
+                throw new JSONParseException("Expected a single character!", reader.createPosition(start));
+            }
+            return string.charAt(0);
         }
-        return buffer;
+        return string;
     }
 
     /**
-     * Reads an array from the stream.
+     * Returns the initial capacity of an array read into the place of
+     * the given existing array.
      *
-     * @param c the class of the array to be read
-     * @param type the generic type that might be present
-     * @return an array consisting of the objects read from the stream
-     * @throws ReflectiveOperationException if an object cannot be filled with the values
+     * @param existing the existing array or {@code null}
+     * @return the initial capacity
+     */
+    private static int capacity(final Object existing) {
+        return existing == null ? 16 : Math.max(16, Array.getLength(existing));
+    }
+
+    /**
+     * Finishes the given read array. If the given existing array has the
+     * number of read elements, the elements are copied into it and it is
+     * returned; otherwise the read array is trimmed to its size.
+     *
+     * @param array the read array
+     * @param size the number of read elements
+     * @param existing the existing array of the same type or {@code null}
+     * @return the finished array
+     */
+    private static Object finishArray(final Object array, final int size, final Object existing) {
+        final Object result;
+        if (existing != null && Array.getLength(existing) == size) {
+            result = existing;
+        } else if (Array.getLength(array) == size) {
+            return array;
+        } else {
+            result = Array.newInstance(array.getClass().getComponentType(), size);
+        }
+        System.arraycopy(array, 0, result, 0, size);
+        return result;
+    }
+
+    /**
+     * Reads an array of the given primitive type from the stream. The
+     * elements are read directly into a growing array of the primitive
+     * type, which is trimmed once at the end. An existing array of the
+     * same type is only filled and returned if its length matches.
+     *
+     * @param primitive the primitive component type
+     * @param existing the existing array to be reused or {@code null}
+     * @return the read array
      * @throws JSONParseException if the JSON data could not be parsed
      */
-    private Object readArray(Class<?> c, Type type) throws ReflectiveOperationException, JSONParseException {
-        final var underlying = c.componentType();
+    private Object readPrimitiveArray(final JSONPrimitive primitive, final Object existing) throws JSONParseException {
+        var size = 0;
+        switch (primitive) {
+            case BOOLEAN -> {
+                final var reused = existing instanceof boolean[] a ? a : null;
+
+                var array = new boolean[capacity(reused)];
+                for (; reader.hasNext(); ++size) {
+                    if (size == array.length) array = Arrays.copyOf(array, size * 2);
+                    array[size] = readBoolean();
+                }
+                return finishArray(array, size, reused);
+            }
+            case BYTE -> {
+                final var reused = existing instanceof byte[] a ? a : null;
 
-        skipWhitespaces();
-        if (stream.peek(']')) { return Array.newInstance(underlying, 0); }
+                var array = new byte[capacity(reused)];
+                for (; reader.hasNext(); ++size) {
+                    if (size == array.length) array = Arrays.copyOf(array, size * 2);
+                    array[size] = readByte();
+                }
+                return finishArray(array, size, reused);
+            }
+            case SHORT -> {
+                final var reused = existing instanceof short[] a ? a : null;
 
-        final var list = new ArrayList<>();
-        do {
-            list.add(readObject(underlying, type));
-            skipWhitespaces();
-        } while (peekConsume(","));
+                var array = new short[capacity(reused)];
+                for (; reader.hasNext(); ++size) {
+                    if (size == array.length) array = Arrays.copyOf(array, size * 2);
+                    array[size] = readShort();
+                }
+                return finishArray(array, size, reused);
+            }
+            case CHAR -> {
+                final var reused = existing instanceof char[] a ? a : null;
 
-        final var toReturn = Array.newInstance(underlying, list.size());
-        for (int i = 0; i < list.size(); ++i) {
-            Array.set(toReturn, i, list.get(i));
+                var array = new char[capacity(reused)];
+                for (; reader.hasNext(); ++size) {
+                    if (size == array.length) array = Arrays.copyOf(array, size * 2);
+                    array[size] = readChar();
+                }
+                return finishArray(array, size, reused);
+            }
+            case INT -> {
+                final var reused = existing instanceof int[] a ? a : null;
+
+                var array = new int[capacity(reused)];
+                for (; reader.hasNext(); ++size) {
+                    if (size == array.length) array = Arrays.copyOf(array, size * 2);
+                    array[size] = readInt();
+                }
+                return finishArray(array, size, reused);
+            }
+            case LONG -> {
+                final var reused = existing instanceof long[] a ? a : null;
+
+                var array = new long[capacity(reused)];
+                for (; reader.hasNext(); ++size) {
+                    if (size == array.length) array = Arrays.copyOf(array, size * 2);
+                    array[size] = readLong();
+                }
+                return finishArray(array, size, reused);
+            }
+            case FLOAT -> {
+                final var reused = existing instanceof float[] a ? a : null;
+
+                var array = new float[capacity(reused)];
+                for (; reader.hasNext(); ++size) {
+                    if (size == array.length) array = Arrays.copyOf(array, size * 2);
+                    array[size] = readFloat();
+                }
+                return finishArray(array, size, reused);
+            }
+            default -> {
+                final var reused = existing instanceof double[] a ? a : null;
+
+                var array = new double[capacity(reused)];
+                for (; reader.hasNext(); ++size) {
+                    if (size == array.length) array = Arrays.copyOf(array, size * 2);
+                    array[size] = readDouble();
+                }
+                return finishArray(array, size, reused);
+            }
         }
-        return toReturn;
     }
 
     /**
-     * Reads a collection from the stream.
+     * Creates a new collection of the given type. For interfaces, an
+     * {@link ArrayList}, a {@link HashSet}, a {@link TreeSet} or an
+     * {@link ArrayDeque} is created, whichever implements the interface.
      *
-     * @param c the class of the collection
      * @param type the generic type of the collection
-     * @return a collection consisting of the objects read from the stream
-     * @throws ReflectiveOperationException if an object cannot be filled with the values
-     * @throws JSONParseException if the JSON data could not be parsed
+     * @return the new collection
+     * @throws ReflectiveOperationException if the collection could not be instantiated
      */
     @SuppressWarnings("unchecked")
-    private Object readCollection(Class<?> c, Type type) throws ReflectiveOperationException, JSONParseException {
-        final Collection<Object> collection;
-        if (c.isInterface()) {
-            collection = new ArrayList<>();
-        } else {
-            collection = (Collection<Object>) c.getConstructor().newInstance();
+    private static Collection<Object> newCollection(final JSONTypeInfo type) throws ReflectiveOperationException {
+        final var raw = type.getRawClass();
+        if (!raw.isInterface()) {
+            return (Collection<Object>) type.getClassInfo().newInstance();
+        } else if (raw.isAssignableFrom(ArrayList.class)) {
+            return new ArrayList<>();
+        } else if (raw.isAssignableFrom(HashSet.class)) {
+            return new HashSet<>();
+        } else if (raw.isAssignableFrom(TreeSet.class)) {
+            return new TreeSet<>();
         }
-
-        skipWhitespaces();
-        if (stream.peek(']')) { return collection; }
-
-        final var actualType = ((ParameterizedType) type).getActualTypeArguments()[0];
-
-        final Class<?> underlying = getMaybeGenericClass(actualType);
-        do {
-            collection.add(readObject(underlying, actualType));
-            skipWhitespaces();
-        } while (peekConsume(","));
-        return collection;
+        return new ArrayDeque<>();
     }
 
     /**
-     * Reads a mapping from the stream.
+     * Creates a new map of the given type. For interfaces, a
+     * {@link HashMap} or a {@link TreeMap} is created, whichever
+     * implements the interface.
      *
-     * @param c the class of the map
      * @param type the generic type of the map
-     * @param isStringDict whether the map is a string dictionary
-     * @return a map consisting of the objects read from the stream
-     * @throws ReflectiveOperationException if an object cannot be filled with the values
-     * @throws JSONParseException if the JSON data could not be parsed
+     * @return the new map
+     * @throws ReflectiveOperationException if the map could not be instantiated
      */
     @SuppressWarnings("unchecked")
-    private Object readMap(Class<?> c, Type type, final boolean isStringDict) throws ReflectiveOperationException, JSONParseException {
-        final Map<Object, Object> map;
-        if (c.isInterface()) {
-            map = new HashMap<>();
-        } else {
-            map = (Map<Object, Object>) c.getConstructor().newInstance();
+    private static Map<Object, Object> newMap(final JSONTypeInfo type) throws ReflectiveOperationException {
+        final var raw = type.getRawClass();
+        if (!raw.isInterface()) {
+            return (Map<Object, Object>) type.getClassInfo().newInstance();
+        } else if (raw.isAssignableFrom(HashMap.class)) {
+            return new HashMap<>();
         }
+        return new TreeMap<>();
+    }
 
-        skipWhitespaces();
-        if (stream.peek(isStringDict ? '}' : ']')) { return map; }
+    /**
+     * Begins reading a value of the given type. Values that are not
+     * containers are read completely. For containers, the beginning is
+     * consumed and a frame reading the elements is pushed onto the stack
+     * of frames; in this case {@link #PENDING} is returned.
+     *
+     * @param type the generic type of the value to be read
+     * @param existing the existing value to be reused or {@code null}
+     * @return the read value or {@link #PENDING}
+     * @throws ReflectiveOperationException if the object could not be filled with the read values
+     * @throws JSONParseException if the JSON data could not be parsed
+     * @see #beginObject(Object, JSONClassInfo)
+     * @see #beginCollection(JSONTypeInfo, boolean, Object)
+     * @see #readStringEnum(JSONClassInfo)
+     * @see #readRawValue(Class)
+     * @see JSONCodec#read(JSONParser, Type)
+     */
+    private Object beginValue(final JSONTypeInfo type, final Object existing) throws ReflectiveOperationException, JSONParseException {
+        final var token        = reader.peek();
+        final var isStringDict = type.isStringDictionary();
+        final var c            = type.getClassInfo();
+        final var codec        = c.getValueCodec();
 
-        final var actualTypes = ((ParameterizedType) type).getActualTypeArguments();
+        if (codec != null) {
+            if (token != JSONToken.NULL) return codec.read(this, type.getType());
 
-        final var keyType     = actualTypes[0];
-        final var valueType   = actualTypes[1];
+            reader.nextNull();
+            return codec.nullValue();
+        } else if (token == JSONToken.BEGIN_OBJECT && !isStringDict) {
+            return beginObject(existing != null && existing.getClass() == c.getType() ? existing : c.newInstance(), c);
+        } else if (token == (isStringDict ? JSONToken.BEGIN_OBJECT : JSONToken.BEGIN_ARRAY)) {
+            return beginCollection(type, isStringDict, existing);
+        } else if (token == JSONToken.STRING) {
+            return readStringEnum(c);
+        } else if (token == JSONToken.NULL) {
+            reader.nextNull();
+            return null;
+        }
+        return readRawValue(type.getRawClass());
+    }
+
+    /**
+     * Begins reading the fields of the given object. Objects read by
+     * a codec are read completely; otherwise, a frame reading the fields
+     * is pushed and {@link #PENDING} is returned.
+     *
+     * @param obj the object to be filled
+     * @param c the class information of the given object
+     * @return the filled object or {@link #PENDING}
+     * @throws ReflectiveOperationException if the object could not be filled with the read values
+     * @throws JSONParseException if the JSON data could not be parsed
+     */
+    private Object beginObject(final Object obj, final JSONClassInfo c) throws ReflectiveOperationException, JSONParseException {
+        reader.beginObject();
 
-        final Class<?> keyClass   = getMaybeGenericClass(keyType),
-                       valueClass = getMaybeGenericClass(valueType);
-        do {
-            final var key = readObject(keyClass, keyType);
-            skipWhitespaces();
-            expect(isStringDict ? ":" : ",");
-            final var value = readObject(valueClass, valueType);
-            map.put(key, value);
-            skipWhitespaces();
-        } while (peekConsume(","));
-        return map;
+        final var registeredCodec = c.getRegisteredCodec();
+        final var codec           = generatingCodecs ? c.getCodec() : null;
+        if (registeredCodec != null) {
+            registeredCodec.read(this, obj);
+        } else if (codec != null) {
+            codec.read(this, obj);
+        } else {
+            frames.add(new ObjectFrame(obj, c));
+            return PENDING;
+        }
+        reader.endObject();
+        return obj;
     }
 
     /**
-     * Reads an array, collection or mapping from the stream.
+     * Begins reading an array, collection or mapping. Arrays of a
+     * primitive type are read completely; otherwise, a frame reading the
+     * elements is pushed and {@link #PENDING} is returned.
      *
-     * @param c the class of the collection
      * @param type the generic type of the collection
      * @param isStringDict whether the collection is a string dictionary
-     * @return a collection consisting of the read objects
-     * @throws ReflectiveOperationException if an object could not be filled with the values
+     * @param existing the existing collection to be reused or {@code null}
+     * @return the read primitive array or {@link #PENDING}
+     * @throws ReflectiveOperationException if the collection could not be instantiated
      * @throws JSONParseException if the JSON data could not be parsed
-     * @see #readArray(Class, Type)
-     * @see #readCollection(Class, Type)
-     * @see #readMap(Class, Type, boolean)
      */
-    private Object readCollectionKind(Class<?> c, Type type, final boolean isStringDict) throws ReflectiveOperationException, JSONParseException {
-        final Object toReturn;
+    @SuppressWarnings("unchecked")
+    private Object beginCollection(JSONTypeInfo type, final boolean isStringDict, final Object existing) throws ReflectiveOperationException, JSONParseException {
+        final var c = type.getClassInfo();
 
-        if (isStringDict || Map.class.isAssignableFrom(c)) {
-            toReturn = readMap(c, type, isStringDict);
-        } else if (c.isArray()) {
-            toReturn = readArray(c, type);
-        } else if (Collection.class.isAssignableFrom(c)) {
-            toReturn = readCollection(c, type);
-        } else {
+        if (!isStringDict && !c.isMap() && !c.isArray() && !c.isCollection()) {
             // Problem!
             throw new RuntimeException("Unknown collection type!");
         }
-        skipWhitespaces();
-        expect(isStringDict ? "}" : "]");
-        return toReturn;
+
+        if (isStringDict) {
+            reader.beginObject();
+        } else {
+            reader.beginArray();
+        }
+
+        final Frame frame;
+        if (isStringDict || c.isMap()) {
+            frame = new MapFrame(type, isStringDict, existing);
+        } else if (c.isArray() && type.getComponent().getPrimitive() != null) {
+            final var array = readPrimitiveArray(type.getComponent().getPrimitive(), existing);
+            reader.endArray();
+            return array;
+        } else if (c.isArray()) {
+            frame = new ArrayFrame(type, existing);
+        } else if (existing instanceof List<?> && existing instanceof RandomAccess) {
+            frame = new ListFrame(type, (List<Object>) existing);
+        } else {
+            frame = new CollectionFrame(type, existing);
+        }
+        frames.add(frame);
+        return PENDING;
     }
 
     /**
-     * Reads an object from the stream.
+     * Reads the elements of the frames above the given base until the
+     * frame at the base is finished. The given value is the result of
+     * beginning the read value; if it is {@link #PENDING}, the frame of
+     * the value has been pushed.
      *
-     * @param c the class of the object
-     * @return the read object
-     * @throws ReflectiveOperationException if the object could not be filled with the read values
+     * @param base the number of frames below the read value
+     * @param value the value returned by beginning the read value
+     * @return the read value
+     * @throws ReflectiveOperationException if an object could not be filled with the read values
      * @throws JSONParseException if the JSON data could not be parsed
      */
-    private Object readObjectKind(final Class<?> c) throws ReflectiveOperationException, JSONParseException {
-        final var value = c.getConstructor().newInstance();
-        readInto(value);
+    private Object readFrames(final int base, Object value) throws ReflectiveOperationException, JSONParseException {
+        while (frames.size() > base) {
+            final var frame = frames.get(frames.size() - 1);
+            if (value != PENDING) frame.accept(value);
+
+            value = frame.step();
+            if (value != PENDING) frames.remove(frames.size() - 1);
+        }
         return value;
     }
 
+    /**
+     * Removes the frames above the given base, which are left over if
+     * reading failed, so that this parser can be used again.
+     *
+     * @param base the number of frames to keep
+     */
+    private void discardFrames(final int base) {
+        if (frames.size() > base) frames.subList(base, frames.size()).clear();
+    }
+
+    /**
+     * Represents an object, array, collection or mapping whose elements
+     * are being read. The open containers are kept on an explicit stack,
+     * so that the nesting depth of the read values is not bound by the
+     * call stack.
+     *
+     * @author mhahnFr
+     * @since 17.10.26
+     */
+    private abstract static class Frame {
+        /**
+         * Reads the following elements. Stops at the first element that is
+         * a container whose frame is pushed, in which case {@link #PENDING}
+         * is returned. Once all elements are read, the end of the container
+         * is consumed and the read value is returned.
+         *
+         * @return the read value or {@link #PENDING}
+         * @throws ReflectiveOperationException if an object could not be filled with the read values
+         * @throws JSONParseException if the JSON data could not be parsed
+         */
+        abstract Object step() throws ReflectiveOperationException, JSONParseException;
+
+        /**
+         * Adds the given element, whose frame has been pushed by the last
+         * step.
+         *
+         * @param value the read element
+         * @throws ReflectiveOperationException if the element could not be added
+         */
+        abstract void accept(Object value) throws ReflectiveOperationException;
+    }
+
+    /**
+     * A frame reading the fields of an object. The field at the expected
+     * index is compared with the read name first; the name is only looked
+     * up if it denotes another field. Since the fields usually follow in
+     * the same order, the field following the read one is expected next.
+     *
+     * @author mhahnFr
+     * @since 17.10.26
+     * @see JSONFieldTable#matches(int, CharSequence)
+     */
+    private final class ObjectFrame extends Frame {
+        /** The object to be filled.                    */
+        private final Object obj;
+        /** The field table of the class of the object. */
+        private final JSONFieldTable table;
+        /** The index of the field expected next.       */
+        private int expected = 0;
+        /** The field whose value is pending.           */
+        private JSONFieldInfo pending;
+
+        /**
+         * Constructs this frame for the given object.
+         *
+         * @param obj the object to be filled
+         * @param c the class information of the given object
+         */
+        ObjectFrame(final Object obj, final JSONClassInfo c) {
+            this.obj   = obj;
+            this.table = c.getFieldTable();
+        }
+
+        @Override
+        Object step() throws ReflectiveOperationException, JSONParseException {
+            while (reader.hasNext()) {
+                final var name  = reader.nextNameBuffer();
+                final var index = table.matches(expected, name) ? expected : table.indexOf(name);
+                if (index < 0) {
+                    if (!ignoringUnknownFields) throw new NoSuchFieldException(name.toString());
+
+                    reader.skipValueUnchecked();
+                    continue;
+                }
+                expected = index + 1;
+
+                final var field = table.getField(index);
+                if (field.getPrimitive() != null) {
+                    readPrimitive(obj, field);
+                    continue;
+                }
+                final var accessor = field.getAccessor();
+                final var value    = beginValue(field.getType(), reusing ? accessor.get(obj) : null);
+                if (value == PENDING) {
+                    pending = field;
+                    return PENDING;
+                }
+                accessor.set(obj, value);
+            }
+            reader.endObject();
+            return obj;
+        }
+
+        @Override
+        void accept(final Object value) throws ReflectiveOperationException {
+            pending.getAccessor().set(obj, value);
+        }
+    }
+
+    /**
+     * A frame reading the elements of an array. The elements are read
+     * into a growing array, which is trimmed once at the end. The
+     * elements of an existing array of the same type are reused; the
+     * existing array is only filled and returned if its length matches,
+     * so that it is left untouched otherwise.
+     *
+     * @author mhahnFr
+     * @since 17.10.26
+     */
+    private final class ArrayFrame extends Frame {
+        /** The type of the elements.                        */
+        private final JSONTypeInfo component;
+        /** The existing array to be reused or {@code null}. */
+        private final Object[] reused;
+        /** The growing array of the read elements.          */
+        private Object[] array;
+        /** The number of read elements.                     */
+        private int size = 0;
+
+        /**
+         * Constructs this frame for an array of the given type.
+         *
+         * @param type the type of the array to be read
+         * @param existing the existing array to be reused or {@code null}
+         */
+        ArrayFrame(final JSONTypeInfo type, final Object existing) {
+            this.component = type.getComponent();
+            this.reused    = existing != null && existing.getClass() == type.getRawClass() ? (Object[]) existing : null;
+            this.array     = (Object[]) Array.newInstance(component.getRawClass(), capacity(reused));
+        }
+
+        @Override
+        Object step() throws ReflectiveOperationException, JSONParseException {
+            while (reader.hasNext()) {
+                if (size == array.length) array = Arrays.copyOf(array, size * 2);
+
+                final var value = beginValue(component, reused != null && size < reused.length ? reused[size] : null);
+                if (value == PENDING) return PENDING;
+
+                array[size++] = value;
+            }
+            reader.endArray();
+            return finishArray(array, size, reused);
+        }
+
+        @Override
+        void accept(final Object value) {
+            array[size++] = value;
+        }
+    }
+
+    /**
+     * A frame reading the elements of a collection into an existing
+     * list. The elements of the list are reused in the order of the
+     * list. If the list cannot be modified, a new collection is created.
+     *
+     * @author mhahnFr
+     * @since 17.10.26
+     */
+    private final class ListFrame extends Frame {
+        /** The generic type of the collection. */
+        private final JSONTypeInfo type;
+        /** The type of the elements.           */
+        private final JSONTypeInfo element;
+        /** The existing list to be refilled.   */
+        private final List<Object> list;
+        /** The read elements.                  */
+        private final List<Object> values;
+
+        /**
+         * Constructs this frame for the given existing list.
+         *
+         * @param type the generic type of the collection
+         * @param list the existing list to be refilled
+         */
+        ListFrame(final JSONTypeInfo type, final List<Object> list) {
+            this.type    = type;
+            this.element = type.getArgument(0);
+            this.list    = list;
+            this.values  = new ArrayList<>(Math.max(10, list.size()));
+        }
+
+        @Override
+        Object step() throws ReflectiveOperationException, JSONParseException {
+            while (reader.hasNext()) {
+                final var index = values.size();
+                final var value = beginValue(element, index < list.size() ? list.get(index) : null);
+                if (value == PENDING) return PENDING;
+
+                values.add(value);
+            }
+            reader.endArray();
+            try {
+                if (values.size() == list.size()) {
+                    for (int i = 0; i < values.size(); ++i) {
+                        list.set(i, values.get(i));
+                    }
+                } else {
+                    list.clear();
+                    list.addAll(values);
+                }
+                return list;
+            } catch (final UnsupportedOperationException e) {
+                final var collection = newCollection(type);
+                collection.addAll(values);
+                return collection;
+            }
+        }
+
+        @Override
+        void accept(final Object value) {
+            values.add(value);
+        }
+    }
+
+    /**
+     * A frame reading the elements of a collection. An existing
+     * collection is cleared and refilled instead; if it cannot be
+     * modified, a new collection is created.
+     *
+     * @author mhahnFr
+     * @since 17.10.26
+     */
+    private final class CollectionFrame extends Frame {
+        /** The generic type of the collection.                   */
+        private final JSONTypeInfo type;
+        /** The type of the elements.                             */
+        private final JSONTypeInfo element;
+        /** The existing collection to be reused or {@code null}. */
+        private final Object existing;
+        /** The collection the elements are added to.             */
+        private Collection<Object> collection;
+
+        /**
+         * Constructs this frame for a collection of the given type.
+         *
+         * @param type the generic type of the collection
+         * @param existing the existing collection to be reused or {@code null}
+         * @throws ReflectiveOperationException if the collection could not be instantiated
+         */
+        @SuppressWarnings("unchecked")
+        CollectionFrame(final JSONTypeInfo type, final Object existing) throws ReflectiveOperationException {
+            this.type     = type;
+            this.element  = type.getArgument(0);
+            this.existing = existing;
+
+            if (existing instanceof Collection<?>) {
+                collection = (Collection<Object>) existing;
+                try {
+                    collection.clear();
+                } catch (final UnsupportedOperationException e) {
+                    collection = null;
+                }
+            }
+            if (collection == null) {
+                collection = newCollection(type);
+            }
+        }
+
+        @Override
+        Object step() throws ReflectiveOperationException, JSONParseException {
+            while (reader.hasNext()) {
+                final var value = beginValue(element, null);
+                if (value == PENDING) return PENDING;
+
+                accept(value);
+            }
+            reader.endArray();
+            return collection;
+        }
+
+        @Override
+        void accept(final Object value) throws ReflectiveOperationException {
+            try {
+                collection.add(value);
+            } catch (final UnsupportedOperationException e) {
+                if (collection != existing) throw e;
+                final var copy = newCollection(type);
+                copy.addAll(collection);
+                copy.add(value);
+                collection = copy;
+            }
+        }
+    }
+
+    /**
+     * A frame reading the entries of a mapping. An existing map is
+     * cleared and refilled instead; if it cannot be modified, a new map
+     * is created.
+     *
+     * @author mhahnFr
+     * @since 17.10.26
+     */
+    private final class MapFrame extends Frame {
+        /** The generic type of the map.                   */
+        private final JSONTypeInfo type;
+        /** Whether the map is a string dictionary.        */
+        private final boolean isStringDict;
+        /** The type of the keys.                          */
+        private final JSONTypeInfo keyType;
+        /** The type of the values.                        */
+        private final JSONTypeInfo valueType;
+        /** The existing map to be reused or {@code null}. */
+        private final Object existing;
+        /** The map the entries are put into.              */
+        private Map<Object, Object> map;
+        /** The key of the entry whose value is read next. */
+        private Object key;
+        /** Indicates whether the key has been read.       */
+        private boolean hasKey = false;
+
+        /**
+         * Constructs this frame for a map of the given type.
+         *
+         * @param type the generic type of the map
+         * @param isStringDict whether the map is a string dictionary
+         * @param existing the existing map to be reused or {@code null}
+         * @throws ReflectiveOperationException if the map could not be instantiated
+         */
+        @SuppressWarnings("unchecked")
+        MapFrame(final JSONTypeInfo type, final boolean isStringDict, final Object existing) throws ReflectiveOperationException {
+            this.type         = type;
+            this.isStringDict = isStringDict;
+            this.keyType      = type.getArgument(0);
+            this.valueType    = type.getArgument(1);
+            this.existing     = existing;
+
+            if (existing instanceof Map<?, ?>) {
+                map = (Map<Object, Object>) existing;
+                try {
+                    map.clear();
+                } catch (final UnsupportedOperationException e) {
+                    map = null;
+                }
+            }
+            if (map == null) {
+                map = newMap(type);
+            }
+        }
+
+        @Override
+        Object step() throws ReflectiveOperationException, JSONParseException {
+            while (true) {
+                if (!hasKey) {
+                    if (!reader.hasNext()) break;
+
+                    if (isStringDict) {
+                        reader.peek();
+                        final var start = reader.getTokenStart();
+                        key = toStringEnum(keyType.getClassInfo(), reader.nextName(), start);
+                    } else {
+                        final var value = beginValue(keyType, null);
+                        if (value == PENDING) return PENDING;
+
+                        key = value;
+                    }
+                    hasKey = true;
+                }
+                final var value = beginValue(valueType, null);
+                if (value == PENDING) return PENDING;
+
+                accept(value);
+            }
+            if (isStringDict) {
+                reader.endObject();
+            } else {
+                reader.endArray();
+            }
+            return map;
+        }
+
+        @Override
+        void accept(final Object value) throws ReflectiveOperationException {
+            if (!hasKey) {
+                key    = value;
+                hasKey = true;
+                return;
+            }
+            try {
+                map.put(key, value);
+            } catch (final UnsupportedOperationException e) {
+                if (map != existing) throw e;
+                final var copy = newMap(type);
+                copy.putAll(map);
+                copy.put(key, value);
+                map = copy;
+            }
+            key    = null;
+            hasKey = false;
+        }
+    }
+
     /**
      * Returns the {@link Class} represented by the given type.
      *
@@ -364,84 +1068,191 @@ public class JSONParser {
     }
 
     /**
-     * Returns whether the given {@link Class} represents a {@link String}
-     * dictionary.
+     * Reads an object from the stream. Depending on the following characters,
+     * either a raw value, a collection or a normal object is read and returned.
+     * The given existing value is reused if possible, see {@link #setReusing(boolean)}.
+     * The nested objects and collections are read on an explicit stack of
+     * frames instead of recursively.
      *
-     * @param c the class to be checked
-     * @param type the generic type of the class's instance
-     * @return whether the given class and type represent a string dictionary
+     * @param type the generic type of the object that should be read
+     * @param existing the existing value to be reused or {@code null}
+     * @return the read object
+     * @throws ReflectiveOperationException if the object could not be filled with the read values
+     * @throws JSONParseException if the JSON data could not be parsed
+     * @see #beginValue(JSONTypeInfo, Object)
+     * @see #readFrames(int, Object)
      */
-    private boolean isStringDictionary(final Class<?> c, final Type type) {
-        if (Map.class.isAssignableFrom(c)) {
-            final var keyClass = getMaybeGenericClass(((ParameterizedType) type).getActualTypeArguments()[0]);
+    private Object readObject(final JSONTypeInfo type, final Object existing) throws ReflectiveOperationException, JSONParseException {
+        final var base = frames.size();
+        try {
+            return readFrames(base, beginValue(type, existing));
+        } finally {
+            discardFrames(base);
+        }
+    }
 
-            return String.class.isAssignableFrom(keyClass) ||
-                   Enum.class.isAssignableFrom(keyClass);
+    /**
+     * Reads the value of the given field from the stream and fills it
+     * for the given object.
+     *
+     * @param obj the object to fill the field in
+     * @param field the field to be filled
+     * @throws ReflectiveOperationException if the field could not be filled with the read value
+     * @throws JSONParseException if the JSON data could not be parsed
+     * @see #readObject(JSONTypeInfo, Object)
+     */
+    void readFieldValue(final Object obj, final JSONFieldInfo field) throws ReflectiveOperationException, JSONParseException {
+        if (field.getPrimitive() != null) {
+            readPrimitive(obj, field);
+        } else {
+            final var accessor = field.getAccessor();
+            accessor.set(obj, readObject(field.getType(), reusing ? accessor.get(obj) : null));
         }
-        return false;
     }
 
     /**
-     * Reads an object from the stream. Depending on the following characters,
-     * either a raw value, a collection or a normal object is read and returned.
+     * Reads the value of the field with the given name from the stream
+     * and fills it for the given object.
      *
-     * @param c the class of the object that should be read
-     * @param type the generic type of the object
-     * @return the read object
+     * @param obj the object to fill the field in
+     * @param name the name of the field
+     * @throws ReflectiveOperationException if the field does not exist or could not be filled
+     * @throws JSONParseException if the JSON data could not be parsed
+     * @see #setIgnoringUnknownFields(boolean)
+     */
+    public void readFieldValue(final Object obj, final String name) throws ReflectiveOperationException, JSONParseException {
+        readField(obj, JSONClassInfo.of(obj.getClass()), name, 0);
+    }
+
+    /**
+     * Reads a value of the given class from the stream. The value
+     * can be a boxed primitive, a string, an enum or an object.
+     *
+     * @param c the class of the value to be read
+     * @param <T> the type of the value
+     * @return the read value
      * @throws ReflectiveOperationException if the object could not be filled with the read values
      * @throws JSONParseException if the JSON data could not be parsed
-     * @see #readObjectKind(Class)
-     * @see #readCollectionKind(Class, Type, boolean)
-     * @see #readStringEnum(Class)
-     * @see #readRawValue(Class)
      */
-    private Object readObject(final Class<?> c, final Type type) throws ReflectiveOperationException, JSONParseException {
-        skipWhitespaces();
+    @SuppressWarnings("unchecked")
+    public <T> T readValue(final Class<T> c) throws ReflectiveOperationException, JSONParseException {
+        return (T) readObject(JSONClassInfo.of(c).getTypeInfo(), null);
+    }
 
-        final var isStringDict = isStringDictionary(c, type);
+    /**
+     * Reads a value of the given generic type from the stream. Used by
+     * {@link JSONCodec}s to read nested values.
+     *
+     * @param type the generic type of the value to be read
+     * @return the read value
+     * @throws ReflectiveOperationException if the object could not be filled with the read values
+     * @throws JSONParseException if the JSON data could not be parsed
+     */
+    public Object readValue(final Type type) throws ReflectiveOperationException, JSONParseException {
+        final var info = type instanceof Class<?> c ? JSONClassInfo.of(c).getTypeInfo() : new JSONTypeInfo(type);
+        return readObject(info, null);
+    }
 
-        if (stream.peek('{') && !isStringDict) {
-            return readObjectKind(c);
-        } else if (peekConsume(isStringDict ? "{" : "[")) {
-            return readCollectionKind(c, type, isStringDict);
-        } else if (stream.peek('"')) {
-            return readStringEnum(c);
-        }
-        return readRawValue(c);
+    /**
+     * Reads a value of the given class from the stream. If reusing is
+     * enabled, the given existing value is updated in place if possible.
+     *
+     * @param c the class of the value to be read
+     * @param existing the existing value to be reused or {@code null}
+     * @param <T> the type of the value
+     * @return the read value, which may be the given existing value
+     * @throws ReflectiveOperationException if the object could not be filled with the read values
+     * @throws JSONParseException if the JSON data could not be parsed
+     * @see #setReusing(boolean)
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T readValue(final Class<T> c, final T existing) throws ReflectiveOperationException, JSONParseException {
+        return (T) readObject(JSONClassInfo.of(c).getTypeInfo(), reusing ? existing : null);
     }
 
     /**
-     * Reads a field from the stream and fills it for the given object.
+     * Returns whether a field follows in the stream. Used to read the
+     * first field of an object.
      *
-     * @param obj the object to fill the field in
-     * @throws ReflectiveOperationException if an object could not be filled with the read values
+     * @return whether the object has at least one field
      * @throws JSONParseException if the JSON data could not be parsed
-     * @see #readObject(Class, Type)
+     * @see #readFieldName()
+     * @see #nextField()
      */
-    private void readField(Object obj) throws ReflectiveOperationException, JSONParseException {
-        skipWhitespaces();
+    public boolean hasField() throws JSONParseException {
+        return reader.hasNext();
+    }
 
-        final var field = getField(obj, readField());
+    /**
+     * Reads the name of the next field. Its value is to be read using
+     * one of the reading methods afterwards.
+     *
+     * @return the name of the field
+     * @throws JSONParseException if the JSON data could not be parsed
+     */
+    public String readFieldName() throws JSONParseException {
+        return reader.nextName();
+    }
 
-        field.set(obj, readObject(field.getType(), field.getGenericType()));
+    /**
+     * Consumes the separator to the next field if present.
+     *
+     * @return whether another field follows
+     * @throws JSONParseException if the JSON data could not be parsed
+     * @see #readFieldName()
+     */
+    public boolean nextField() throws JSONParseException {
+        return reader.hasNext();
     }
 
     /**
-     * Reads the fields for the given object.
+     * Reads the value of the field with the given name and fills it for
+     * the given object. The value of an unknown field is skipped if
+     * unknown fields are ignored.
+     * <p>
+     * The field at the expected index is compared with the name first;
+     * the name is only looked up if it denotes another field. Since the
+     * fields usually follow in the same order, the index of the field
+     * following the read one is returned as the next expected index.
+     *
+     * @param obj the object to fill the field in
+     * @param c the class information of the given object
+     * @param name the characters of the name of the field
+     * @param expected the index of the expected field
+     * @return the index of the field expected next
+     * @throws ReflectiveOperationException if the field does not exist or could not be filled
+     * @throws JSONParseException if the JSON data could not be parsed
+     * @see JSONFieldTable#matches(int, CharSequence)
+     */
+    private int readField(Object obj, final JSONClassInfo c, final CharSequence name, final int expected) throws ReflectiveOperationException, JSONParseException {
+        final var table = c.getFieldTable();
+        final var index = table.matches(expected, name) ? expected : table.indexOf(name);
+        if (index >= 0) {
+            readFieldValue(obj, table.getField(index));
+            return index + 1;
+        } else if (ignoringUnknownFields) {
+            reader.skipValueUnchecked();
+            return expected;
+        }
+        throw new NoSuchFieldException(name.toString());
+    }
+
+    /**
+     * Reads the values of the given object from the stream.
      *
      * @param obj the object to be filled
+     * @param c the class information of the given object
      * @throws ReflectiveOperationException if an object could not be filled with the read values
      * @throws JSONParseException if the JSON data could not be parsed
-     * @see #readField(Object)
+     * @see #beginObject(Object, JSONClassInfo)
      */
-    private void readFields(Object obj) throws ReflectiveOperationException, JSONParseException {
-        skipWhitespaces();
-        if (stream.peek('}')) return;
-
-        do {
-            readField(obj);
-            skipWhitespaces();
-        } while (peekConsume(","));
+    private void readInto(Object obj, final JSONClassInfo c) throws ReflectiveOperationException, JSONParseException {
+        final var base = frames.size();
+        try {
+            readFrames(base, beginObject(obj, c));
+        } finally {
+            discardFrames(base);
+        }
     }
 
     /**
@@ -452,10 +1263,85 @@ public class JSONParser {
      * @throws JSONParseException if the JSON data could not be parsed
      */
     public void readInto(Object obj) throws ReflectiveOperationException, JSONParseException {
-        skipWhitespaces();
-        expect("{");
-        readFields(obj);
-        skipWhitespaces();
-        expect("}");
+        readInto(obj, JSONClassInfo.of(obj.getClass()));
+    }
+
+    /**
+     * Returns whether codecs are generated for the read classes.
+     *
+     * @return whether generated codecs are used
+     */
+    public boolean isGeneratingCodecs() {
+        return generatingCodecs;
+    }
+
+    /**
+     * Sets whether to generate a specialized codec for each read class.
+     * The codec is generated once per class when it is read the first
+     * time. The classes for which no codec can be generated are read
+     * using reflection.
+     *
+     * @param generatingCodecs whether to use generated codecs
+     */
+    public void setGeneratingCodecs(boolean generatingCodecs) {
+        this.generatingCodecs = generatingCodecs;
+    }
+
+    /**
+     * Returns whether the existing values of the read fields are reused.
+     *
+     * @return whether the existing values are reused
+     */
+    public boolean isReusing() {
+        return reusing;
+    }
+
+    /**
+     * Sets whether to reuse the existing values of the read fields.
+     * If enabled, the nested objects are updated in place, modifiable
+     * collections and maps are cleared and refilled and arrays are filled
+     * again if the number of elements did not change; otherwise, new ones
+     * are created. Only objects of exactly the read class are reused.
+     * Repeatedly reading data of the same shape into the same objects
+     * then allocates hardly any new objects.
+     *
+     * @param reusing whether to reuse the existing values
+     * @see #readInto(Object)
+     */
+    public void setReusing(boolean reusing) {
+        this.reusing = reusing;
+    }
+
+    /**
+     * Returns whether the values of unknown fields are skipped.
+     *
+     * @return whether unknown fields are ignored
+     */
+    public boolean isIgnoringUnknownFields() {
+        return ignoringUnknownFields;
+    }
+
+    /**
+     * Sets whether to skip the values of unknown fields. Otherwise, a
+     * {@link NoSuchFieldException} is thrown for unknown fields. The
+     * skipped values are only scanned for their nesting, no strings,
+     * numbers or objects are created for them.
+     *
+     * @param ignoringUnknownFields whether to ignore unknown fields
+     * @see JSONReader#skipValueUnchecked()
+     */
+    public void setIgnoringUnknownFields(boolean ignoringUnknownFields) {
+        this.ignoringUnknownFields = ignoringUnknownFields;
+    }
+
+    /**
+     * Closes the underlying reader.
+     *
+     * @throws IOException if an I/O error occurs
+     * @see JSONReader#close()
+     */
+    @Override
+    public void close() throws IOException {
+        reader.close();
     }
 }
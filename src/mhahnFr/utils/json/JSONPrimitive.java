@@ -0,0 +1,64 @@
+/*
+ * JUtilities - Some utilities written for Java.
+ *
+ * Copyright (C) 2026  mhahnFr
+ *
+ * This file is part of the JUtilities. This library is free software:
+ * you can redistribute it and/or modify it under the terms of the
+ * GNU General Public License as published by the Free Software Foundation,
+ * either version 3 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with
+ * this library, see the file LICENSE.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package mhahnFr.utils.json;
+
+/**
+ * This enumeration contains the primitive types that are read and
+ * written without being boxed.
+ *
+ * @author mhahnFr
+ * @since 16.10.26
+ */
+enum JSONPrimitive {
+    /** Represents {@code boolean}. */
+    BOOLEAN,
+    /** Represents {@code byte}.    */
+    BYTE,
+    /** Represents {@code short}.   */
+    SHORT,
+    /** Represents {@code char}.    */
+    CHAR,
+    /** Represents {@code int}.     */
+    INT,
+    /** Represents {@code long}.    */
+    LONG,
+    /** Represents {@code float}.   */
+    FLOAT,
+    /** Represents {@code double}.  */
+    DOUBLE;
+
+    /**
+     * Returns the primitive type represented by the given class.
+     *
+     * @param c the class
+     * @return the primitive type or {@code null} if the class is not primitive
+     */
+    static JSONPrimitive of(final Class<?> c) {
+        if (c == boolean.class) return BOOLEAN;
+        if (c == byte.class)    return BYTE;
+        if (c == short.class)   return SHORT;
+        if (c == char.class)    return CHAR;
+        if (c == int.class)     return INT;
+        if (c == long.class)    return LONG;
+        if (c == float.class)   return FLOAT;
+        if (c == double.class)  return DOUBLE;
+        return null;
+    }
+}
@@ -0,0 +1,505 @@
+/*
+ * JUtilities - Some utilities written for Java.
+ *
+ * Copyright (C) 2026  mhahnFr
+ *
+ * This file is part of the JUtilities. This library is free software:
+ * you can redistribute it and/or modify it under the terms of the
+ * GNU General Public License as published by the Free Software Foundation,
+ * either version 3 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with
+ * this library, see the file LICENSE.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package mhahnFr.utils.json;
+
+import mhahnFr.utils.StringStream;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * This class extracts the values selected by a set of JSON paths. The
+ * paths are compiled once and can then be run over any number of
+ * documents.
+ * <p>
+ * A path starts with {@code $}, denoting the root value, followed by
+ * any number of steps:
+ * <ul>
+ *     <li>{@code .name} or {@code ['name']} selects the field with the given name,</li>
+ *     <li>{@code .*} selects all fields of an object,</li>
+ *     <li>{@code [n]} selects the element at the given index of an array,</li>
+ *     <li>{@code [*]} selects all elements of an array.</li>
+ * </ul>
+ * Only the selected values are materialized, as strings, {@code Long}s,
+ * {@code BigInteger}s, {@code Double}s, {@code BigDecimal}s,
+ * {@code Boolean}s, {@code null}, {@code List}s and {@code Map}s. All other values are skipped using the
+ * scanner of {@link JSONReader#skipValueUnchecked()}, which does not
+ * create any objects.
+ *
+ * @author mhahnFr
+ * @since 16.10.26
+ */
+public final class JSONProjection {
+    /** The empty set of states. */
+    private static final Node[] NONE = new Node[0];
+
+    /** The compiled paths.      */
+    private final String[] paths;
+    /** The root of the steps.   */
+    private final Node root = new Node();
+
+    /**
+     * Constructs this projection by compiling the given paths.
+     *
+     * @param paths the paths to be compiled
+     * @throws IllegalArgumentException if a path is malformed
+     */
+    private JSONProjection(final String[] paths) {
+        this.paths = paths.clone();
+        for (int i = 0; i < paths.length; ++i) {
+            add(i, paths[i]);
+        }
+    }
+
+    /**
+     * This class represents a node of the compiled steps. The steps of
+     * all paths are merged into a tree; the paths end in the nodes
+     * selecting their values.
+     *
+     * @author mhahnFr
+     * @since 16.10.26
+     */
+    private static final class Node {
+        /** This node as the only state.                       */
+        private final Node[] self = { this };
+        /** The nodes of the selected fields.                  */
+        private final Map<String, Node> fields = new HashMap<>();
+        /** The nodes of the selected elements.                */
+        private final Map<Integer, Node> elements = new HashMap<>();
+        /** The node of all fields, {@code null} if none.      */
+        private Node anyField;
+        /** The node of all elements, {@code null} if none.    */
+        private Node anyElement;
+        /** The indices of the paths ending in this node.      */
+        private int[] ends = new int[0];
+
+        /**
+         * Returns whether any field of an object is selected by this node.
+         *
+         * @return whether fields are selected
+         */
+        private boolean selectsFields() {
+            return anyField != null || !fields.isEmpty();
+        }
+
+        /**
+         * Returns whether any element of an array is selected by this node.
+         *
+         * @return whether elements are selected
+         */
+        private boolean selectsElements() {
+            return anyElement != null || !elements.isEmpty();
+        }
+    }
+
+    /**
+     * This class holds the values extracted by a projection.
+     *
+     * @author mhahnFr
+     * @since 16.10.26
+     */
+    public static final class Result {
+        /** The compiled paths.                         */
+        private final String[] paths;
+        /** The extracted values in the order of paths. */
+        private final List<List<Object>> values;
+
+        /**
+         * Constructs this result.
+         *
+         * @param paths the compiled paths
+         */
+        private Result(final String[] paths) {
+            this.paths  = paths;
+            this.values = new ArrayList<>(paths.length);
+            for (int i = 0; i < paths.length; ++i) {
+                values.add(new ArrayList<>());
+            }
+        }
+
+        /**
+         * Returns the values selected by the path with the given index.
+         *
+         * @param index the index of the path as it was compiled
+         * @return the selected values in the order of the document
+         * @throws IndexOutOfBoundsException if no path has the given index
+         */
+        public List<Object> get(final int index) {
+            return values.get(index);
+        }
+
+        /**
+         * Returns the values selected by the given path.
+         *
+         * @param path the path as it was compiled
+         * @return the selected values in the order of the document
+         * @throws IllegalArgumentException if the path was not compiled
+         */
+        public List<Object> get(final String path) {
+            for (int i = 0; i < paths.length; ++i) {
+                if (paths[i].equals(path)) return values.get(i);
+            }
+            throw new IllegalArgumentException("Path not compiled: " + path);
+        }
+    }
+
+    /**
+     * Compiles the given paths.
+     *
+     * @param paths the paths to be compiled
+     * @return the compiled projection
+     * @throws IllegalArgumentException if a path is malformed
+     */
+    public static JSONProjection compile(final String... paths) {
+        return new JSONProjection(paths);
+    }
+
+    /**
+     * Creates the exception thrown for a malformed path.
+     *
+     * @param path the malformed path
+     * @param index the index where the path is malformed
+     * @return the exception to be thrown
+     */
+    private static IllegalArgumentException malformed(final String path, final int index) {
+        return new IllegalArgumentException("Malformed JSON path at index " + index + ": " + path);
+    }
+
+    /**
+     * Adds the steps of the given path to the tree of the nodes.
+     *
+     * @param index the index of the path
+     * @param path the path to be added
+     * @throws IllegalArgumentException if the path is malformed
+     */
+    private void add(final int index, final String path) {
+        if (!path.startsWith("$")) throw malformed(path, 0);
+
+        var node = root;
+        var i    = 1;
+        while (i < path.length()) {
+            final var c = path.charAt(i++);
+            if (c == '.') {
+                final var begin = i;
+                while (i < path.length() && path.charAt(i) != '.' && path.charAt(i) != '[') ++i;
+                if (begin == i) throw malformed(path, i);
+
+                final var name = path.substring(begin, i);
+                if (name.equals("*")) {
+                    if (node.anyField == null) node.anyField = new Node();
+                    node = node.anyField;
+                } else {
+                    node = node.fields.computeIfAbsent(name, __ -> new Node());
+                }
+            } else if (c == '[') {
+                final var end = path.indexOf(']', i);
+                if (end < 0) throw malformed(path, i);
+
+                final var step = path.substring(i, end);
+                if (step.equals("*")) {
+                    if (node.anyElement == null) node.anyElement = new Node();
+                    node = node.anyElement;
+                } else if (step.length() >= 2 && (step.charAt(0) == '\'' || step.charAt(0) == '"')
+                           && step.charAt(step.length() - 1) == step.charAt(0)) {
+                    node = node.fields.computeIfAbsent(step.substring(1, step.length() - 1), __ -> new Node());
+                } else {
+                    final int element;
+                    try {
+                        element = Integer.parseInt(step);
+                    } catch (NumberFormatException e) {
+                        throw malformed(path, i);
+                    }
+                    if (element < 0) throw malformed(path, i);
+
+                    node = node.elements.computeIfAbsent(element, __ -> new Node());
+                }
+                i = end + 1;
+            } else {
+                throw malformed(path, i - 1);
+            }
+        }
+        node.ends = Arrays.copyOf(node.ends, node.ends.length + 1);
+        node.ends[node.ends.length - 1] = index;
+    }
+
+    /**
+     * Adds the given node to the given states.
+     *
+     * @param states the states
+     * @param node the node to be added, may be {@code null}
+     * @return the extended states
+     */
+    private static Node[] with(final Node[] states, final Node node) {
+        if (node == null)       return states;
+        if (states.length == 0) return node.self;
+
+        final var toReturn = Arrays.copyOf(states, states.length + 1);
+        toReturn[states.length] = node;
+        return toReturn;
+    }
+
+    /**
+     * Returns the states selecting the field with the given name.
+     *
+     * @param states the states of the object
+     * @param name the name of the field
+     * @return the states of the field
+     */
+    private static Node[] field(final Node[] states, final String name) {
+        var toReturn = NONE;
+        for (final var state : states) {
+            toReturn = with(with(toReturn, state.fields.get(name)), state.anyField);
+        }
+        return toReturn;
+    }
+
+    /**
+     * Returns the states selecting the element at the given index.
+     *
+     * @param states the states of the array
+     * @param index the index of the element
+     * @return the states of the element
+     */
+    private static Node[] element(final Node[] states, final int index) {
+        var toReturn = NONE;
+        for (final var state : states) {
+            final var node = state.elements.isEmpty() ? null : state.elements.get(index);
+            toReturn = with(with(toReturn, node), state.anyElement);
+        }
+        return toReturn;
+    }
+
+    /**
+     * Runs this projection over the next value of the given reader.
+     * Only the next value is read.
+     *
+     * @param reader the reader to read the value from
+     * @return the extracted values
+     * @throws JSONParseException if the JSON data is malformed
+     */
+    public Result run(final JSONReader reader) throws JSONParseException {
+        final var result = new Result(paths);
+        visit(root.self, reader, result);
+        return result;
+    }
+
+    /**
+     * Runs this projection over the document read by the given reader
+     * and checks that the document ends after its value.
+     *
+     * @param reader the reader to read the document from
+     * @return the extracted values
+     * @throws JSONParseException if the JSON data is malformed
+     */
+    private Result runDocument(final JSONReader reader) throws JSONParseException {
+        final var result = run(reader);
+        if (reader.peek() != JSONToken.END_DOCUMENT) {
+            throw new JSONParseException("Expected the end of the data!", reader.getPosition());
+        }
+        return result;
+    }
+
+    /**
+     * Runs this projection over the JSON document in the given stream.
+     *
+     * @param stream the stream containing the document
+     * @return the extracted values
+     * @throws JSONParseException if the JSON data is malformed
+     */
+    public Result run(final StringStream stream) throws JSONParseException {
+        return runDocument(new JSONReader(stream));
+    }
+
+    /**
+     * Runs this projection over the given UTF-8 encoded JSON document.
+     *
+     * @param bytes the bytes of the document
+     * @return the extracted values
+     * @throws JSONParseException if the JSON data is malformed
+     */
+    public Result run(final byte[] bytes) throws JSONParseException {
+        return runDocument(new JSONReader(bytes));
+    }
+
+    /**
+     * Runs this projection over the UTF-8 encoded JSON document in the
+     * remaining bytes of the given buffer.
+     *
+     * @param buffer the buffer containing the document
+     * @return the extracted values
+     * @throws JSONParseException if the JSON data is malformed
+     */
+    public Result run(final ByteBuffer buffer) throws JSONParseException {
+        return runDocument(new JSONReader(buffer));
+    }
+
+    /**
+     * Visits the next value of the given reader. Selected values are
+     * materialized, values containing selected values are entered, all
+     * other values are skipped.
+     *
+     * @param states the states selecting the value
+     * @param reader the reader to read the value from
+     * @param result the result to add the selected values to
+     * @throws JSONParseException if the JSON data is malformed
+     */
+    private static void visit(final Node[] states, final JSONReader reader, final Result result) throws JSONParseException {
+        var selected = false;
+        var fields   = false;
+        var elements = false;
+        for (final var state : states) {
+            selected |= state.ends.length > 0;
+            fields   |= state.selectsFields();
+            elements |= state.selectsElements();
+        }
+
+        if (selected) {
+            deliver(states, materialize(reader), result);
+            return;
+        }
+
+        final var token = reader.peek();
+        if (token == JSONToken.BEGIN_OBJECT && fields) {
+            reader.beginObject();
+            while (reader.hasNext()) {
+                final var next = field(states, reader.nextName());
+                if (next.length == 0) {
+                    reader.skipValueUnchecked();
+                } else {
+                    visit(next, reader, result);
+                }
+            }
+            reader.endObject();
+        } else if (token == JSONToken.BEGIN_ARRAY && elements) {
+            reader.beginArray();
+            for (int i = 0; reader.hasNext(); ++i) {
+                final var next = element(states, i);
+                if (next.length == 0) {
+                    reader.skipValueUnchecked();
+                } else {
+                    visit(next, reader, result);
+                }
+            }
+            reader.endArray();
+        } else {
+            reader.skipValueUnchecked();
+        }
+    }
+
+    /**
+     * Adds the given materialized value to the paths ending in the given
+     * states. The values selected by the other paths within the value
+     * are delivered as well.
+     *
+     * @param states the states selecting the value
+     * @param value the materialized value
+     * @param result the result to add the selected values to
+     */
+    private static void deliver(final Node[] states, final Object value, final Result result) {
+        for (final var state : states) {
+            for (final var index : state.ends) {
+                result.values.get(index).add(value);
+            }
+        }
+
+        if (value instanceof Map<?, ?> map) {
+            for (final var entry : map.entrySet()) {
+                final var next = field(states, (String) entry.getKey());
+                if (next.length > 0) deliver(next, entry.getValue(), result);
+            }
+        } else if (value instanceof List<?> list) {
+            for (int i = 0; i < list.size(); ++i) {
+                final var next = element(states, i);
+                if (next.length > 0) deliver(next, list.get(i), result);
+            }
+        }
+    }
+
+    /**
+     * Reads the next value as plain Java object.
+     *
+     * @param reader the reader to read the value from
+     * @return the read value
+     * @throws JSONParseException if the JSON data is malformed
+     */
+    private static Object materialize(final JSONReader reader) throws JSONParseException {
+        return switch (reader.peek()) {
+            case BEGIN_OBJECT -> {
+                final var map = new LinkedHashMap<String, Object>();
+                reader.beginObject();
+                while (reader.hasNext()) {
+                    final var name = reader.nextName();
+                    map.put(name, materialize(reader));
+                }
+                reader.endObject();
+                yield map;
+            }
+            case BEGIN_ARRAY -> {
+                final var list = new ArrayList<>();
+                reader.beginArray();
+                while (reader.hasNext()) {
+                    list.add(materialize(reader));
+                }
+                reader.endArray();
+                yield list;
+            }
+            case STRING  -> reader.nextString();
+            case NUMBER  -> materializeNumber(reader);
+            case BOOLEAN -> reader.nextBoolean();
+            case NULL    -> {
+                reader.nextNull();
+                yield null;
+            }
+            default -> throw new JSONParseException("Expected a value!", reader.getPosition());
+        };
+    }
+
+    /**
+     * Reads the next number.
+     *
+     * @param reader the reader to read the number from
+     * @return the read number
+     * @throws JSONParseException if the value is not a number
+     * @see JSONNumbers#parseNumber(CharSequence)
+     */
+    private static Number materializeNumber(final JSONReader reader) throws JSONParseException {
+        final var start = reader.getTokenStart();
+        final var text  = reader.nextNumberText();
+        try {
+            return JSONNumbers.parseNumber(text);
+        } catch (NumberFormatException e) {
+            throw new JSONParseException("Expected a number!", reader.createPosition(start));
+        }
+    }
+
+    /**
+     * Returns the compiled paths in the order of their indices.
+     *
+     * @return the compiled paths
+     */
+    public List<String> getPaths() {
+        return List.of(paths);
+    }
+}
@@ -0,0 +1,752 @@
+/*
+ * JUtilities - Some utilities written for Java.
+ *
+ * Copyright (C) 2026  mhahnFr
+ *
+ * This file is part of the JUtilities. This library is free software:
+ * you can redistribute it and/or modify it under the terms of the
+ * GNU General Public License as published by the Free Software Foundation,
+ * either version 3 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with
+ * this library, see the file LICENSE.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package mhahnFr.utils.json;
+
+import mhahnFr.utils.StreamPosition;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.function.Consumer;
+
+/**
+ * This class parses UTF-8 encoded JSON data that is pushed into it in
+ * chunks of arbitrary size. The state of the parsing is kept between the
+ * chunks, so that each token is emitted as soon as it is complete. The
+ * parser never blocks; it is therefore suited to be used on the threads
+ * of event loops, feeding it the bytes as they are received.
+ * <p>
+ * The data may consist of any number of values following each other,
+ * separated by whitespaces. The tokens are handed to a {@link Listener};
+ * alternatively, each completed value can be bound to an object using
+ * {@link #binding(Class, Consumer)}. The nesting depth, the length of the
+ * strings and the number of elements are limited like by the
+ * {@link JSONReader}, so that malformed data cannot exhaust the memory.
+ *
+ * @author mhahnFr
+ * @since 16.10.26
+ */
+public class JSONPushParser {
+    /** Expecting a value in the document.                 */
+    private static final int DOCUMENT     = 0;
+    /** Expecting the first field name or the object end. */
+    private static final int OBJECT_FIRST = 1;
+    /** Expecting a field name.                            */
+    private static final int OBJECT_NAME  = 2;
+    /** Expecting the colon after a field name.            */
+    private static final int OBJECT_COLON = 3;
+    /** Expecting the value of a field.                    */
+    private static final int OBJECT_VALUE = 4;
+    /** Expecting a comma or the object end.               */
+    private static final int OBJECT_NEXT  = 5;
+    /** Expecting the first element or the array end.      */
+    private static final int ARRAY_FIRST  = 6;
+    /** Expecting an element.                              */
+    private static final int ARRAY_VALUE  = 7;
+    /** Expecting a comma or the array end.                */
+    private static final int ARRAY_NEXT   = 8;
+
+    /** Not within a string or a literal.                  */
+    private static final int MODE_NONE    = 0;
+    /** Within a string.                                   */
+    private static final int MODE_STRING  = 1;
+    /** Within a number, boolean or {@code null}.          */
+    private static final int MODE_LITERAL = 2;
+
+    /**
+     * This interface receives the tokens emitted by a {@link JSONPushParser}.
+     *
+     * @author mhahnFr
+     * @since 16.10.26
+     */
+    @FunctionalInterface
+    public interface Listener {
+        /**
+         * Called for each token as soon as it is complete. The text is
+         * the content of field names and strings, the raw text of numbers,
+         * {@code "true"} or {@code "false"} for booleans and {@code null}
+         * for all other tokens. {@link JSONToken#END_DOCUMENT} is emitted
+         * once the end of the data is signalled.
+         *
+         * @param token the emitted token
+         * @param text the text of the token
+         */
+        void token(JSONToken token, String text);
+    }
+
+    /** The listener receiving the tokens.                       */
+    private final Listener listener;
+    /** The class the completed values are bound to, if any.     */
+    private final Class<?> type;
+    /** The consumer of the bound values.                        */
+    private final Consumer<Object> consumer;
+    /** Indicates whether to use generated codecs.               */
+    private boolean generatingCodecs = false;
+    /** Indicates whether to skip unknown fields.                */
+    private boolean ignoringUnknownFields = false;
+    /** The maximal nesting depth.                               */
+    private int maxDepth = JSONReader.DEFAULT_MAX_DEPTH;
+    /** The maximal length of strings and unquoted values.       */
+    private int maxStringLength = Integer.MAX_VALUE;
+    /** The maximal number of elements or fields per container.  */
+    private int maxElements = Integer.MAX_VALUE;
+
+    /** The expectations of the currently open containers.       */
+    private int[] scopes = new int[32];
+    /** The number of entered scopes.                            */
+    private int depth = 1;
+    /** The number of elements or fields read in each scope.     */
+    private int[] counts = new int[32];
+    /** The current lexing mode.                                 */
+    private int mode = MODE_NONE;
+    /** Indicates whether the current string is a field name.    */
+    private boolean name;
+    /** The state of the current escape sequence.                */
+    private int escape;
+    /** The value of the current unicode escape sequence.        */
+    private int unicode;
+    /** The decoded text of the current string or literal.       */
+    private final StringBuilder text = new StringBuilder();
+    /** The raw bytes of the current string not decoded yet.     */
+    private byte[] raw = new byte[64];
+    /** The number of raw bytes.                                 */
+    private int rawLength;
+    /** The bytes of the current value to be bound.              */
+    private byte[] captured;
+    /** The number of captured bytes.                            */
+    private int capturedLength;
+    /** Indicates whether the current value is being captured.   */
+    private boolean capturing;
+    /** The index in the current chunk the capturing resumes at. */
+    private int captureStart;
+    /** The chunk currently being parsed, {@code null} if none.  */
+    private ByteBuffer chunk;
+    /** Indicates whether the end of the data was signalled.     */
+    private boolean ended;
+
+    /**
+     * Constructs this parser handing the tokens to the given listener.
+     *
+     * @param listener the listener receiving the tokens
+     */
+    public JSONPushParser(final Listener listener) {
+        this(listener, null, null);
+    }
+
+    /**
+     * Constructs this parser.
+     *
+     * @param listener the listener receiving the tokens
+     * @param type the class to bind the completed values to or {@code null}
+     * @param consumer the consumer of the bound values
+     */
+    private JSONPushParser(final Listener listener, final Class<?> type, final Consumer<Object> consumer) {
+        this.listener = listener;
+        this.type     = type;
+        this.consumer = consumer;
+        scopes[0]     = DOCUMENT;
+    }
+
+    /**
+     * Creates a parser binding each completed value to an object of the
+     * given class. The bytes of a value are retained until the value is
+     * complete, it is then bound and handed to the given consumer.
+     *
+     * @param type the class of the bound objects
+     * @param consumer the consumer of the bound objects
+     * @param <T> the type of the bound objects
+     * @return the created parser
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> JSONPushParser binding(final Class<T> type, final Consumer<? super T> consumer) {
+        return new JSONPushParser((__, ___) -> {}, type, (Consumer<Object>) consumer);
+    }
+
+    /**
+     * Creates the position of the given index in the current chunk.
+     *
+     * @param at the index in the current chunk
+     * @return the position
+     */
+    private StreamPosition createPosition(final int at) {
+        if (chunk == null) return new StreamPosition(0, "");
+
+        var begin = Math.max(chunk.position(), at - JSONInput.CONTEXT_SIZE);
+        while (begin < at && (chunk.get(begin) & 0xC0) == 0x80) ++begin;
+        final var end = Math.min(chunk.limit(), at + JSONInput.CONTEXT_SIZE);
+
+        final var bytes = new byte[end - begin];
+        chunk.get(begin, bytes);
+        return new StreamPosition(new String(bytes, 0, at - begin, StandardCharsets.UTF_8).length(),
+                                  new String(bytes, StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Creates an exception with the given message pointing to the given
+     * index in the current chunk.
+     *
+     * @param message the error message
+     * @param at the index in the current chunk
+     * @return the created exception
+     */
+    private JSONParseException error(final String message, final int at) {
+        return new JSONParseException(message, createPosition(at));
+    }
+
+    /**
+     * Parses the remaining bytes of the given chunk. All complete tokens
+     * are emitted; incomplete tokens are continued by the next chunk.
+     * The chunk is consumed completely and can be reused afterwards.
+     *
+     * @param chunk the next chunk of the data
+     * @throws JSONParseException if the JSON data is malformed
+     * @throws ReflectiveOperationException if a completed value could not be bound
+     * @throws IllegalStateException if the end of the data has already been signalled
+     */
+    public void feed(final ByteBuffer chunk) throws JSONParseException, ReflectiveOperationException {
+        if (ended) throw new IllegalStateException("The end of the data has already been signalled!");
+
+        this.chunk = chunk;
+        try {
+            final var limit = chunk.limit();
+            captureStart = chunk.position();
+            for (int i = chunk.position(); i < limit; ++i) {
+                if (mode == MODE_STRING && escape == 0) {
+                    i = scanString(i, limit);
+                    if (i == limit) break;
+                }
+                next(chunk.get(i) & 0xFF, i);
+            }
+            if (capturing) capture(limit);
+            chunk.position(limit);
+        } finally {
+            this.chunk = null;
+        }
+    }
+
+    /**
+     * Parses the given bytes.
+     *
+     * @param bytes the next chunk of the data
+     * @throws JSONParseException if the JSON data is malformed
+     * @throws ReflectiveOperationException if a completed value could not be bound
+     * @throws IllegalStateException if the end of the data has already been signalled
+     * @see #feed(ByteBuffer)
+     */
+    public void feed(final byte[] bytes) throws JSONParseException, ReflectiveOperationException {
+        feed(ByteBuffer.wrap(bytes));
+    }
+
+    /**
+     * Signals the end of the data. A pending number or literal at the end
+     * of the data is completed, {@link JSONToken#END_DOCUMENT} is emitted.
+     *
+     * @throws JSONParseException if the data ends within a value
+     * @throws ReflectiveOperationException if the completed value could not be bound
+     * @throws IllegalStateException if the end of the data has already been signalled
+     */
+    public void end() throws JSONParseException, ReflectiveOperationException {
+        if (ended) throw new IllegalStateException("The end of the data has already been signalled!");
+
+        ended = true;
+        if (mode == MODE_STRING)                 throw error("Unterminated string!", 0);
+        if (mode == MODE_LITERAL && depth == 1) endLiteral(0);
+        if (depth > 1)                           throw error("Unexpected end of data!", 0);
+        listener.token(JSONToken.END_DOCUMENT, null);
+    }
+
+    /**
+     * Returns whether the given byte is a JSON whitespace.
+     *
+     * @param b the byte to be checked
+     * @return whether the byte is a whitespace
+     */
+    private static boolean isWhitespace(final int b) {
+        return b == ' ' || b == '\n' || b == '\r' || b == '\t';
+    }
+
+    /**
+     * Handles the given byte.
+     *
+     * @param b the byte to be handled
+     * @param at the index of the byte in the current chunk
+     * @throws JSONParseException if the JSON data is malformed
+     * @throws ReflectiveOperationException if a completed value could not be bound
+     */
+    private void next(final int b, final int at) throws JSONParseException, ReflectiveOperationException {
+        if (mode == MODE_STRING) {
+            nextInString(b, at);
+            return;
+        }
+        if (mode == MODE_LITERAL) {
+            if (b < 0x80 && !JSONInput.isDelimiter((char) b)) {
+                text.append((char) b);
+                if (text.length() > maxStringLength) throw error("Maximal string length exceeded!", at);
+                return;
+            }
+            endLiteral(at);
+        }
+        if (isWhitespace(b)) return;
+
+        switch (scopes[depth - 1]) {
+            case OBJECT_FIRST, OBJECT_NAME -> {
+                if (b == '}' && scopes[depth - 1] == OBJECT_FIRST) {
+                    close(JSONToken.END_OBJECT, at);
+                } else if (b == '"') {
+                    count(at);
+                    scopes[depth - 1] = OBJECT_COLON;
+                    beginString(true);
+                } else {
+                    throw error("Expected a field name!", at);
+                }
+            }
+            case OBJECT_COLON -> {
+                if (b != ':') throw error("Expected \":\"!", at);
+                scopes[depth - 1] = OBJECT_VALUE;
+            }
+            case OBJECT_NEXT -> {
+                if      (b == ',') scopes[depth - 1] = OBJECT_NAME;
+                else if (b == '}') close(JSONToken.END_OBJECT, at);
+                else               throw error("Expected \",\" or \"}\"!", at);
+            }
+            case ARRAY_NEXT -> {
+                if      (b == ',') scopes[depth - 1] = ARRAY_VALUE;
+                else if (b == ']') close(JSONToken.END_ARRAY, at);
+                else               throw error("Expected \",\" or \"]\"!", at);
+            }
+            default -> {
+                if (b == ']' && scopes[depth - 1] == ARRAY_FIRST) {
+                    close(JSONToken.END_ARRAY, at);
+                } else {
+                    beginValue(b, at);
+                }
+            }
+        }
+    }
+
+    /**
+     * Begins the value starting with the given byte.
+     *
+     * @param b the first byte of the value
+     * @param at the index of the byte in the current chunk
+     * @throws JSONParseException if no value starts with the given byte
+     */
+    private void beginValue(final int b, final int at) throws JSONParseException {
+        switch (scopes[depth - 1]) {
+            case OBJECT_VALUE             -> scopes[depth - 1] = OBJECT_NEXT;
+            case ARRAY_FIRST, ARRAY_VALUE -> {
+                count(at);
+                scopes[depth - 1] = ARRAY_NEXT;
+            }
+            default                       -> {}
+        }
+        if (depth == 1 && type != null) {
+            capturing      = true;
+            captureStart   = at;
+            capturedLength = 0;
+        }
+
+        switch (b) {
+            case '{' -> {
+                push(OBJECT_FIRST, at);
+                listener.token(JSONToken.BEGIN_OBJECT, null);
+            }
+            case '[' -> {
+                push(ARRAY_FIRST, at);
+                listener.token(JSONToken.BEGIN_ARRAY, null);
+            }
+            case '"' -> beginString(false);
+
+            case '-', '0', '1', '2', '3', '4', '5', '6', '7', '8', '9', 't', 'f', 'n' -> {
+                mode = MODE_LITERAL;
+                text.setLength(0);
+                text.append((char) b);
+            }
+            default -> throw error("Expected a value!", at);
+        }
+    }
+
+    /**
+     * Enters the given scope.
+     *
+     * @param scope the scope to be entered
+     * @param at the index of the opening bracket in the current chunk
+     * @throws JSONParseException if the maximal nesting depth is exceeded
+     */
+    private void push(final int scope, final int at) throws JSONParseException {
+        if (depth > maxDepth) throw error("Maximal nesting depth exceeded!", at);
+
+        if (depth == scopes.length) {
+            scopes = Arrays.copyOf(scopes, depth * 2);
+            counts = Arrays.copyOf(counts, depth * 2);
+        }
+        counts[depth]   = 0;
+        scopes[depth++] = scope;
+    }
+
+    /**
+     * Counts an element or a field read in the current scope.
+     *
+     * @param at the index of the element in the current chunk
+     * @throws JSONParseException if the maximal number of elements is exceeded
+     */
+    private void count(final int at) throws JSONParseException {
+        if (++counts[depth - 1] > maxElements) throw error("Maximal number of elements exceeded!", at);
+    }
+
+    /**
+     * Closes the current container.
+     *
+     * @param token the token ending the container
+     * @param at the index of the closing bracket in the current chunk
+     * @throws ReflectiveOperationException if the completed value could not be bound
+     * @throws JSONParseException if the completed value could not be bound
+     */
+    private void close(final JSONToken token, final int at) throws JSONParseException, ReflectiveOperationException {
+        --depth;
+        listener.token(token, null);
+        if (depth == 1) complete(at + 1);
+    }
+
+    /**
+     * Begins a string whose opening quote has been read.
+     *
+     * @param name whether the string is a field name
+     */
+    private void beginString(final boolean name) {
+        this.name = name;
+        mode      = MODE_STRING;
+        escape    = 0;
+        rawLength = 0;
+        text.setLength(0);
+    }
+
+    /**
+     * Appends the bytes of the current string up to the next quote or
+     * backslash to the raw bytes.
+     *
+     * @param from the index in the current chunk to start at
+     * @param limit the limit of the current chunk
+     * @return the index of the found quote or backslash or the limit
+     * @throws JSONParseException if the maximal string length is exceeded
+     */
+    private int scanString(final int from, final int limit) throws JSONParseException {
+        var i = from;
+        while (i < limit) {
+            final var b = chunk.get(i);
+            if (b == '"' || b == '\\') break;
+            ++i;
+        }
+        if (i > from) {
+            if (rawLength + i - from > raw.length) {
+                raw = Arrays.copyOf(raw, Math.max(raw.length * 2, rawLength + i - from));
+            }
+            chunk.get(from, raw, rawLength, i - from);
+            rawLength += i - from;
+            checkStringLength(i);
+        }
+        return i;
+    }
+
+    /**
+     * Checks the length of the current string. As the raw bytes are not
+     * decoded yet, the number of characters they encode is only counted
+     * if the number of bytes exceeds the maximal length.
+     *
+     * @param at the index in the current chunk
+     * @throws JSONParseException if the maximal string length is exceeded
+     */
+    private void checkStringLength(final int at) throws JSONParseException {
+        if (text.length() + rawLength <= maxStringLength) return;
+
+        var length = text.length();
+        for (int i = 0; i < rawLength; ++i) {
+            final var b = raw[i];
+            if ((b & 0xC0) != 0x80) ++length;
+            if ((b & 0xF8) == 0xF0) ++length;
+        }
+        if (length > maxStringLength) throw error("Maximal string length exceeded!", at);
+    }
+
+    /**
+     * Decodes the raw bytes of the current string and appends them to
+     * its text.
+     */
+    private void flushRaw() {
+        if (rawLength > 0) {
+            text.append(new String(raw, 0, rawLength, StandardCharsets.UTF_8));
+            rawLength = 0;
+        }
+    }
+
+    /**
+     * Returns the value of the given hexadecimal digit.
+     *
+     * @param b the digit
+     * @return the value of the digit or {@code -1} if the byte is no hexadecimal digit
+     */
+    private static int hexValue(final int b) {
+        if (b >= '0' && b <= '9') return b - '0';
+        if (b >= 'a' && b <= 'f') return b - 'a' + 10;
+        if (b >= 'A' && b <= 'F') return b - 'A' + 10;
+        return -1;
+    }
+
+    /**
+     * Handles the given byte within a string. Escape sequences are
+     * decoded the same way as by the {@link JSONReader}.
+     *
+     * @param b the byte to be handled
+     * @param at the index of the byte in the current chunk
+     * @throws JSONParseException if the completed value could not be bound
+     * @throws ReflectiveOperationException if the completed value could not be bound
+     */
+    private void nextInString(final int b, final int at) throws JSONParseException, ReflectiveOperationException {
+        if (escape > 1) {
+            final var digit = hexValue(b);
+            if (digit >= 0) {
+                unicode = (unicode << 4) | digit;
+                if (++escape == 6) {
+                    text.append((char) unicode);
+                    escape = 0;
+                    checkStringLength(at);
+                }
+                return;
+            }
+            text.append('\uFFFD');
+            escape = 0;
+        } else if (escape == 1) {
+            escape = 0;
+            switch (b) {
+                case 'b' -> text.append('\b');
+                case 'f' -> text.append('\f');
+                case 'n' -> text.append('\n');
+                case 'r' -> text.append('\r');
+                case 't' -> text.append('\t');
+                case 'u' -> {
+                    escape  = 2;
+                    unicode = 0;
+                }
+                default -> {
+                    if (b < 0x80) {
+                        text.append((char) b);
+                    } else {
+                        raw[rawLength++] = (byte) b;
+                    }
+                }
+            }
+            checkStringLength(at);
+            return;
+        }
+
+        if (b == '\\') {
+            flushRaw();
+            escape = 1;
+        } else if (b == '"') {
+            flushRaw();
+            mode = MODE_NONE;
+            listener.token(name ? JSONToken.NAME : JSONToken.STRING, text.toString());
+            if (!name && depth == 1) complete(at + 1);
+        } else {
+            if (rawLength == raw.length) raw = Arrays.copyOf(raw, rawLength * 2);
+            raw[rawLength++] = (byte) b;
+            checkStringLength(at);
+        }
+    }
+
+    /**
+     * Ends the current number, boolean or {@code null}.
+     *
+     * @param at the index in the current chunk after the literal
+     * @throws JSONParseException if the literal is malformed
+     * @throws ReflectiveOperationException if the completed value could not be bound
+     */
+    private void endLiteral(final int at) throws JSONParseException, ReflectiveOperationException {
+        mode = MODE_NONE;
+
+        final var literal = text.toString();
+        switch (literal.charAt(0)) {
+            case 't', 'f' -> {
+                if (!literal.equals("true") && !literal.equals("false")) throw error("Expected a boolean!", at);
+                listener.token(JSONToken.BOOLEAN, literal);
+            }
+            case 'n' -> {
+                if (!literal.equals("null")) throw error("Expected null!", at);
+                listener.token(JSONToken.NULL, null);
+            }
+            default -> {
+                if (!JSONNumbers.isNumber(literal)) throw error("Expected a number!", at);
+                listener.token(JSONToken.NUMBER, literal);
+            }
+        }
+        if (depth == 1) complete(at);
+    }
+
+    /**
+     * Appends the bytes of the current chunk up to the given index to the
+     * captured bytes.
+     *
+     * @param end the index after the last byte to capture
+     */
+    private void capture(final int end) {
+        if (chunk == null) return;
+
+        final var length = end - captureStart;
+        if (captured == null) {
+            captured = new byte[Math.max(256, length)];
+        } else if (capturedLength + length > captured.length) {
+            captured = Arrays.copyOf(captured, Math.max(captured.length * 2, capturedLength + length));
+        }
+        chunk.get(captureStart, captured, capturedLength, length);
+        capturedLength += length;
+    }
+
+    /**
+     * Completes a value of the document. If the values are bound, the
+     * captured bytes of the value are bound and handed to the consumer.
+     *
+     * @param end the index in the current chunk after the value
+     * @throws JSONParseException if the value could not be bound
+     * @throws ReflectiveOperationException if the value could not be bound
+     */
+    private void complete(final int end) throws JSONParseException, ReflectiveOperationException {
+        if (!capturing) return;
+
+        capture(end);
+        capturing = false;
+
+        final var parser = new JSONParser(ByteBuffer.wrap(captured, 0, capturedLength));
+        parser.setGeneratingCodecs(generatingCodecs);
+        parser.setIgnoringUnknownFields(ignoringUnknownFields);
+        parser.getReader().setMaxDepth(maxDepth);
+        parser.getReader().setMaxStringLength(maxStringLength);
+        parser.getReader().setMaxElements(maxElements);
+        consumer.accept(parser.readValue(type));
+    }
+
+    /**
+     * Returns whether codecs are generated for the bound classes.
+     *
+     * @return whether generated codecs are used
+     */
+    public boolean isGeneratingCodecs() {
+        return generatingCodecs;
+    }
+
+    /**
+     * Sets whether to generate specialized codecs for the bound classes.
+     *
+     * @param generatingCodecs whether to use generated codecs
+     * @see JSONParser#setGeneratingCodecs(boolean)
+     */
+    public void setGeneratingCodecs(boolean generatingCodecs) {
+        this.generatingCodecs = generatingCodecs;
+    }
+
+    /**
+     * Returns whether the values of unknown fields are skipped when binding.
+     *
+     * @return whether unknown fields are ignored
+     */
+    public boolean isIgnoringUnknownFields() {
+        return ignoringUnknownFields;
+    }
+
+    /**
+     * Sets whether to skip the values of unknown fields when binding.
+     *
+     * @param ignoringUnknownFields whether to ignore unknown fields
+     * @see JSONParser#setIgnoringUnknownFields(boolean)
+     */
+    public void setIgnoringUnknownFields(boolean ignoringUnknownFields) {
+        this.ignoringUnknownFields = ignoringUnknownFields;
+    }
+
+    /**
+     * Returns the maximal nesting depth of objects and arrays.
+     *
+     * @return the maximal nesting depth
+     */
+    public int getMaxDepth() {
+        return maxDepth;
+    }
+
+    /**
+     * Sets the maximal nesting depth of objects and arrays. Defaults to
+     * {@link JSONReader#DEFAULT_MAX_DEPTH}.
+     *
+     * @param maxDepth the maximal nesting depth
+     * @throws IllegalArgumentException if the depth is not positive
+     * @see JSONReader#setMaxDepth(int)
+     */
+    public void setMaxDepth(int maxDepth) {
+        if (maxDepth <= 0) throw new IllegalArgumentException("The maximal depth must be positive!");
+
+        this.maxDepth = maxDepth;
+    }
+
+    /**
+     * Returns the maximal number of characters of strings, field names
+     * and unquoted values.
+     *
+     * @return the maximal string length
+     */
+    public int getMaxStringLength() {
+        return maxStringLength;
+    }
+
+    /**
+     * Sets the maximal number of characters of strings, field names and
+     * unquoted values. Not limited by default.
+     *
+     * @param maxStringLength the maximal string length
+     * @throws IllegalArgumentException if the length is negative
+     * @see JSONReader#setMaxStringLength(int)
+     */
+    public void setMaxStringLength(int maxStringLength) {
+        if (maxStringLength < 0) throw new IllegalArgumentException("The maximal string length must not be negative!");
+
+        this.maxStringLength = maxStringLength;
+    }
+
+    /**
+     * Returns the maximal number of elements of an array or fields of
+     * an object.
+     *
+     * @return the maximal number of elements
+     */
+    public int getMaxElements() {
+        return maxElements;
+    }
+
+    /**
+     * Sets the maximal number of elements of an array or fields of an
+     * object. Not limited by default.
+     *
+     * @param maxElements the maximal number of elements
+     * @throws IllegalArgumentException if the number is not positive
+     * @see JSONReader#setMaxElements(int)
+     */
+    public void setMaxElements(int maxElements) {
+        if (maxElements <= 0) throw new IllegalArgumentException("The maximal number of elements must be positive!");
+
+        this.maxElements = maxElements;
+    }
+}
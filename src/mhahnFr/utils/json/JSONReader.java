@@ -0,0 +1,1021 @@
+/*
+ * JUtilities - Some utilities written for Java.
+ *
+ * Copyright (C) 2026  mhahnFr
+ *
+ * This file is part of the JUtilities. This library is free software:
+ * you can redistribute it and/or modify it under the terms of the
+ * GNU General Public License as published by the Free Software Foundation,
+ * either version 3 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with
+ * this library, see the file LICENSE.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package mhahnFr.utils.json;
+
+import mhahnFr.utils.StreamPosition;
+import mhahnFr.utils.StringStream;
+
+import java.io.*;
+import java.nio.ByteBuffer;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.file.Path;
+import java.util.Arrays;
+
+/**
+ * This class reads JSON data token by token. Only the nesting of the
+ * currently read containers is remembered, so that arbitrarily large
+ * documents can be processed without holding them in memory as objects.
+ * <p>
+ * The tokens can either be read generically using {@link #nextToken()}
+ * and the getters of the read value, or using the typed reading methods
+ * such as {@link #beginObject()}, {@link #nextName()} or {@link #nextLong()}.
+ * Unquoted values are read until the next whitespace or structural
+ * character; the typed reading methods also accept quoted values.
+ * <p>
+ * The data can be read from a {@link StringStream} or streamed from a
+ * {@link Reader}, an {@link InputStream} or a {@link ReadableByteChannel}.
+ * Streamed data is buffered in a window of fixed size, so that the memory
+ * needed does not depend on the size of the data. Errors occurring while
+ * reading streamed data are thrown as {@link UncheckedIOException}.
+ * <p>
+ * Byte input, that is input streams, channels, files, byte arrays and
+ * byte buffers, is expected to be encoded in UTF-8. It is read without
+ * decoding it into characters first; only the content of the strings
+ * is decoded. Files are read directly from a memory mapping.
+ *
+ * @author mhahnFr
+ * @since 16.10.26
+ */
+public class JSONReader implements Closeable {
+    /** Scope of a document whose value has not been read yet. */
+    private static final int EMPTY_DOCUMENT    = 0;
+    /** Scope of a document whose value has been read.          */
+    private static final int NONEMPTY_DOCUMENT = 1;
+    /** Scope of an object without fields read so far.          */
+    private static final int EMPTY_OBJECT      = 2;
+    /** Scope of an object whose field name has been read.      */
+    private static final int DANGLING_NAME     = 3;
+    /** Scope of an object with at least one field read.        */
+    private static final int NONEMPTY_OBJECT   = 4;
+    /** Scope of an array without elements read so far.        */
+    private static final int EMPTY_ARRAY       = 5;
+    /** Scope of an array with at least one element read.       */
+    private static final int NONEMPTY_ARRAY    = 6;
+
+    /** The default maximal nesting depth.                      */
+    public static final int DEFAULT_MAX_DEPTH = 512;
+
+    /** The input to read the data from.                        */
+    private final JSONInput input;
+    /** The buffer used to collect the text of the values.      */
+    private final StringBuilder buffer = new StringBuilder();
+    /** The cache of the repeatedly read short strings.         */
+    private final JSONStringCache strings = new JSONStringCache();
+    /** The scopes of the currently read containers.            */
+    private int[] scopes = new int[32];
+    /** The number of entered scopes.                           */
+    private int depth = 1;
+    /** The number of separators read in each scope.            */
+    private int[] counts = new int[32];
+    /** The maximal nesting depth.                              */
+    private int maxDepth = DEFAULT_MAX_DEPTH;
+    /** The maximal length of strings and unquoted values.      */
+    private int maxStringLength = Integer.MAX_VALUE;
+    /** The maximal number of elements or fields per container. */
+    private int maxElements = Integer.MAX_VALUE;
+    /** The peeked token, {@code null} if none is peeked.       */
+    private JSONToken peeked;
+    /** The index in the input where the peeked token begins.   */
+    private long tokenStart;
+    /** The text of the value read by {@link #nextToken()}.     */
+    private String value;
+    /** The index in the input where the read value begins.     */
+    private long valueStart;
+
+    /**
+     * Constructs this reader using the given {@link StringStream}.
+     *
+     * @param stream the stream to read the data from
+     */
+    public JSONReader(final StringStream stream) {
+        this(JSONInput.of(stream));
+    }
+
+    /**
+     * Constructs this reader using the given {@link Reader}.
+     *
+     * @param reader the reader to read the data from
+     */
+    public JSONReader(final Reader reader) {
+        this(JSONInput.of(reader));
+    }
+
+    /**
+     * Constructs this reader using the given {@link InputStream}. The
+     * data is expected to be encoded in UTF-8.
+     *
+     * @param in the input stream to read the data from
+     */
+    public JSONReader(final InputStream in) {
+        this(JSONInput.of(in));
+    }
+
+    /**
+     * Constructs this reader using the given {@link ReadableByteChannel}.
+     * The data is expected to be encoded in UTF-8.
+     *
+     * @param channel the channel to read the data from
+     */
+    public JSONReader(final ReadableByteChannel channel) {
+        this(JSONInput.of(channel));
+    }
+
+    /**
+     * Constructs this reader using the given bytes. The data is expected
+     * to be encoded in UTF-8.
+     *
+     * @param bytes the bytes to read the data from
+     */
+    public JSONReader(final byte[] bytes) {
+        this(JSONInput.of(bytes));
+    }
+
+    /**
+     * Constructs this reader using the remaining bytes of the given
+     * buffer. The data is expected to be encoded in UTF-8. The given
+     * buffer itself is not modified.
+     *
+     * @param buffer the buffer to read the data from
+     */
+    public JSONReader(final ByteBuffer buffer) {
+        this(JSONInput.of(buffer));
+    }
+
+    /**
+     * Constructs this reader reading the file at the given path. The
+     * data is expected to be encoded in UTF-8. The file is mapped into
+     * memory and read directly from the mapping, so that it is neither
+     * copied into the heap nor limited in its size.
+     *
+     * @param path the path of the file to read the data from
+     * @throws IOException if the file cannot be opened or mapped
+     */
+    public JSONReader(final Path path) throws IOException {
+        this(JSONInput.of(path));
+    }
+
+    /**
+     * Constructs this reader using the given input.
+     *
+     * @param input the input to read the data from
+     */
+    JSONReader(final JSONInput input) {
+        this.input = input;
+        scopes[0]  = EMPTY_DOCUMENT;
+    }
+
+    /**
+     * Creates an exception with the given message pointing to the
+     * token that was peeked last.
+     *
+     * @param message the error message
+     * @return the created exception
+     */
+    private JSONParseException error(final String message) {
+        return new JSONParseException(message, getPosition());
+    }
+
+    /**
+     * Skips the whitespaces that follow. The index of the next token
+     * is remembered.
+     */
+    private void skipWhitespaces() {
+        input.skipWhitespaces();
+        tokenStart = input.getIndex();
+    }
+
+    /**
+     * Consumes the given character if it follows in the input.
+     *
+     * @param c the expected character
+     * @return whether the character was consumed
+     */
+    private boolean consume(final char c) {
+        return input.consume(c);
+    }
+
+    /**
+     * Enters the given scope.
+     *
+     * @param scope the scope to be entered
+     * @throws JSONParseException if the maximal nesting depth is exceeded
+     */
+    private void push(final int scope) throws JSONParseException {
+        if (depth > maxDepth) throw error("Maximal nesting depth exceeded!");
+
+        if (depth == scopes.length) {
+            scopes = Arrays.copyOf(scopes, depth * 2);
+            counts = Arrays.copyOf(counts, depth * 2);
+        }
+        counts[depth]   = 0;
+        scopes[depth++] = scope;
+    }
+
+    /**
+     * Counts a separator read in the current scope.
+     *
+     * @throws JSONParseException if the maximal number of elements is exceeded
+     */
+    private void countSeparator() throws JSONParseException {
+        if (++counts[depth - 1] >= maxElements) throw error("Maximal number of elements exceeded!");
+    }
+
+    /**
+     * Determines the type of the next token. Structural characters,
+     * separators and opening quotes are consumed.
+     *
+     * @return the type of the next token
+     * @throws JSONParseException if the JSON data could not be parsed
+     */
+    private JSONToken doPeek() throws JSONParseException {
+        final var scope = scopes[depth - 1];
+        switch (scope) {
+            case EMPTY_ARRAY -> {
+                scopes[depth - 1] = NONEMPTY_ARRAY;
+                skipWhitespaces();
+                if (consume(']')) return JSONToken.END_ARRAY;
+            }
+
+            case NONEMPTY_ARRAY -> {
+                skipWhitespaces();
+                if (consume(']')) return JSONToken.END_ARRAY;
+                if (!consume(',')) throw error("Expected \",\" or \"]\"!");
+                countSeparator();
+            }
+
+            case EMPTY_OBJECT, NONEMPTY_OBJECT -> {
+                skipWhitespaces();
+                if (consume('}')) return JSONToken.END_OBJECT;
+                if (scope == NONEMPTY_OBJECT) {
+                    if (!consume(',')) throw error("Expected \",\" or \"}\"!");
+                    countSeparator();
+                    skipWhitespaces();
+                }
+                if (!consume('"')) throw error("Expected a field name!");
+
+                scopes[depth - 1] = DANGLING_NAME;
+                return JSONToken.NAME;
+            }
+
+            case DANGLING_NAME -> {
+                skipWhitespaces();
+                if (!consume(':')) throw error("Expected \":\"!");
+
+                scopes[depth - 1] = NONEMPTY_OBJECT;
+            }
+
+            default -> {
+                scopes[depth - 1] = NONEMPTY_DOCUMENT;
+                skipWhitespaces();
+                if (!input.hasNext()) return JSONToken.END_DOCUMENT;
+            }
+        }
+        return peekValue();
+    }
+
+    /**
+     * Determines the type of the next value.
+     *
+     * @return the type of the next value
+     * @throws JSONParseException if no value follows
+     */
+    private JSONToken peekValue() throws JSONParseException {
+        skipWhitespaces();
+        if (!input.hasNext()) throw error("Unexpected end of data!");
+
+        return switch (input.peek()) {
+            case '{' -> { input.next(); yield JSONToken.BEGIN_OBJECT; }
+            case '[' -> { input.next(); yield JSONToken.BEGIN_ARRAY;  }
+            case '"' -> { input.next(); yield JSONToken.STRING;       }
+
+            case 't', 'f'           -> JSONToken.BOOLEAN;
+            case 'n'                -> JSONToken.NULL;
+            case '}', ']', ',', ':' -> throw error("Expected a value!");
+            default                 -> JSONToken.NUMBER;
+        };
+    }
+
+    /**
+     * Reads the text of an unquoted value into the reused buffer.
+     *
+     * @return the buffer containing the read text
+     * @throws JSONParseException if the maximal string length is exceeded
+     */
+    private StringBuilder readRaw() throws JSONParseException {
+        buffer.setLength(0);
+        input.readRaw(buffer, maxStringLength);
+        if (buffer.length() > maxStringLength) throw error("Maximal string length exceeded!");
+        return buffer;
+    }
+
+    /**
+     * Reads the content of a string whose opening quote has already
+     * been consumed. The closing quote is consumed.
+     *
+     * @return the content of the string
+     * @throws JSONParseException if the string is not terminated
+     */
+    private String readString() throws JSONParseException {
+        buffer.setLength(0);
+        readString(buffer);
+        return strings.get(buffer);
+    }
+
+    /**
+     * Appends the content of a string whose opening quote has already
+     * been consumed to the given builder. The closing quote is consumed.
+     *
+     * @param out the builder to append the content to
+     * @throws JSONParseException if the string is not terminated or the maximal string length is exceeded
+     */
+    private void readString(final StringBuilder out) throws JSONParseException {
+        final var start = out.length();
+        if (!input.readString(out, maxStringLength)) {
+            if (out.length() - start > maxStringLength) throw error("Maximal string length exceeded!");
+            throw new JSONParseException("Unterminated string!", input.createStreamPosition(input.getIndex()));
+        }
+    }
+
+    /**
+     * Skips a string whose opening quote has already been consumed.
+     *
+     * @throws JSONParseException if the string is not terminated
+     */
+    private void skipString() throws JSONParseException {
+        if (!input.skipString()) {
+            throw new JSONParseException("Unterminated string!", input.createStreamPosition(input.getIndex()));
+        }
+    }
+
+    /**
+     * Consumes the next token if it is of the given type.
+     *
+     * @param token the expected token
+     * @param message the error message used if another token follows
+     * @throws JSONParseException if another token follows
+     */
+    private void expect(final JSONToken token, final String message) throws JSONParseException {
+        if (peek() != token) throw error(message);
+
+        peeked = null;
+    }
+
+    /**
+     * Reads the text of the next string, number or boolean value. Short
+     * texts are shared with equal texts read before.
+     *
+     * @param message the error message used if no such value follows
+     * @return the text of the value
+     * @throws JSONParseException if no string, number or boolean follows
+     */
+    private String nextText(final String message) throws JSONParseException {
+        return strings.get(nextTextBuffer(message));
+    }
+
+    /**
+     * Reads the text of the next string, number or boolean value into
+     * the reused buffer without creating a string.
+     *
+     * @param message the error message used if no such value follows
+     * @return the buffer containing the text of the value
+     * @throws JSONParseException if no string, number or boolean follows
+     */
+    private StringBuilder nextTextBuffer(final String message) throws JSONParseException {
+        final var token = peek();
+        buffer.setLength(0);
+        if (token == JSONToken.STRING) {
+            peeked = null;
+            readString(buffer);
+            return buffer;
+        } else if (token == JSONToken.NUMBER || token == JSONToken.BOOLEAN) {
+            peeked = null;
+            return readRaw();
+        }
+        throw error(message);
+    }
+
+    /**
+     * Reads the text of the next number without creating a string. The
+     * value may be quoted. The returned text is only valid until the
+     * next value is read.
+     *
+     * @return the text of the number
+     * @throws JSONParseException if no number follows
+     */
+    CharSequence nextNumberText() throws JSONParseException {
+        return nextTextBuffer("Expected a number!");
+    }
+
+    /**
+     * Reads the content of the next string without creating a string.
+     * Unquoted numbers and booleans are returned as text. The returned
+     * text is only valid until the next value is read.
+     *
+     * @return the content of the string
+     * @throws JSONParseException if no string follows
+     */
+    CharSequence nextStringText() throws JSONParseException {
+        return nextTextBuffer("Expected a string!");
+    }
+
+    /**
+     * Decodes the given integral number without boxing it. Decimal
+     * numbers are parsed directly, other representations are decoded
+     * using {@link Long#decode(String)}.
+     *
+     * @param string the number to be decoded
+     * @param min the minimal allowed value
+     * @param max the maximal allowed value
+     * @return the decoded number
+     * @throws NumberFormatException if the given string is not a number in the given range
+     */
+    static long decodeIntegral(final String string, final long min, final long max) {
+        final var begin = string.startsWith("-") || string.startsWith("+") ? 1 : 0;
+
+        final long value;
+        if (string.length() - begin > 1 && (string.charAt(begin) == '0' || string.charAt(begin) == '#')) {
+            value = Long.decode(string);
+        } else {
+            value = Long.parseLong(string);
+        }
+        if (value < min || value > max) {
+            throw new NumberFormatException("Value out of range. Value:\"" + string + "\"");
+        }
+        return value;
+    }
+
+    /**
+     * Decodes the given boolean value.
+     *
+     * @param string the text of the value
+     * @param index the index of the value in the input
+     * @return the decoded value
+     * @throws JSONParseException if the text is neither {@code true} nor {@code false}
+     */
+    private boolean decodeBoolean(final CharSequence string, final long index) throws JSONParseException {
+        final var isTrue = "true".contentEquals(string);
+        if (!isTrue && !"false".contentEquals(string)) {
+            throw new JSONParseException("Expected a boolean!", createPosition(index));
+        }
+        return isTrue;
+    }
+
+    /**
+     * Returns the type of the next token without consuming it.
+     *
+     * @return the type of the next token
+     * @throws JSONParseException if the JSON data could not be parsed
+     */
+    public JSONToken peek() throws JSONParseException {
+        if (peeked == null) {
+            peeked = doPeek();
+        }
+        return peeked;
+    }
+
+    /**
+     * Returns the position of the token that was peeked or read last.
+     *
+     * @return the position of the last token
+     */
+    public StreamPosition getPosition() {
+        return createPosition(tokenStart);
+    }
+
+    /**
+     * Creates the position of the given index in the input. As creating
+     * a position can be expensive, positions should only be created when
+     * they are actually needed, e.g. for reporting an error.
+     *
+     * @param index the index in the input
+     * @return the position of the index
+     */
+    StreamPosition createPosition(final long index) {
+        return input.createStreamPosition(index);
+    }
+
+    /**
+     * Returns the index in the input where the token that was peeked or
+     * read last begins.
+     *
+     * @return the index of the last token
+     */
+    long getTokenStart() {
+        return tokenStart;
+    }
+
+    /**
+     * Returns the index of the next unread character in the input.
+     *
+     * @return the current reading index
+     */
+    long getIndex() {
+        return input.getIndex();
+    }
+
+    /**
+     * Returns whether another element or field follows in the current
+     * array or object, or whether another value follows in the document.
+     *
+     * @return whether another value follows
+     * @throws JSONParseException if the JSON data could not be parsed
+     */
+    public boolean hasNext() throws JSONParseException {
+        final var token = peek();
+        return token != JSONToken.END_OBJECT && token != JSONToken.END_ARRAY && token != JSONToken.END_DOCUMENT;
+    }
+
+    /**
+     * Reads the next token. The text of a field name or a scalar value
+     * can be retrieved afterwards using {@link #getString()} or one of
+     * the typed getters. Objects and arrays are entered and left.
+     *
+     * @return the type of the read token
+     * @throws JSONParseException if the JSON data could not be parsed
+     */
+    public JSONToken nextToken() throws JSONParseException {
+        final var token = peek();
+        value      = null;
+        valueStart = tokenStart;
+        switch (token) {
+            case BEGIN_OBJECT -> beginObject();
+            case END_OBJECT   -> endObject();
+            case BEGIN_ARRAY  -> beginArray();
+            case END_ARRAY    -> endArray();
+            case NAME         -> value = nextName();
+            case STRING       -> value = nextString();
+            case NUMBER       -> value = nextText("Expected a number!");
+            case BOOLEAN      -> value = nextBoolean() ? "true" : "false";
+            case NULL         -> nextNull();
+            case END_DOCUMENT -> {}
+        }
+        return token;
+    }
+
+    /**
+     * Returns the text of the field name or scalar value read last by
+     * {@link #nextToken()}.
+     *
+     * @return the text of the value or {@code null} if no such value was read
+     */
+    public String getString() {
+        return value;
+    }
+
+    /**
+     * Returns the value read last by {@link #nextToken()} as {@code long}.
+     *
+     * @return the read number
+     * @throws JSONParseException if no value was read
+     * @throws NumberFormatException if the read value is not an integral number
+     */
+    public long getLong() throws JSONParseException {
+        if (value == null) throw new JSONParseException("Expected a number!", createPosition(valueStart));
+
+        return JSONNumbers.parseLong(value, Long.MIN_VALUE, Long.MAX_VALUE);
+    }
+
+    /**
+     * Returns the value read last by {@link #nextToken()} as {@code double}.
+     *
+     * @return the read number
+     * @throws JSONParseException if no value was read
+     * @throws NumberFormatException if the read value is not a number
+     */
+    public double getDouble() throws JSONParseException {
+        if (value == null) throw new JSONParseException("Expected a number!", createPosition(valueStart));
+
+        return JSONNumbers.parseDouble(value);
+    }
+
+    /**
+     * Returns the value read last by {@link #nextToken()} as {@code boolean}.
+     *
+     * @return the read boolean
+     * @throws JSONParseException if the read value is not a boolean
+     */
+    public boolean getBoolean() throws JSONParseException {
+        if (value == null) throw new JSONParseException("Expected a boolean!", createPosition(valueStart));
+
+        return decodeBoolean(value, valueStart);
+    }
+
+    /**
+     * Consumes the beginning of an object.
+     *
+     * @throws JSONParseException if no object follows
+     */
+    public void beginObject() throws JSONParseException {
+        expect(JSONToken.BEGIN_OBJECT, "Expected \"{\"!");
+        push(EMPTY_OBJECT);
+    }
+
+    /**
+     * Consumes the end of the current object.
+     *
+     * @throws JSONParseException if the current object does not end
+     */
+    public void endObject() throws JSONParseException {
+        expect(JSONToken.END_OBJECT, "Expected \"}\"!");
+        --depth;
+    }
+
+    /**
+     * Consumes the beginning of an array.
+     *
+     * @throws JSONParseException if no array follows
+     */
+    public void beginArray() throws JSONParseException {
+        expect(JSONToken.BEGIN_ARRAY, "Expected \"[\"!");
+        push(EMPTY_ARRAY);
+    }
+
+    /**
+     * Consumes the end of the current array.
+     *
+     * @throws JSONParseException if the current array does not end
+     */
+    public void endArray() throws JSONParseException {
+        expect(JSONToken.END_ARRAY, "Expected \"]\"!");
+        --depth;
+    }
+
+    /**
+     * Continues reading as if the beginning of an array had been consumed.
+     * Used to read a range of the elements of an array whose bytes have
+     * been split off the enclosing data.
+     *
+     * @throws JSONParseException if the maximal nesting depth is exceeded
+     */
+    void beginElements() throws JSONParseException {
+        scopes[0] = NONEMPTY_DOCUMENT;
+        push(EMPTY_ARRAY);
+    }
+
+    /**
+     * Checks that nothing but whitespaces follows the range of elements
+     * entered using {@link #beginElements()}.
+     *
+     * @throws JSONParseException if more data follows the read elements
+     */
+    void endElements() throws JSONParseException {
+        if (peeked == null) {
+            skipWhitespaces();
+            if (!input.hasNext()) {
+                --depth;
+                return;
+            }
+        }
+        throw error("Expected \",\" or \"]\"!");
+    }
+
+    /**
+     * Reads the name of the next field. Its value is to be read afterwards.
+     * Short names are canonicalized, so that repeated names are returned
+     * as the same instance.
+     *
+     * @return the name of the field
+     * @throws JSONParseException if no field follows
+     */
+    public String nextName() throws JSONParseException {
+        expect(JSONToken.NAME, "Expected a field name!");
+        return readString();
+    }
+
+    /**
+     * Reads the name of the next field into the reused buffer without
+     * creating a string. The returned characters are only valid until
+     * the next value is read.
+     *
+     * @return the buffer containing the name of the field
+     * @throws JSONParseException if no field follows
+     */
+    StringBuilder nextNameBuffer() throws JSONParseException {
+        expect(JSONToken.NAME, "Expected a field name!");
+        buffer.setLength(0);
+        readString(buffer);
+        return buffer;
+    }
+
+    /**
+     * Appends the content of the next field name or string to the given
+     * builder without creating a string.
+     *
+     * @param out the builder to append the content to
+     * @throws JSONParseException if neither a field name nor a string follows
+     */
+    void appendString(final StringBuilder out) throws JSONParseException {
+        final var token = peek();
+        if (token != JSONToken.NAME && token != JSONToken.STRING) throw error("Expected a string!");
+
+        peeked = null;
+        readString(out);
+    }
+
+    /**
+     * Reads the next string. Unquoted numbers and booleans are returned
+     * as text. Short strings are canonicalized like the field names.
+     *
+     * @return the read string
+     * @throws JSONParseException if no string follows
+     */
+    public String nextString() throws JSONParseException {
+        return nextText("Expected a string!");
+    }
+
+    /**
+     * Reads the next boolean value. The value may be quoted.
+     *
+     * @return the read boolean
+     * @throws JSONParseException if no boolean follows
+     */
+    public boolean nextBoolean() throws JSONParseException {
+        peek();
+        final var start = tokenStart;
+        return decodeBoolean(nextTextBuffer("Expected a boolean!"), start);
+    }
+
+    /**
+     * Reads the next integral number and checks its range. The value
+     * may be quoted.
+     *
+     * @param min the minimal allowed value
+     * @param max the maximal allowed value
+     * @return the read number
+     * @throws JSONParseException if no number follows
+     * @throws NumberFormatException if the value is not an integral number in the given range
+     */
+    long nextIntegral(final long min, final long max) throws JSONParseException {
+        return JSONNumbers.parseLong(nextNumberText(), min, max);
+    }
+
+    /**
+     * Reads the next {@code int} value. The value may be quoted.
+     *
+     * @return the read number
+     * @throws JSONParseException if no number follows
+     * @throws NumberFormatException if the value is not an {@code int}
+     */
+    public int nextInt() throws JSONParseException {
+        return (int) nextIntegral(Integer.MIN_VALUE, Integer.MAX_VALUE);
+    }
+
+    /**
+     * Reads the next {@code long} value. The value may be quoted.
+     *
+     * @return the read number
+     * @throws JSONParseException if no number follows
+     * @throws NumberFormatException if the value is not a {@code long}
+     */
+    public long nextLong() throws JSONParseException {
+        return nextIntegral(Long.MIN_VALUE, Long.MAX_VALUE);
+    }
+
+    /**
+     * Reads the next {@code float} value. The value may be quoted.
+     *
+     * @return the read number
+     * @throws JSONParseException if no number follows
+     * @throws NumberFormatException if the value is not a number
+     */
+    public float nextFloat() throws JSONParseException {
+        return JSONNumbers.parseFloat(nextNumberText());
+    }
+
+    /**
+     * Reads the next {@code double} value. The value may be quoted.
+     *
+     * @return the read number
+     * @throws JSONParseException if no number follows
+     * @throws NumberFormatException if the value is not a number
+     */
+    public double nextDouble() throws JSONParseException {
+        return JSONNumbers.parseDouble(nextNumberText());
+    }
+
+    /**
+     * Consumes the next {@code null} value.
+     *
+     * @throws JSONParseException if no {@code null} follows
+     */
+    public void nextNull() throws JSONParseException {
+        expect(JSONToken.NULL, "Expected null!");
+        if (!"null".contentEquals(readRaw())) {
+            throw error("Expected null!");
+        }
+    }
+
+    /**
+     * Skips the next value including all nested values. If the next
+     * token is a field name, the name and its value are skipped.
+     *
+     * @throws JSONParseException if the JSON data could not be parsed
+     */
+    public void skipValue() throws JSONParseException {
+        skipValue(false);
+    }
+
+    /**
+     * Skips the next value like {@link #skipValue()}, additionally
+     * checking that the numbers and literals are spelled correctly.
+     *
+     * @throws JSONParseException if the value is malformed
+     */
+    void skipValueChecked() throws JSONParseException {
+        skipValue(true);
+    }
+
+    /**
+     * Skips the next value including all nested values.
+     *
+     * @param checkingLiterals whether to check the spelling of the numbers and literals
+     * @throws JSONParseException if the value is malformed
+     */
+    private void skipValue(final boolean checkingLiterals) throws JSONParseException {
+        if (peek() == JSONToken.NAME) {
+            peeked = null;
+            skipString();
+        }
+        if (!hasNext()) throw error("Expected a value!");
+
+        var count = 0;
+        do {
+            switch (peek()) {
+                case BEGIN_OBJECT -> { beginObject(); ++count; }
+                case BEGIN_ARRAY  -> { beginArray();  ++count; }
+                case END_OBJECT   -> { endObject();   --count; }
+                case END_ARRAY    -> { endArray();    --count; }
+
+                case NAME, STRING          -> { peeked = null; skipString();    }
+                case END_DOCUMENT          -> throw error("Unexpected end of data!");
+
+                case NUMBER, BOOLEAN, NULL -> {
+                    final var token = peeked;
+                    peeked = null;
+                    if (checkingLiterals) {
+                        checkLiteral(token);
+                    } else {
+                        input.skipRaw();
+                    }
+                }
+            }
+        } while (count > 0);
+    }
+
+    /**
+     * Reads the unquoted value beginning with the given token and checks
+     * its spelling. Besides the numbers of the JSON grammar, the integral
+     * representations accepted by {@link #nextLong()} are allowed.
+     *
+     * @param token the token the value begins with
+     * @throws JSONParseException if the value is not spelled correctly
+     */
+    private void checkLiteral(final JSONToken token) throws JSONParseException {
+        final var text = readRaw();
+        switch (token) {
+            case NULL -> {
+                if (!"null".contentEquals(text)) throw error("Expected null!");
+            }
+            case BOOLEAN -> {
+                if (!"true".contentEquals(text) && !"false".contentEquals(text)) throw error("Expected a boolean!");
+            }
+            default -> {
+                if (!JSONNumbers.isNumber(text)) {
+                    try {
+                        decodeIntegral(text.toString(), Long.MIN_VALUE, Long.MAX_VALUE);
+                    } catch (final NumberFormatException e) {
+                        throw error("Expected a number!");
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Skips the next value including all nested values without checking
+     * them. Objects and arrays are skipped by a scanner that only tracks
+     * their nesting and strings; no tokens are read and no values are
+     * decoded. If the next token is a field name, the name and its value
+     * are skipped.
+     *
+     * @throws JSONParseException if no value follows or the data ends within the value
+     * @see #skipValue()
+     */
+    public void skipValueUnchecked() throws JSONParseException {
+        if (peek() == JSONToken.NAME) {
+            peeked = null;
+            skipString();
+        }
+        switch (peek()) {
+            case BEGIN_OBJECT, BEGIN_ARRAY -> {
+                peeked = null;
+                if (!input.skipNested()) throw error("Unexpected end of data!");
+            }
+            case STRING                -> { peeked = null; skipString();    }
+            case NUMBER, BOOLEAN, NULL -> { peeked = null; input.skipRaw(); }
+            default                    -> throw error("Expected a value!");
+        }
+    }
+
+    /**
+     * Returns the maximal nesting depth of objects and arrays.
+     *
+     * @return the maximal nesting depth
+     */
+    public int getMaxDepth() {
+        return maxDepth;
+    }
+
+    /**
+     * Sets the maximal nesting depth of objects and arrays. Defaults to
+     * {@link #DEFAULT_MAX_DEPTH}. Reading deeper nested data fails with
+     * a {@link JSONParseException}, which protects against data nested
+     * absurdly deep. The {@link JSONParser} binds the nested objects and
+     * collections on an explicit stack, so that the depth is not bound by
+     * the call stack; only values read by {@link JSONCodec}s are read
+     * recursively.
+     *
+     * @param maxDepth the maximal nesting depth
+     * @throws IllegalArgumentException if the depth is not positive
+     */
+    public void setMaxDepth(int maxDepth) {
+        if (maxDepth <= 0) throw new IllegalArgumentException("The maximal depth must be positive!");
+
+        this.maxDepth = maxDepth;
+    }
+
+    /**
+     * Returns the maximal number of characters of strings, field names
+     * and unquoted values.
+     *
+     * @return the maximal string length
+     */
+    public int getMaxStringLength() {
+        return maxStringLength;
+    }
+
+    /**
+     * Sets the maximal number of characters of strings, field names and
+     * unquoted values. Skipped strings are not limited. Not limited by
+     * default.
+     *
+     * @param maxStringLength the maximal string length
+     * @throws IllegalArgumentException if the length is negative
+     */
+    public void setMaxStringLength(int maxStringLength) {
+        if (maxStringLength < 0) throw new IllegalArgumentException("The maximal string length must not be negative!");
+
+        this.maxStringLength = maxStringLength;
+    }
+
+    /**
+     * Returns the maximal number of elements of an array or fields of
+     * an object.
+     *
+     * @return the maximal number of elements
+     */
+    public int getMaxElements() {
+        return maxElements;
+    }
+
+    /**
+     * Sets the maximal number of elements of an array or fields of an
+     * object. Containers skipped using {@link #skipValueUnchecked()} are
+     * not limited. Not limited by default.
+     *
+     * @param maxElements the maximal number of elements
+     * @throws IllegalArgumentException if the number is not positive
+     */
+    public void setMaxElements(int maxElements) {
+        if (maxElements <= 0) throw new IllegalArgumentException("The maximal number of elements must be positive!");
+
+        this.maxElements = maxElements;
+    }
+
+    /**
+     * Closes the underlying input. A {@link StringStream} is not closed.
+     *
+     * @throws IOException if an I/O error occurs
+     */
+    @Override
+    public void close() throws IOException {
+        input.close();
+    }
+}
@@ -0,0 +1,94 @@
+/*
+ * JUtilities - Some utilities written for Java.
+ *
+ * Copyright (C) 2026  mhahnFr
+ *
+ * This file is part of the JUtilities. This library is free software:
+ * you can redistribute it and/or modify it under the terms of the
+ * GNU General Public License as published by the Free Software Foundation,
+ * either version 3 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with
+ * this library, see the file LICENSE.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package mhahnFr.utils.json;
+
+/**
+ * This class canonicalizes short strings, such as field names and
+ * enum-like values, that are repeated throughout the JSON data.
+ * <p>
+ * The characters are hashed before a string is created; if an equal
+ * string is found in the table, that instance is returned instead of
+ * creating a new one. The table has a fixed size: each hash selects a
+ * bucket of two entries, the older entry is evicted when a new string
+ * is added to a full bucket.
+ *
+ * @author mhahnFr
+ * @since 16.10.26
+ */
+final class JSONStringCache {
+    /** The number of entries of the table, a power of two. */
+    private static final int SIZE       = 1024;
+    /** The maximum length of the canonicalized strings.    */
+    private static final int MAX_LENGTH = 32;
+
+    /** The cached strings, created on first use.           */
+    private String[] strings;
+    /** The hashes of the cached strings.                   */
+    private int[] hashes;
+
+    /**
+     * Returns a string with the given characters. Short strings are
+     * looked up in the table first and added if not found.
+     *
+     * @param chars the characters of the string
+     * @return the shared or newly created string
+     */
+    String get(final CharSequence chars) {
+        final var length = chars.length();
+        if (length > MAX_LENGTH) return chars.toString();
+
+        if (strings == null) {
+            strings = new String[SIZE];
+            hashes  = new int[SIZE];
+        }
+
+        var hash = 0;
+        for (int i = 0; i < length; ++i) {
+            hash = 31 * hash + chars.charAt(i);
+        }
+        final var index = (hash ^ (hash >>> 16)) & (SIZE - 2);
+        for (int i = index; i < index + 2; ++i) {
+            final var string = strings[i];
+            if (string == null) {
+                return store(i, hash, chars);
+            } else if (hashes[i] == hash && string.contentEquals(chars)) {
+                return string;
+            }
+        }
+        strings[index + 1] = strings[index];
+        hashes[index + 1]  = hashes[index];
+        return store(index, hash, chars);
+    }
+
+    /**
+     * Creates a string and stores it in the given entry.
+     *
+     * @param index the index of the entry
+     * @param hash the hash of the characters
+     * @param chars the characters of the string
+     * @return the created string
+     */
+    private String store(final int index, final int hash, final CharSequence chars) {
+        final var string = chars.toString();
+        strings[index] = string;
+        hashes[index]  = hash;
+        return string;
+    }
+}
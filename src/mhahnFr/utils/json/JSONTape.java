@@ -0,0 +1,394 @@
+/*
+ * JUtilities - Some utilities written for Java.
+ *
+ * Copyright (C) 2026  mhahnFr
+ *
+ * This file is part of the JUtilities. This library is free software:
+ * you can redistribute it and/or modify it under the terms of the
+ * GNU General Public License as published by the Free Software Foundation,
+ * either version 3 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with
+ * this library, see the file LICENSE.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package mhahnFr.utils.json;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * This class represents a generic JSON value parsed into a flat tape.
+ * Instead of one object per node, the values are stored as a sequence of
+ * {@code long}s, the texts of all strings and field names share a single
+ * string. The tape is navigated using a {@link JSONCursor} and can be
+ * written again using {@link JSONWriter#writeTape(JSONTape)}.
+ * <p>
+ * Each entry of the tape begins with a word holding the tag of the entry
+ * in its upper eight bits and a payload in the remaining bits:
+ * <ul>
+ *     <li>objects and arrays: the index after their last entry, followed
+ *         by a word with the number of their children,</li>
+ *     <li>strings, field names and numbers not stored inline:
+ *         the offset of the text, followed by a word with its length,</li>
+ *     <li>integral numbers and decimal numbers: no payload, followed by a
+ *         word with the value or the bits of the {@code double},</li>
+ *     <li>{@code true}, {@code false} and {@code null}: no payload and no
+ *         further word.</li>
+ * </ul>
+ * The fields of an object are stored as the name entry followed by the
+ * entries of the value.
+ *
+ * @author mhahnFr
+ * @since 16.10.26
+ */
+public final class JSONTape {
+    /** Tag of an object.                              */
+    static final int OBJECT = 1;
+    /** Tag of an array.                               */
+    static final int ARRAY  = 2;
+    /** Tag of a string.                               */
+    static final int STRING = 3;
+    /** Tag of the name of a field.                    */
+    static final int NAME   = 4;
+    /** Tag of an integral number.                     */
+    static final int LONG   = 5;
+    /** Tag of a decimal number.                       */
+    static final int DOUBLE = 6;
+    /** Tag of a number kept as text.                  */
+    static final int BIG    = 7;
+    /** Tag of {@code true}.                           */
+    static final int TRUE   = 8;
+    /** Tag of {@code false}.                          */
+    static final int FALSE  = 9;
+    /** Tag of {@code null}.                           */
+    static final int NULL   = 10;
+
+    /** The number of bits the tag is shifted.         */
+    private static final int  TAG_SHIFT    = 56;
+    /** The mask of the payload of a word.             */
+    private static final long PAYLOAD_MASK = (1L << TAG_SHIFT) - 1;
+
+    /** The entries of this tape.                      */
+    private final long[] tape;
+    /** The shared texts of the entries.               */
+    private final String strings;
+
+    /**
+     * Constructs this tape using the given string.
+     *
+     * @param string the JSON data
+     * @throws JSONParseException if the JSON data is malformed
+     */
+    public JSONTape(final String string) throws JSONParseException {
+        this(string.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Constructs this tape using the given UTF-8 encoded bytes.
+     *
+     * @param bytes the JSON data
+     * @throws JSONParseException if the JSON data is malformed
+     */
+    public JSONTape(final byte[] bytes) throws JSONParseException {
+        this(new JSONReader(bytes), true);
+    }
+
+    /**
+     * Constructs this tape using the next value read by the given
+     * reader. The reader can be used afterwards to read the values
+     * that follow.
+     *
+     * @param reader the reader to read the value from
+     * @throws JSONParseException if the JSON data is malformed
+     */
+    public JSONTape(final JSONReader reader) throws JSONParseException {
+        this(reader, false);
+    }
+
+    /**
+     * Constructs this tape using the next value read by the given reader.
+     *
+     * @param reader the reader to read the value from
+     * @param whole whether the value must be the whole remaining data
+     * @throws JSONParseException if the JSON data is malformed
+     */
+    private JSONTape(final JSONReader reader, final boolean whole) throws JSONParseException {
+        final var builder = new Builder();
+        builder.read(reader);
+        if (whole && reader.peek() != JSONToken.END_DOCUMENT) {
+            throw new JSONParseException("Expected the end of the data!", reader.getPosition());
+        }
+        tape    = Arrays.copyOf(builder.tape, builder.size);
+        strings = builder.strings.toString();
+    }
+
+    /**
+     * This class builds the entries of a tape.
+     *
+     * @author mhahnFr
+     * @since 16.10.26
+     */
+    private static final class Builder {
+        /** The built entries.                                  */
+        private long[] tape = new long[64];
+        /** The number of built words.                          */
+        private int size;
+        /** The collected texts.                                */
+        private final StringBuilder strings = new StringBuilder();
+        /** The indices of the currently open containers.       */
+        private int[] containers = new int[16];
+        /** The numbers of children of the open containers.     */
+        private int[] counts = new int[16];
+        /** The number of open containers.                      */
+        private int depth;
+
+        /**
+         * Appends the given word.
+         *
+         * @param word the word to be appended
+         */
+        private void append(final long word) {
+            if (size == tape.length) {
+                tape = Arrays.copyOf(tape, size * 2);
+            }
+            tape[size++] = word;
+        }
+
+        /**
+         * Appends an entry consisting of the given tag and a word.
+         *
+         * @param tag the tag of the entry
+         * @param payload the payload of the tag word
+         * @param word the second word
+         */
+        private void append(final int tag, final long payload, final long word) {
+            append(((long) tag << TAG_SHIFT) | payload);
+            append(word);
+        }
+
+        /**
+         * Appends the text of the next string or field name.
+         *
+         * @param tag the tag of the entry
+         * @param reader the reader to read the text from
+         * @throws JSONParseException if the text could not be read
+         */
+        private void appendText(final int tag, final JSONReader reader) throws JSONParseException {
+            final var offset = strings.length();
+            reader.appendString(strings);
+            append(tag, offset, strings.length() - offset);
+        }
+
+        /**
+         * Appends the next number. Integral numbers fitting into a
+         * {@code long} and decimal numbers fitting into a {@code double}
+         * are stored inline, other numbers and {@code -0} are stored as
+         * text, so that they are written back unchanged.
+         *
+         * @param reader the reader to read the number from
+         * @throws JSONParseException if the value is not a number
+         */
+        private void appendNumber(final JSONReader reader) throws JSONParseException {
+            final var start = reader.getTokenStart();
+            final var text  = reader.nextNumberText();
+
+            final Number number;
+            try {
+                number = JSONNumbers.parseNumber(text);
+            } catch (NumberFormatException e) {
+                throw new JSONParseException("Expected a number!", reader.createPosition(start));
+            }
+            if (number instanceof Long value && (value != 0 || text.charAt(0) != '-')) {
+                append(LONG, 0, value);
+            } else if (number instanceof Double value) {
+                append(DOUBLE, 0, Double.doubleToRawLongBits(value));
+            } else {
+                final var offset = strings.length();
+                strings.append(text);
+                append(BIG, offset, text.length());
+            }
+        }
+
+        /**
+         * Opens a container.
+         *
+         * @param tag the tag of the container
+         */
+        private void open(final int tag) {
+            if (depth == containers.length) {
+                containers = Arrays.copyOf(containers, depth * 2);
+                counts     = Arrays.copyOf(counts, depth * 2);
+            }
+            containers[depth] = size;
+            counts[depth++]   = 0;
+            append(tag, 0, 0);
+        }
+
+        /**
+         * Closes the innermost container.
+         */
+        private void close() {
+            final var index = containers[--depth];
+            tape[index]    |= size;
+            tape[index + 1] = counts[depth];
+        }
+
+        /**
+         * Reads the next value using the given reader.
+         *
+         * @param reader the reader to read the value from
+         * @throws JSONParseException if the JSON data is malformed
+         */
+        private void read(final JSONReader reader) throws JSONParseException {
+            do {
+                final var token = reader.peek();
+                if (depth > 0 && token != JSONToken.NAME
+                              && token != JSONToken.END_OBJECT
+                              && token != JSONToken.END_ARRAY) {
+                    ++counts[depth - 1];
+                }
+                switch (token) {
+                    case BEGIN_OBJECT -> { reader.beginObject(); open(OBJECT); }
+                    case BEGIN_ARRAY  -> { reader.beginArray();  open(ARRAY);  }
+                    case END_OBJECT   -> { reader.endObject();   close();      }
+                    case END_ARRAY    -> { reader.endArray();    close();      }
+
+                    case NAME         -> appendText(NAME, reader);
+                    case STRING       -> appendText(STRING, reader);
+                    case NUMBER       -> appendNumber(reader);
+                    case BOOLEAN      -> append(((long) (reader.nextBoolean() ? TRUE : FALSE)) << TAG_SHIFT);
+                    case NULL         -> { reader.nextNull(); append((long) NULL << TAG_SHIFT); }
+                    case END_DOCUMENT -> throw new JSONParseException("Expected a value!", reader.getPosition());
+                }
+            } while (depth > 0);
+        }
+    }
+
+    /**
+     * Returns the tag of the entry at the given index.
+     *
+     * @param index the index of the entry
+     * @return the tag of the entry
+     */
+    int tag(final int index) {
+        return (int) (tape[index] >>> TAG_SHIFT);
+    }
+
+    /**
+     * Returns the payload of the tag word of the entry at the given index.
+     *
+     * @param index the index of the entry
+     * @return the payload of the entry
+     */
+    long payload(final int index) {
+        return tape[index] & PAYLOAD_MASK;
+    }
+
+    /**
+     * Returns the second word of the entry at the given index.
+     *
+     * @param index the index of the entry
+     * @return the second word of the entry
+     */
+    long word(final int index) {
+        return tape[index + 1];
+    }
+
+    /**
+     * Returns the text of the string entry at the given index.
+     *
+     * @param index the index of the entry
+     * @return the text of the entry
+     */
+    String string(final int index) {
+        final var offset = (int) payload(index);
+        return strings.substring(offset, offset + (int) word(index));
+    }
+
+    /**
+     * Returns whether the text of the string entry at the given index
+     * equals the given string.
+     *
+     * @param index the index of the entry
+     * @param string the string to compare with
+     * @return whether the texts are equal
+     */
+    boolean textEquals(final int index, final String string) {
+        return word(index) == string.length()
+            && strings.regionMatches((int) payload(index), string, 0, string.length());
+    }
+
+    /**
+     * Returns the index after the entry at the given index, including
+     * all nested entries.
+     *
+     * @param index the index of the entry
+     * @return the index of the following entry
+     */
+    int skip(final int index) {
+        return switch (tag(index)) {
+            case OBJECT, ARRAY     -> (int) payload(index);
+            case TRUE, FALSE, NULL -> index + 1;
+            default                -> index + 2;
+        };
+    }
+
+    /**
+     * Returns the type of the value whose entry is at the given index.
+     *
+     * @param index the index of the entry
+     * @return the type of the value
+     */
+    JSONValue.Type type(final int index) {
+        return switch (tag(index)) {
+            case OBJECT             -> JSONValue.Type.OBJECT;
+            case ARRAY              -> JSONValue.Type.ARRAY;
+            case STRING, NAME       -> JSONValue.Type.STRING;
+            case LONG, DOUBLE, BIG  -> JSONValue.Type.NUMBER;
+            case TRUE, FALSE        -> JSONValue.Type.BOOLEAN;
+            default                 -> JSONValue.Type.NULL;
+        };
+    }
+
+    /**
+     * Creates a new cursor positioned at the root value of this tape.
+     *
+     * @return a new cursor
+     */
+    public JSONCursor getCursor() {
+        return new JSONCursor(this);
+    }
+
+    /**
+     * Returns the number of {@code long}s this tape consists of.
+     *
+     * @return the length of the tape
+     */
+    public int getLength() {
+        return tape.length;
+    }
+
+    /**
+     * Returns this tape written as compact JSON.
+     *
+     * @return the JSON text of this tape
+     */
+    @Override
+    public String toString() {
+        final var out = new ByteArrayOutputStream();
+        try {
+            new JSONWriter(out).writeTape(this);
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+        return out.toString(StandardCharsets.UTF_8);
+    }
+}
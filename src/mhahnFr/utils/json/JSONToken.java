@@ -0,0 +1,59 @@
+/*
+ * JUtilities - Some utilities written for Java.
+ *
+ * Copyright (C) 2026  mhahnFr
+ *
+ * This file is part of the JUtilities. This library is free software:
+ * you can redistribute it and/or modify it under the terms of the
+ * GNU General Public License as published by the Free Software Foundation,
+ * either version 3 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with
+ * this library, see the file LICENSE.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package mhahnFr.utils.json;
+
+/**
+ * This enumeration contains the tokens read by the {@link JSONReader}.
+ *
+ * @author mhahnFr
+ * @since 16.10.26
+ */
+public enum JSONToken {
+    /** The beginning of an object.                    */
+    BEGIN_OBJECT,
+    /** The end of an object.                          */
+    END_OBJECT,
+    /** The beginning of an array.                     */
+    BEGIN_ARRAY,
+    /** The end of an array.                           */
+    END_ARRAY,
+    /** The name of a field of an object.              */
+    NAME,
+    /** A quoted string value.                         */
+    STRING,
+    /** A raw number value.                            */
+    NUMBER,
+    /** A boolean value: {@code true} or {@code false}. */
+    BOOLEAN,
+    /** The {@code null} value.                        */
+    NULL,
+    /** The end of the JSON data.                      */
+    END_DOCUMENT;
+
+    /**
+     * Returns whether this token represents a single value, that is
+     * a string, a number, a boolean or {@code null}.
+     *
+     * @return whether this token is a scalar value
+     */
+    public boolean isScalar() {
+        return this == STRING || this == NUMBER || this == BOOLEAN || this == NULL;
+    }
+}
@@ -0,0 +1,179 @@
+/*
+ * JUtilities - Some utilities written for Java.
+ *
+ * Copyright (C) 2026  mhahnFr
+ *
+ * This file is part of the JUtilities. This library is free software:
+ * you can redistribute it and/or modify it under the terms of the
+ * GNU General Public License as published by the Free Software Foundation,
+ * either version 3 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with
+ * this library, see the file LICENSE.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package mhahnFr.utils.json;
+
+import java.lang.reflect.*;
+import java.util.Map;
+
+/**
+ * This class describes a possibly generic type. The type arguments
+ * are resolved once when the description is created, so that reading
+ * and writing do not need to inspect the generic type again.
+ *
+ * @author mhahnFr
+ * @since 16.10.26
+ */
+final class JSONTypeInfo {
+    /** The description of {@link Object}, used for unknown type arguments. */
+    static final JSONTypeInfo OBJECT = new JSONTypeInfo(Object.class);
+
+    /** The raw class of the described type.                 */
+    private final Class<?> rawClass;
+    /** The generic type that is described.                  */
+    private final Type type;
+    /** The descriptions of the type arguments.              */
+    private final JSONTypeInfo[] arguments;
+    /** The description of the component type, if an array. */
+    private final JSONTypeInfo component;
+    /** Whether the type is a string dictionary.             */
+    private final boolean stringDictionary;
+    /** The primitive type, {@code null} if not primitive.   */
+    private final JSONPrimitive primitive;
+
+    /**
+     * Constructs a description of the given type.
+     *
+     * @param type the type to be described
+     */
+    JSONTypeInfo(final Type type) {
+        this.type      = type;
+        this.rawClass  = rawClassOf(type);
+        this.primitive = JSONPrimitive.of(rawClass);
+
+        if (type instanceof ParameterizedType parameterized) {
+            final var actualArguments = parameterized.getActualTypeArguments();
+
+            arguments = new JSONTypeInfo[actualArguments.length];
+            for (int i = 0; i < actualArguments.length; ++i) {
+                arguments[i] = new JSONTypeInfo(actualArguments[i]);
+            }
+        } else {
+            arguments = new JSONTypeInfo[0];
+        }
+
+        if (type instanceof GenericArrayType array) {
+            component = new JSONTypeInfo(array.getGenericComponentType());
+        } else if (rawClass.isArray()) {
+            component = new JSONTypeInfo(rawClass.componentType());
+        } else {
+            component = null;
+        }
+
+        if (Map.class.isAssignableFrom(rawClass)) {
+            final var keyClass = getArgument(0).rawClass;
+
+            stringDictionary = String.class.isAssignableFrom(keyClass) ||
+                               Enum.class.isAssignableFrom(keyClass);
+        } else {
+            stringDictionary = false;
+        }
+    }
+
+    /**
+     * Returns the raw class of the given type. Wildcards and type
+     * variables are resolved to their first upper bound.
+     *
+     * @param type the type whose raw class to find
+     * @return the raw class of the given type
+     */
+    private static Class<?> rawClassOf(final Type type) {
+        if (type instanceof Class<?> c) {
+            return c;
+        } else if (type instanceof ParameterizedType parameterized) {
+            return (Class<?>) parameterized.getRawType();
+        } else if (type instanceof GenericArrayType array) {
+            return rawClassOf(array.getGenericComponentType()).arrayType();
+        } else if (type instanceof WildcardType wildcard) {
+            return rawClassOf(wildcard.getUpperBounds()[0]);
+        } else if (type instanceof TypeVariable<?> variable) {
+            return rawClassOf(variable.getBounds()[0]);
+        }
+        return Object.class;
+    }
+
+    /**
+     * Returns the raw class of the described type.
+     *
+     * @return the raw class
+     */
+    Class<?> getRawClass() {
+        return rawClass;
+    }
+
+    /**
+     * Returns the described generic type.
+     *
+     * @return the generic type
+     */
+    Type getType() {
+        return type;
+    }
+
+    /**
+     * Returns the class information of the raw class.
+     *
+     * @return the class information of the described type
+     * @see JSONClassInfo#of(Class)
+     */
+    JSONClassInfo getClassInfo() {
+        return JSONClassInfo.of(rawClass);
+    }
+
+    /**
+     * Returns the description of the type argument at the given
+     * index. If the type argument is not known, the description
+     * of {@link Object} is returned.
+     *
+     * @param index the index of the type argument
+     * @return the description of the requested type argument
+     */
+    JSONTypeInfo getArgument(final int index) {
+        return index < arguments.length ? arguments[index] : OBJECT;
+    }
+
+    /**
+     * Returns the description of the component type if the described
+     * type is an array type.
+     *
+     * @return the component type or {@code null} if not an array
+     */
+    JSONTypeInfo getComponent() {
+        return component;
+    }
+
+    /**
+     * Returns whether the described type is a map whose keys are
+     * either strings or enums.
+     *
+     * @return whether the described type is a string dictionary
+     */
+    boolean isStringDictionary() {
+        return stringDictionary;
+    }
+
+    /**
+     * Returns the primitive type if the described type is primitive.
+     *
+     * @return the primitive type or {@code null} if not primitive
+     */
+    JSONPrimitive getPrimitive() {
+        return primitive;
+    }
+}
@@ -0,0 +1,431 @@
+/*
+ * JUtilities - Some utilities written for Java.
+ *
+ * Copyright (C) 2026  mhahnFr
+ *
+ * This file is part of the JUtilities. This library is free software:
+ * you can redistribute it and/or modify it under the terms of the
+ * GNU General Public License as published by the Free Software Foundation,
+ * either version 3 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with
+ * this library, see the file LICENSE.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package mhahnFr.utils.json;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * This class represents a single value of a {@link JSONDocument}. The
+ * value only knows its boundaries in the document until it is accessed:
+ * the children of objects and arrays are located on their first access,
+ * strings and numbers are decoded when they are requested.
+ * <p>
+ * As the document has been checked for its structure and the spelling
+ * of its numbers and literals, the accessing methods do not throw
+ * {@link JSONParseException}s. Requesting a value
+ * of another type results in an {@link IllegalStateException}.
+ *
+ * @author mhahnFr
+ * @since 16.10.26
+ */
+public final class JSONValue {
+    /** Number of fields from which on the names are looked up by hash. */
+    private static final int HASH_THRESHOLD = 8;
+
+    /**
+     * This enumeration contains the types of {@link JSONValue}s.
+     *
+     * @author mhahnFr
+     * @since 16.10.26
+     */
+    public enum Type {
+        /** An object with named fields.  */
+        OBJECT,
+        /** An array of values.           */
+        ARRAY,
+        /** A string.                     */
+        STRING,
+        /** A number.                     */
+        NUMBER,
+        /** A boolean.                    */
+        BOOLEAN,
+        /** The {@code null} value.       */
+        NULL;
+
+        /**
+         * Returns the type of the value beginning with the given token.
+         *
+         * @param token the first token of the value
+         * @return the type of the value or {@code null} if the token does not begin a value
+         */
+        static Type of(final JSONToken token) {
+            return switch (token) {
+                case BEGIN_OBJECT -> OBJECT;
+                case BEGIN_ARRAY  -> ARRAY;
+                case STRING       -> STRING;
+                case NUMBER       -> NUMBER;
+                case BOOLEAN      -> BOOLEAN;
+                case NULL         -> NULL;
+                default           -> null;
+            };
+        }
+    }
+
+    /** The document this value belongs to.                         */
+    private final JSONDocument document;
+    /** The index of the first byte of this value in the document.  */
+    private final int start;
+    /** The index after the last byte of this value.                */
+    private final int end;
+    /** The type of this value.                                     */
+    private final Type type;
+
+    /** The names of the fields, {@code null} if not yet located.   */
+    private String[] names;
+    /** The types of the children, {@code null} if not yet located. */
+    private Type[] types;
+    /** The start indices of the children.                          */
+    private int[] starts;
+    /** The end indices of the children.                            */
+    private int[] ends;
+    /** The already created children.                               */
+    private JSONValue[] children;
+    /** The indices of the fields by name, for large objects.       */
+    private Map<String, Integer> nameIndices;
+    /** The decoded scalar value, {@code null} if not yet decoded.  */
+    private Object value;
+
+    /**
+     * Constructs this value.
+     *
+     * @param document the document this value belongs to
+     * @param start the index of the first byte of this value
+     * @param end the index after the last byte of this value
+     * @param type the type of this value
+     */
+    JSONValue(final JSONDocument document, final int start, final int end, final Type type) {
+        this.document = document;
+        this.start    = start;
+        this.end      = end;
+        this.type     = type;
+    }
+
+    /**
+     * Creates a reader reading this value.
+     *
+     * @return a reader positioned before this value
+     */
+    private JSONReader reader() {
+        return document.reader(start, end);
+    }
+
+    /**
+     * Creates the exception thrown if the document cannot be read
+     * although its structure has been checked.
+     *
+     * @param cause the causing exception
+     * @return the exception to be thrown
+     */
+    private static IllegalStateException unexpected(final JSONParseException cause) {
+        return new IllegalStateException("The checked document could not be read!", cause);
+    }
+
+    /**
+     * Checks that this value has the given type.
+     *
+     * @param expected the expected type
+     * @throws IllegalStateException if this value has another type
+     */
+    private void expectType(final Type expected) {
+        if (type != expected) {
+            throw new IllegalStateException("Expected " + expected + ", but the value is " + type + "!");
+        }
+    }
+
+    /**
+     * Locates the children of this object or array. Their boundaries
+     * are remembered, the children themselves are not decoded.
+     */
+    private void locateChildren() {
+        if (types != null) return;
+
+        final var isObject = type == Type.OBJECT;
+
+        var capacity  = 8;
+        var size      = 0;
+        var newNames  = isObject ? new String[capacity] : null;
+        var newTypes  = new Type[capacity];
+        var newStarts = new int[capacity];
+        var newEnds   = new int[capacity];
+        try {
+            final var reader = reader();
+            if (isObject) reader.beginObject(); else reader.beginArray();
+
+            while (reader.hasNext()) {
+                if (size == capacity) {
+                    capacity *= 2;
+                    if (isObject) newNames = Arrays.copyOf(newNames, capacity);
+                    newTypes  = Arrays.copyOf(newTypes, capacity);
+                    newStarts = Arrays.copyOf(newStarts, capacity);
+                    newEnds   = Arrays.copyOf(newEnds, capacity);
+                }
+                if (isObject) {
+                    newNames[size] = reader.nextName();
+                }
+                newTypes[size]  = Type.of(reader.peek());
+                newStarts[size] = start + (int) reader.getTokenStart();
+                reader.skipValue();
+                newEnds[size]   = start + (int) reader.getIndex();
+                ++size;
+            }
+        } catch (JSONParseException e) {
+            throw unexpected(e);
+        }
+        names    = isObject ? Arrays.copyOf(newNames, size) : null;
+        starts   = Arrays.copyOf(newStarts, size);
+        ends     = Arrays.copyOf(newEnds, size);
+        children = new JSONValue[size];
+        types    = Arrays.copyOf(newTypes, size);
+        if (isObject && size > HASH_THRESHOLD) {
+            nameIndices = new HashMap<>(size * 2);
+            for (int i = size - 1; i >= 0; --i) {
+                nameIndices.put(names[i], i);
+            }
+        }
+    }
+
+    /**
+     * Returns the child at the given index, creating it if necessary.
+     *
+     * @param index the index of the child
+     * @return the child
+     */
+    private JSONValue child(final int index) {
+        var child = children[index];
+        if (child == null) {
+            child = new JSONValue(document, starts[index], ends[index], types[index]);
+            children[index] = child;
+        }
+        return child;
+    }
+
+    /**
+     * Returns the index of the field with the given name.
+     *
+     * @param name the name of the field
+     * @return the index of the field or {@code -1} if there is no such field
+     */
+    private int indexOf(final String name) {
+        if (nameIndices != null) {
+            final var index = nameIndices.get(name);
+            return index == null ? -1 : index;
+        }
+        for (int i = 0; i < names.length; ++i) {
+            if (names[i].equals(name)) return i;
+        }
+        return -1;
+    }
+
+    /**
+     * Returns the scalar value, decoding it on the first access.
+     *
+     * @return the decoded value
+     */
+    private Object scalar() {
+        if (value == null) {
+            try {
+                final var reader = reader();
+                value = switch (type) {
+                    case STRING, NUMBER -> reader.nextString();
+                    case BOOLEAN        -> reader.nextBoolean();
+                    default             -> throw new IllegalStateException("The value is " + type + "!");
+                };
+            } catch (JSONParseException e) {
+                throw unexpected(e);
+            }
+        }
+        return value;
+    }
+
+    /**
+     * Returns the type of this value.
+     *
+     * @return the type of this value
+     */
+    public Type getType() {
+        return type;
+    }
+
+    /**
+     * Returns whether this value is {@code null}.
+     *
+     * @return whether this value is {@code null}
+     */
+    public boolean isNull() {
+        return type == Type.NULL;
+    }
+
+    /**
+     * Returns the number of fields of this object or the number of
+     * elements of this array.
+     *
+     * @return the number of children
+     * @throws IllegalStateException if this value is neither an object nor an array
+     */
+    public int size() {
+        if (type != Type.OBJECT) expectType(Type.ARRAY);
+
+        locateChildren();
+        return starts.length;
+    }
+
+    /**
+     * Returns whether this object has a field with the given name.
+     *
+     * @param name the name of the field
+     * @return whether the field exists
+     * @throws IllegalStateException if this value is not an object
+     */
+    public boolean has(final String name) {
+        expectType(Type.OBJECT);
+
+        locateChildren();
+        return indexOf(name) >= 0;
+    }
+
+    /**
+     * Returns the value of the field with the given name. If the name
+     * occurs multiple times, the first field is returned.
+     *
+     * @param name the name of the field
+     * @return the value of the field or {@code null} if there is no such field
+     * @throws IllegalStateException if this value is not an object
+     */
+    public JSONValue get(final String name) {
+        expectType(Type.OBJECT);
+
+        locateChildren();
+        final var index = indexOf(name);
+        return index < 0 ? null : child(index);
+    }
+
+    /**
+     * Returns the element at the given index of this array.
+     *
+     * @param index the index of the element
+     * @return the element at the given index
+     * @throws IllegalStateException if this value is not an array
+     * @throws IndexOutOfBoundsException if the index is out of range
+     */
+    public JSONValue get(final int index) {
+        expectType(Type.ARRAY);
+
+        locateChildren();
+        return child(index);
+    }
+
+    /**
+     * Returns the names of the fields of this object in their order.
+     *
+     * @return the names of the fields
+     * @throws IllegalStateException if this value is not an object
+     */
+    public List<String> getNames() {
+        expectType(Type.OBJECT);
+
+        locateChildren();
+        return Collections.unmodifiableList(Arrays.asList(names));
+    }
+
+    /**
+     * Returns this string value.
+     *
+     * @return the decoded string
+     * @throws IllegalStateException if this value is not a string
+     */
+    public String asString() {
+        expectType(Type.STRING);
+        return (String) scalar();
+    }
+
+    /**
+     * Returns this number as {@code long}.
+     *
+     * @return the decoded number
+     * @throws IllegalStateException if this value is not a number
+     * @throws NumberFormatException if the number is not integral
+     */
+    public long asLong() {
+        expectType(Type.NUMBER);
+        return JSONNumbers.parseLong((String) scalar(), Long.MIN_VALUE, Long.MAX_VALUE);
+    }
+
+    /**
+     * Returns this number as {@code int}.
+     *
+     * @return the decoded number
+     * @throws IllegalStateException if this value is not a number
+     * @throws NumberFormatException if the number is not an {@code int}
+     */
+    public int asInt() {
+        expectType(Type.NUMBER);
+        return (int) JSONNumbers.parseLong((String) scalar(), Integer.MIN_VALUE, Integer.MAX_VALUE);
+    }
+
+    /**
+     * Returns this number as {@code double}.
+     *
+     * @return the decoded number
+     * @throws IllegalStateException if this value is not a number
+     */
+    public double asDouble() {
+        expectType(Type.NUMBER);
+        return JSONNumbers.parseDouble((String) scalar());
+    }
+
+    /**
+     * Returns this boolean value.
+     *
+     * @return the decoded boolean
+     * @throws IllegalStateException if this value is not a boolean
+     */
+    public boolean asBoolean() {
+        expectType(Type.BOOLEAN);
+        return (Boolean) scalar();
+    }
+
+    /**
+     * Binds this value to an object of the given class using a
+     * {@link JSONParser}. Only the bytes of this value are parsed.
+     *
+     * @param c the class of the object
+     * @param <T> the type of the object
+     * @return the bound object
+     * @throws ReflectiveOperationException if the object could not be filled with the values
+     * @throws JSONParseException if the value does not match the given class
+     */
+    public <T> T as(final Class<T> c) throws ReflectiveOperationException, JSONParseException {
+        return new JSONParser(reader()).readValue(c);
+    }
+
+    /**
+     * Returns the JSON text of this value as found in the document.
+     *
+     * @return the text of this value
+     */
+    @Override
+    public String toString() {
+        return document.text(start, end);
+    }
+}
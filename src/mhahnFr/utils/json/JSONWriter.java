@@ -1,7 +1,7 @@
 /*
  * JUtilities - Some utilities written for Java.
  *
- * Copyright (C) 2023  mhahnFr
+ * Copyright (C) 2023 - 2026  mhahnFr
  *
  * This file is part of the JUtilities. This library is free software:
  * you can redistribute it and/or modify it under the terms of the
@@ -21,7 +21,7 @@ package mhahnFr.utils.json;
 
 import java.io.IOException;
 import java.io.OutputStream;
-import java.lang.reflect.*;
+import java.lang.reflect.Array;
 import java.nio.charset.Charset;
 import java.nio.charset.StandardCharsets;
 import java.util.*;
@@ -33,6 +33,9 @@ import java.util.*;
  * @since 11.01.23
  */
 public class JSONWriter {
+    /** The default maximal nesting depth.                  */
+    public static final int DEFAULT_MAX_DEPTH = 512;
+
     /** The output stream to write the JSON data to.        */
     private final OutputStream out;
     /** The charset to be used, defaults to UTF-8.          */
@@ -41,6 +44,16 @@ public class JSONWriter {
     private boolean humanReadable = false;
     /** The current indentation level.                      */
     private int indent = 0;
+    /** Indicates whether to use generated codecs.          */
+    private boolean generatingCodecs = false;
+    /** Indicates whether a comma precedes the next field.  */
+    private boolean needsComma = false;
+    /** The number of currently open objects and arrays.    */
+    private int depth = 0;
+    /** The maximal nesting depth.                          */
+    private int maxDepth = DEFAULT_MAX_DEPTH;
+    /** The frames of the containers being written.         */
+    private final List<Frame> frames = new ArrayList<>();
 
     /**
      * Constructs this writer using the given output stream.
@@ -72,36 +85,6 @@ public class JSONWriter {
         this.charset = charset;
     }
 
-    /**
-     * Returns a collection of all accessible and non-static fields
-     * of the class of the given object.
-     *
-     * @param obj the object whose fields to get
-     * @return a collection with all accessible fields
-     */
-    private Collection<Field> getFields(final Object obj) {
-        final var c              = obj.getClass();
-        final var declaredFields = c.getDeclaredFields();
-        final var publicFields   = c.getFields();
-        final var list           = new HashSet<Field>();
-
-        for (final var field : publicFields) {
-            if (!Modifier.isStatic(field.getModifiers())) {
-                list.add(field);
-            }
-        }
-
-        for (final var field : declaredFields) {
-            if (!Modifier.isStatic(field.getModifiers())) {
-                if (field.trySetAccessible()) {
-                    list.add(field);
-                }
-            }
-        }
-
-        return list;
-    }
-
     /**
      * Writes the given string using the set charset.
      *
@@ -148,9 +131,12 @@ public class JSONWriter {
      *
      * @param bracket the actual bracket to be printed
      * @throws IOException if an I/O error occurs
+     * @throws IllegalStateException if the maximal nesting depth is exceeded
      * @see #write(String)
      */
     private void writeBeginBracket(final char bracket) throws IOException {
+        if (++depth > maxDepth) throw new IllegalStateException("Maximal nesting depth exceeded!");
+
         write(Character.toString(bracket));
 
         if (humanReadable) {
@@ -168,6 +154,7 @@ public class JSONWriter {
      * @see #writeIndent(String)
      */
     private void writeEndBracket(final char bracket) throws IOException {
+        --depth;
         if (humanReadable) {
             write("\n");
             indent -= 4;
@@ -199,10 +186,48 @@ public class JSONWriter {
      * @see #setHumanReadable(boolean)
      */
     private void writeFieldName(final String name) throws IOException {
-        writeIndent("\"" + name + "\"");
+        writeIndent("\"" + escape(name) + "\"");
         writeColon();
     }
 
+    /**
+     * Escapes the quotes, backslashes and control characters of the
+     * given string, so that it can be written as a JSON string.
+     *
+     * @param string the string to be escaped
+     * @return the escaped string
+     */
+    private static String escape(final String string) {
+        var i = 0;
+        while (i < string.length() && string.charAt(i) >= ' ' && string.charAt(i) != '"' && string.charAt(i) != '\\') {
+            ++i;
+        }
+        if (i == string.length()) return string;
+
+        final var builder = new StringBuilder(string.length() + 16).append(string, 0, i);
+        for (; i < string.length(); ++i) {
+            final var c = string.charAt(i);
+            switch (c) {
+                case '"'  -> builder.append("\\\"");
+                case '\\' -> builder.append("\\\\");
+                case '\b' -> builder.append("\\b");
+                case '\f' -> builder.append("\\f");
+                case '\n' -> builder.append("\\n");
+                case '\r' -> builder.append("\\r");
+                case '\t' -> builder.append("\\t");
+
+                default -> {
+                    if (c < ' ') {
+                        builder.append(String.format("\\u%04x", (int) c));
+                    } else {
+                        builder.append(c);
+                    }
+                }
+            }
+        }
+        return builder.toString();
+    }
+
     /**
      * Returns whether the given object can be written using
      * its {@link Object#toString() toString()} method.
@@ -211,21 +236,7 @@ public class JSONWriter {
      * @return whether the given object can be written as a string
      */
     private boolean canDumpDirect(final Object obj) {
-        final var c = obj == null ? null : obj.getClass();
-
-        return obj != null && (
-                c.isPrimitive()           ||
-                c.equals(Boolean.class)   ||
-                c.equals(Byte.class)      ||
-                c.equals(Short.class)     ||
-                c.equals(Integer.class)   ||
-                c.equals(Long.class)      ||
-                c.equals(Float.class)     ||
-                c.equals(Double.class)    ||
-                c.equals(Character.class) ||
-                c.equals(String.class)    ||
-                Enum.class.isAssignableFrom(c)
-            );
+        return obj != null && JSONClassInfo.of(obj.getClass()).isDirect();
     }
 
     /**
@@ -238,158 +249,534 @@ public class JSONWriter {
      * @see #write(String)
      */
     private void writePrimitive(final Object obj) throws IOException {
-        final var needsQuotation = obj instanceof String || obj instanceof Enum;
+        final var needsQuotation = obj instanceof String || obj instanceof Enum || obj instanceof Character;
 
-        if (needsQuotation) { write("\""); }
-        write(obj.toString());
-        if (needsQuotation) { write("\""); }
+        if (needsQuotation) {
+            write("\"" + escape(obj.toString()) + "\"");
+        } else {
+            write(obj.toString());
+        }
     }
 
     /**
-     * Dumps the given dictionary.
+     * Writes the value of the given primitive field of the given
+     * object without boxing it.
      *
-     * @param dict the dictionary to be dumped
-     * @param type the generic type
+     * @param obj the object whose field to write
+     * @param field the primitive field to be written
      * @throws IOException if an I/O error occurs
-     * @throws IllegalAccessException if a field of a dumped object cannot be accessed
-     * @see #dumpArrayElement(Object, Type, boolean)
-     * @see #writeComma()
+     * @throws IllegalAccessException if the field cannot be accessed
+     * @see #write(String)
      */
-    private void dumpDictionary(final Map<?, ?> dict, final Type type) throws IOException, IllegalAccessException {
-        final var keyClass = JSONParser.getMaybeGenericClass(((ParameterizedType) type).getActualTypeArguments()[0]);
-        final var isStringDict = String.class.isAssignableFrom(keyClass) ||
-                                 Enum.class.isAssignableFrom(keyClass);
+    private void writePrimitiveField(final Object obj, final JSONFieldInfo field) throws IOException, IllegalAccessException {
+        final var accessor = field.getAccessor();
 
-        writeBeginBracket(isStringDict ? '{' : '[');
+        write(switch (field.getPrimitive()) {
+            case BOOLEAN -> Boolean.toString(accessor.getBoolean(obj));
+            case BYTE    -> Byte.toString(accessor.getByte(obj));
+            case SHORT   -> Short.toString(accessor.getShort(obj));
+            case CHAR    -> "\"" + escape(Character.toString(accessor.getChar(obj))) + "\"";
+            case INT     -> Integer.toString(accessor.getInt(obj));
+            case LONG    -> Long.toString(accessor.getLong(obj));
+            case FLOAT   -> Float.toString(accessor.getFloat(obj));
+            case DOUBLE  -> Double.toString(accessor.getDouble(obj));
+        });
+    }
 
-        final var it = dict.entrySet().iterator();
-        while (it.hasNext()) {
-            final var entry = it.next();
+    /**
+     * Begins writing a field. A comma is written if another field
+     * has been written before.
+     *
+     * @param name the name of the field
+     * @throws IOException if an I/O error occurs
+     * @see #writeFieldName(String)
+     */
+    private void beginField(final String name) throws IOException {
+        if (needsComma) { writeComma(); }
 
-            dumpArrayElement(entry.getKey(), type, true);
-            if (isStringDict) {
-                writeColon();
-            } else {
-                writeComma();
-            }
-            dumpArrayElement(entry.getValue(), type, !isStringDict);
+        writeFieldName(name);
+        needsComma = true;
+    }
 
-            if (it.hasNext()) { writeComma(); }
-        }
+    /**
+     * Writes a field of type {@code int}.
+     *
+     * @param name the name of the field
+     * @param value the value of the field
+     * @throws IOException if an I/O error occurs
+     */
+    public void writeField(final String name, final int value) throws IOException {
+        beginField(name);
+        write(Integer.toString(value));
+    }
 
-        writeEndBracket(isStringDict ? '}' : ']');
+    /**
+     * Writes a field of type {@code long}.
+     *
+     * @param name the name of the field
+     * @param value the value of the field
+     * @throws IOException if an I/O error occurs
+     */
+    public void writeField(final String name, final long value) throws IOException {
+        beginField(name);
+        write(Long.toString(value));
     }
 
     /**
-     * Dumps the given list.
+     * Writes a field of type {@code float}.
      *
-     * @param list the list to be dumped
-     * @param type the generic type
+     * @param name the name of the field
+     * @param value the value of the field
      * @throws IOException if an I/O error occurs
-     * @throws IllegalAccessException if a field of a dumped object cannot be accessed
-     * @see #dumpArrayElement(Object, Type, boolean)
-     * @see #writeComma()
      */
-    private void dumpList(final Collection<?> list, final Type type) throws IOException, IllegalAccessException {
-        writeBeginBracket('[');
+    public void writeField(final String name, final float value) throws IOException {
+        beginField(name);
+        write(Float.toString(value));
+    }
 
-        final var it = list.iterator();
-        while (it.hasNext()) {
-            dumpArrayElement(it.next(), type, true);
+    /**
+     * Writes a field of type {@code double}.
+     *
+     * @param name the name of the field
+     * @param value the value of the field
+     * @throws IOException if an I/O error occurs
+     */
+    public void writeField(final String name, final double value) throws IOException {
+        beginField(name);
+        write(Double.toString(value));
+    }
 
-            if (it.hasNext()) { writeComma(); }
+    /**
+     * Writes a field of type {@code boolean}.
+     *
+     * @param name the name of the field
+     * @param value the value of the field
+     * @throws IOException if an I/O error occurs
+     */
+    public void writeField(final String name, final boolean value) throws IOException {
+        beginField(name);
+        write(Boolean.toString(value));
+    }
+
+    /**
+     * Writes a field of type {@code char}.
+     *
+     * @param name the name of the field
+     * @param value the value of the field
+     * @throws IOException if an I/O error occurs
+     */
+    public void writeField(final String name, final char value) throws IOException {
+        beginField(name);
+        write("\"" + escape(Character.toString(value)) + "\"");
+    }
+
+    /**
+     * Writes a field of type {@link String}. If the value is
+     * {@code null}, the field is not written.
+     *
+     * @param name the name of the field
+     * @param value the value of the field
+     * @throws IOException if an I/O error occurs
+     */
+    public void writeField(final String name, final String value) throws IOException {
+        if (value == null) return;
+
+        beginField(name);
+        writePrimitive(value);
+    }
+
+    /**
+     * Writes a field with the given value. The value is written as
+     * primitive if possible, otherwise as object of its runtime class.
+     * If the value is {@code null}, the field is not written.
+     *
+     * @param name the name of the field
+     * @param value the value of the field
+     * @throws IOException if an I/O error occurs
+     * @throws IllegalAccessException if a field of the value cannot be accessed
+     */
+    public void writeField(final String name, final Object value) throws IOException, IllegalAccessException {
+        if (value == null) return;
+
+        beginField(name);
+        if (canDumpDirect(value)) {
+            writePrimitive(value);
+        } else {
+            writeObject(value, JSONClassInfo.of(value.getClass()).getTypeInfo());
         }
+    }
 
-        writeEndBracket(']');
+    /**
+     * Writes the field with the given name of the given object. The
+     * field is written using its declared generic type.
+     *
+     * @param obj the object whose field to write
+     * @param name the name of the field
+     * @throws IOException if an I/O error occurs
+     * @throws IllegalAccessException if the field cannot be accessed
+     * @throws IllegalArgumentException if the field does not exist
+     */
+    public void writeFieldValue(final Object obj, final String name) throws IOException, IllegalAccessException {
+        final JSONFieldInfo field;
+        try {
+            field = JSONClassInfo.of(obj.getClass()).getField(name);
+        } catch (NoSuchFieldException e) {
+            throw new IllegalArgumentException("No such field: " + name, e);
+        }
+        writeField(obj, field);
     }
 
     /**
-     * Dumps the given array.
+     * Writes the given value. The value is written as primitive if
+     * possible, otherwise as object of its runtime class. Used by
+     * {@link JSONCodec}s to write nested values.
      *
-     * @param array the array to be dumped
-     * @param type the generic type
+     * @param value the value to be written, may be {@code null}
+     * @throws IOException if an I/O error occurs
+     * @throws IllegalAccessException if a field of the value cannot be accessed
+     */
+    public void writeValue(final Object value) throws IOException, IllegalAccessException {
+        if (value == null) {
+            write("null");
+        } else if (canDumpDirect(value)) {
+            writePrimitive(value);
+        } else {
+            writeObject(value, JSONClassInfo.of(value.getClass()).getTypeInfo());
+        }
+    }
+
+    /**
+     * Writes the given string as a quoted and escaped string value.
+     *
+     * @param value the string to be written
+     * @throws IOException if an I/O error occurs
+     */
+    public void writeStringValue(final String value) throws IOException {
+        write("\"" + escape(value) + "\"");
+    }
+
+    /**
+     * Writes the given number unquoted using its {@link Object#toString() toString()}
+     * method.
+     *
+     * @param value the number to be written
+     * @throws IOException if an I/O error occurs
+     */
+    public void writeNumberValue(final Number value) throws IOException {
+        write(value.toString());
+    }
+
+    /**
+     * Writes a field with the current value of the given cursor.
+     *
+     * @param name the name of the field
+     * @param value the cursor positioned at the value of the field
+     * @throws IOException if an I/O error occurs
+     * @throws IllegalStateException if the cursor is not positioned at a value
+     */
+    public void writeField(final String name, final JSONCursor value) throws IOException {
+        final var index = value.getIndex();
+
+        beginField(name);
+        writeTapeValue(value.getTape(), index);
+    }
+
+    /**
+     * Writes the entry at the given index of the given tape including
+     * all nested entries. The open containers are tracked on an explicit
+     * stack, so that the depth of the tape is not bound by the call stack.
+     *
+     * @param tape the tape to be written
+     * @param index the index of the entry to be written
+     * @return the index after the written entries
      * @throws IOException if an I/O error occurs
-     * @throws IllegalAccessException if a field of a dumped object cannot be accessed
-     * @see #dumpArrayElement(Object, Type, boolean)
-     * @see #writeComma()
      */
-    private void dumpArray(final Object array, final Type type) throws IOException, IllegalAccessException {
-        writeBeginBracket('[');
+    private int writeTapeValue(final JSONTape tape, final int index) throws IOException {
+        final var outerDepth  = depth;
+        final var outerIndent = indent;
+        try {
+            return writeTapeEntries(tape, index);
+        } finally {
+            depth  = outerDepth;
+            indent = outerIndent;
+        }
+    }
 
-        final var length = Array.getLength(array);
+    /**
+     * Writes the entry at the given index of the given tape including
+     * all nested entries.
+     *
+     * @param tape the tape to be written
+     * @param index the index of the entry to be written
+     * @return the index after the written entries
+     * @throws IOException if an I/O error occurs
+     * @see #writeTapeValue(JSONTape, int)
+     */
+    private int writeTapeEntries(final JSONTape tape, final int index) throws IOException {
+        var containers = new int[16];
+        var open       = 0;
+        var i          = index;
+        while (true) {
+            final var tag = tape.tag(i);
+            switch (tag) {
+                case JSONTape.OBJECT, JSONTape.ARRAY -> {
+                    writeBeginBracket(tag == JSONTape.OBJECT ? '{' : '[');
+                    if (open == containers.length) containers = Arrays.copyOf(containers, open * 2);
+                    containers[open++] = i;
+                    i += 2;
+                }
+
+                case JSONTape.STRING -> writePrimitive(tape.string(i));
+                case JSONTape.LONG   -> write(Long.toString(tape.word(i)));
+                case JSONTape.DOUBLE -> write(Double.toString(Double.longBitsToDouble(tape.word(i))));
+                case JSONTape.BIG    -> write(tape.string(i));
+                case JSONTape.TRUE   -> write("true");
+                case JSONTape.FALSE  -> write("false");
+                default              -> write("null");
+            }
+            if (tag != JSONTape.OBJECT && tag != JSONTape.ARRAY) i = tape.skip(i);
+
+            while (open > 0 && i == tape.skip(containers[open - 1])) {
+                writeEndBracket(tape.tag(containers[--open]) == JSONTape.OBJECT ? '}' : ']');
+            }
+            if (open == 0) return i;
+
+            final var container = containers[open - 1];
+            if (i > container + 2) { writeComma(); }
+            if (tape.tag(container) == JSONTape.OBJECT) {
+                writeFieldName(tape.string(i));
+                i += 2;
+            } else {
+                writeIndent("");
+            }
+        }
+    }
+
+    /**
+     * Writes the given tape.
+     *
+     * @param tape the tape to be written
+     * @throws IOException if an I/O error occurs
+     */
+    public void writeTape(final JSONTape tape) throws IOException {
+        writeTapeValue(tape, 0);
+    }
 
-        for (int i = 0; i < length; ++i) {
-            dumpArrayElement(Array.get(array, i), type, true);
+    /**
+     * Writes the current value of the given cursor including all
+     * nested values.
+     *
+     * @param cursor the cursor positioned at the value to be written
+     * @throws IOException if an I/O error occurs
+     * @throws IllegalStateException if the cursor is not positioned at a value
+     */
+    public void writeValue(final JSONCursor cursor) throws IOException {
+        writeTapeValue(cursor.getTape(), cursor.getIndex());
+    }
 
-            if (i + 1 < length) { writeComma(); }
+    /**
+     * Writes the given field of the given object. If the value of
+     * the field is {@code null}, the field is not written.
+     *
+     * @param obj the object whose field to write
+     * @param field the field to be written
+     * @throws IOException if an I/O error occurs
+     * @throws IllegalAccessException if the field cannot be accessed
+     */
+    void writeField(final Object obj, final JSONFieldInfo field) throws IOException, IllegalAccessException {
+        if (field.getPrimitive() != null) {
+            beginField(field.getName());
+            writePrimitiveField(obj, field);
+            return;
         }
 
-        writeEndBracket(']');
+        final var content = field.getAccessor().get(obj);
+        if (content != null) {
+            beginField(field.getName());
+            if (canDumpDirect(content)) {
+                writePrimitive(content);
+            } else {
+                writeObject(content, field.getType());
+            }
+        }
     }
 
     /**
      * Dumps the given object as a collection element. If it can
      * be dumped direct, it is written as a primitive, otherwise
-     * it is written as an object.
+     * the writing of the object is begun.
      *
      * @param obj the object to be written
      * @param type the generic type
      * @param indent whether to indent the element
+     * @return whether a frame writing the elements of the object has been pushed
      * @throws IOException if an I/O error occurs
      * @throws IllegalAccessException if a field of a dumped object cannot be accessed
      * @see #canDumpDirect(Object)
      * @see #writePrimitive(Object)
-     * @see #writeObject(Object, Type)
+     * @see #beginValue(Object, JSONTypeInfo)
      * @see #writeIndent(String)
      */
-    private void dumpArrayElement(final Object obj, final Type type, final boolean indent) throws IOException, IllegalAccessException {
+    private boolean dumpArrayElement(final Object obj, final JSONTypeInfo type, final boolean indent) throws IOException, IllegalAccessException {
         if (indent) { writeIndent(""); }
 
         if (canDumpDirect(obj)) {
             writePrimitive(obj);
+            return false;
+        }
+        return beginValue(obj, type);
+    }
+
+    /**
+     * Begins writing the given value. Values written by a codec are
+     * written completely. For collections, maps, arrays and objects, the
+     * beginning bracket is written and a frame writing the elements is
+     * pushed onto the stack of frames.
+     *
+     * @param obj the value to be written
+     * @param type the generic type
+     * @return whether a frame writing the elements of the value has been pushed
+     * @throws IOException if an I/O error occurs
+     * @throws IllegalAccessException if a field of a dumped object cannot be accessed
+     * @see #beginObject(Object)
+     * @see JSONCodec#write(JSONWriter, Object)
+     */
+    private boolean beginValue(final Object obj, final JSONTypeInfo type) throws IOException, IllegalAccessException {
+        final var c = JSONClassInfo.of(obj.getClass());
+
+        final var codec = c.getValueCodec();
+        if (codec != null) {
+            codec.write(this, obj);
+            return false;
+        }
+
+        final Frame frame;
+        if (c.isMap()) {
+            writeBeginBracket(type.isStringDictionary() ? '{' : '[');
+            frame = new DictionaryFrame((Map<?, ?>) obj, type);
+        } else if (c.isCollection()) {
+            writeBeginBracket('[');
+            frame = new ListFrame((Collection<?>) obj, type);
+        } else if (c.isArray()) {
+            writeBeginBracket('[');
+            frame = new ArrayFrame(obj, type);
         } else {
-            writeObject(obj, type);
+            return beginObject(obj);
         }
+        frames.add(frame);
+        return true;
+    }
+
+    /**
+     * Begins writing the given object. Objects written by a codec are
+     * written completely; otherwise, a frame writing the fields is pushed.
+     *
+     * @param obj the object to be written, may be {@code null}
+     * @return whether a frame writing the fields of the object has been pushed
+     * @throws IOException if an I/O error occurs
+     * @throws IllegalAccessException if a field of the object cannot be accessed
+     * @see #endObject(int, boolean)
+     */
+    private boolean beginObject(final Object obj) throws IOException, IllegalAccessException {
+        final var outerNeedsComma = needsComma;
+
+        writeBeginBracket('{');
+        if (obj == null) {
+            endObject(0, outerNeedsComma);
+            return false;
+        }
+
+        final var c               = JSONClassInfo.of(obj.getClass());
+        final var fields          = c.getSerializableFields();
+        final var registeredCodec = c.getRegisteredCodec();
+        final var codec           = generatingCodecs ? c.getCodec() : null;
+
+        needsComma = false;
+        if (registeredCodec != null) {
+            registeredCodec.write(this, obj);
+        } else if (codec != null) {
+            codec.write(this, obj);
+        } else {
+            frames.add(new ObjectFrame(obj, fields, outerNeedsComma));
+            return true;
+        }
+        endObject(fields.length, outerNeedsComma);
+        return false;
+    }
+
+    /**
+     * Ends writing an object.
+     *
+     * @param fields the number of serializable fields of the object
+     * @param outerNeedsComma whether a comma precedes the next field of the enclosing object
+     * @throws IOException if an I/O error occurs
+     */
+    private void endObject(final int fields, final boolean outerNeedsComma) throws IOException {
+        if (humanReadable && fields > 0) { write("\n"); }
+        if (humanReadable) { indent -= 4; }
+        --depth;
+        writeIndent("}");
+        needsComma = outerNeedsComma;
+    }
+
+    /**
+     * Writes the elements of the frames above the given base until all
+     * of them are finished.
+     *
+     * @param base the number of frames to keep
+     * @throws IOException if an I/O error occurs
+     * @throws IllegalAccessException if a field of a dumped object cannot be accessed
+     */
+    private void writeFrames(final int base) throws IOException, IllegalAccessException {
+        while (frames.size() > base) {
+            if (frames.get(frames.size() - 1).step()) frames.remove(frames.size() - 1);
+        }
+    }
+
+    /**
+     * Removes the frames above the given base and restores the given
+     * state, so that this writer can be used again if writing failed.
+     *
+     * @param base the number of frames to keep
+     * @param outerDepth the nesting depth to be restored
+     * @param outerIndent the indentation level to be restored
+     * @param outerNeedsComma whether a comma precedes the next field
+     */
+    private void restore(final int base, final int outerDepth, final int outerIndent, final boolean outerNeedsComma) {
+        if (frames.size() > base) frames.subList(base, frames.size()).clear();
+
+        depth      = outerDepth;
+        indent     = outerIndent;
+        needsComma = outerNeedsComma;
     }
 
     /**
      * Writes the given object. If the given object is a collection
-     * type, it is written as a collection, otherwise it is dumped
-     * using {@link #dump(Object)}.
+     * type, it is written as a collection, otherwise it is written as
+     * an object like by {@link #dump(Object)}. The nested objects and
+     * collections are written on an explicit stack of frames instead
+     * of recursively.
      * The output is formatted human-readable if set.
      *
      * @param obj the object to be written
      * @param type the generic type
      * @throws IOException if an I/O error occurs
      * @throws IllegalAccessException if a field of a dumped object cannot be accessed
-     * @see #write(String)
-     * @see #writeIndent(String)
-     * @see #indent
-     * @see #dump(Object)
-     * @see #dumpArray(Object, Type)
-     * @see #dumpDictionary(Map, Type)
-     * @see #dumpList(Collection, Type)
+     * @see #beginValue(Object, JSONTypeInfo)
+     * @see #writeFrames(int)
      * @see #humanReadable
      * @see #isHumanReadable()
      * @see #setHumanReadable(boolean)
      */
-    private void writeObject(final Object obj, final Type type) throws IOException, IllegalAccessException {
-        final var c = obj.getClass();
-
-        final var isCollection = Collection.class.isAssignableFrom(c);
-        final var isDictionary = Map.class.isAssignableFrom(c);
-        final var isArray      = c.isArray();
-
-        if (isCollection || isDictionary || isArray) {
-            if (isDictionary) {
-                dumpDictionary((Map<?, ?>) obj, type);
-            } else if (isCollection) {
-                dumpList((Collection<?>) obj, type);
-            } else {
-                dumpArray(obj, type);
-            }
-        } else {
-            dump(obj);
+    private void writeObject(final Object obj, final JSONTypeInfo type) throws IOException, IllegalAccessException {
+        final var base            = frames.size();
+        final var outerDepth      = depth;
+        final var outerIndent     = indent;
+        final var outerNeedsComma = needsComma;
+        try {
+            if (beginValue(obj, type)) writeFrames(base);
+        } finally {
+            restore(base, outerDepth, outerIndent, outerNeedsComma);
         }
     }
 
@@ -400,37 +787,260 @@ public class JSONWriter {
      * @param obj the object to be dumped
      * @throws IllegalAccessException if a field of the object cannot be accessed
      * @throws IOException if an I/O error occurs
+     * @throws IllegalStateException if the maximal nesting depth is exceeded, e.g. because of a cycle
      */
     public void dump(Object obj) throws IllegalAccessException, IOException {
-        writeBeginBracket('{');
-        if (obj != null) {
-            final var fields = getFields(obj);
-            final var it     = fields.iterator();
+        final var base            = frames.size();
+        final var outerDepth      = depth;
+        final var outerIndent     = indent;
+        final var outerNeedsComma = needsComma;
+        try {
+            if (beginObject(obj)) writeFrames(base);
+        } finally {
+            restore(base, outerDepth, outerIndent, outerNeedsComma);
+        }
+    }
+
+    /**
+     * Represents an object, array, collection or mapping whose elements
+     * are being written. The open containers are kept on an explicit
+     * stack, so that the nesting depth of the written values is not
+     * bound by the call stack.
+     *
+     * @author mhahnFr
+     * @since 17.10.26
+     */
+    private abstract static class Frame {
+        /**
+         * Writes the following elements. Stops at the first element that
+         * is a container whose frame is pushed. Once all elements are
+         * written, the end bracket is written.
+         *
+         * @return whether all elements have been written
+         * @throws IOException if an I/O error occurs
+         * @throws IllegalAccessException if a field of a dumped object cannot be accessed
+         */
+        abstract boolean step() throws IOException, IllegalAccessException;
+    }
+
+    /**
+     * A frame writing the fields of an object. If the value of a
+     * field is {@code null}, the field is not written.
+     *
+     * @author mhahnFr
+     * @since 17.10.26
+     */
+    private final class ObjectFrame extends Frame {
+        /** The object to be written.                                    */
+        private final Object obj;
+        /** The serializable fields of the object.                       */
+        private final JSONFieldInfo[] fields;
+        /** Whether a comma precedes the next field of the outer object. */
+        private final boolean outerNeedsComma;
+        /** The index of the field written next.                         */
+        private int index = 0;
+
+        /**
+         * Constructs this frame for the given object.
+         *
+         * @param obj the object to be written
+         * @param fields the serializable fields of the object
+         * @param outerNeedsComma whether a comma precedes the next field of the outer object
+         */
+        ObjectFrame(final Object obj, final JSONFieldInfo[] fields, final boolean outerNeedsComma) {
+            this.obj             = obj;
+            this.fields          = fields;
+            this.outerNeedsComma = outerNeedsComma;
+        }
+
+        @Override
+        boolean step() throws IOException, IllegalAccessException {
+            while (index < fields.length) {
+                final var field = fields[index++];
+                if (field.getPrimitive() != null) {
+                    beginField(field.getName());
+                    writePrimitiveField(obj, field);
+                    continue;
+                }
+
+                final var content = field.getAccessor().get(obj);
+                if (content == null) continue;
+
+                beginField(field.getName());
+                if (canDumpDirect(content)) {
+                    writePrimitive(content);
+                } else if (beginValue(content, field.getType())) {
+                    return false;
+                }
+            }
+            endObject(fields.length, outerNeedsComma);
+            return true;
+        }
+    }
+
+    /**
+     * A frame writing the elements of a collection.
+     *
+     * @author mhahnFr
+     * @since 17.10.26
+     */
+    private final class ListFrame extends Frame {
+        /** The iterator over the elements.              */
+        private final Iterator<?> iterator;
+        /** The type of the elements.                    */
+        private final JSONTypeInfo elementType;
+        /** Indicates whether no element is written yet. */
+        private boolean first = true;
+
+        /**
+         * Constructs this frame for the given collection.
+         *
+         * @param list the collection to be written
+         * @param type the generic type
+         */
+        ListFrame(final Collection<?> list, final JSONTypeInfo type) {
+            this.iterator    = list.iterator();
+            this.elementType = type.getArgument(0);
+        }
+
+        @Override
+        boolean step() throws IOException, IllegalAccessException {
+            while (iterator.hasNext()) {
+                if (!first) { writeComma(); }
+                first = false;
+
+                if (dumpArrayElement(iterator.next(), elementType, true)) return false;
+            }
+            writeEndBracket(']');
+            return true;
+        }
+    }
+
+    /**
+     * A frame writing the elements of an array.
+     *
+     * @author mhahnFr
+     * @since 17.10.26
+     */
+    private final class ArrayFrame extends Frame {
+        /** The array to be written.               */
+        private final Object array;
+        /** The length of the array.               */
+        private final int length;
+        /** The type of the elements.              */
+        private final JSONTypeInfo componentType;
+        /** The index of the element written next. */
+        private int index = 0;
 
-            boolean needsComma = false;
-            while (it.hasNext()) {
-                final var field = it.next();
+        /**
+         * Constructs this frame for the given array.
+         *
+         * @param array the array to be written
+         * @param type the generic type
+         */
+        ArrayFrame(final Object array, final JSONTypeInfo type) {
+            this.array         = array;
+            this.length        = Array.getLength(array);
+            this.componentType = type.getComponent() == null ? new JSONTypeInfo(array.getClass().componentType())
+                                                             : type.getComponent();
+        }
+
+        @Override
+        boolean step() throws IOException, IllegalAccessException {
+            while (index < length) {
+                if (index > 0) { writeComma(); }
 
-                if (field.isAnnotationPresent(JSONNoSerialization.class)) continue;
+                if (dumpArrayElement(Array.get(array, index++), componentType, true)) return false;
+            }
+            writeEndBracket(']');
+            return true;
+        }
+    }
+
+    /**
+     * A frame writing the entries of a dictionary.
+     *
+     * @author mhahnFr
+     * @since 17.10.26
+     */
+    private final class DictionaryFrame extends Frame {
+        /** The iterator over the entries.                         */
+        private final Iterator<? extends Map.Entry<?, ?>> iterator;
+        /** Whether the dictionary is a string dictionary.         */
+        private final boolean isStringDict;
+        /** The type of the keys.                                  */
+        private final JSONTypeInfo keyType;
+        /** The type of the values.                                */
+        private final JSONTypeInfo valueType;
+        /** The entry whose value is written next or {@code null}. */
+        private Map.Entry<?, ?> entry;
+        /** Indicates whether no entry is written yet.             */
+        private boolean first = true;
 
-                final var content = field.get(obj);
+        /**
+         * Constructs this frame for the given dictionary.
+         *
+         * @param dict the dictionary to be written
+         * @param type the generic type
+         */
+        DictionaryFrame(final Map<?, ?> dict, final JSONTypeInfo type) {
+            this.iterator     = dict.entrySet().iterator();
+            this.isStringDict = type.isStringDictionary();
+            this.keyType      = type.getArgument(0);
+            this.valueType    = type.getArgument(1);
+        }
 
-                if (content != null) {
-                    if (needsComma) { writeComma(); }
+        @Override
+        boolean step() throws IOException, IllegalAccessException {
+            while (true) {
+                if (entry != null) {
+                    final var value = entry.getValue();
+                    entry = null;
 
-                    writeFieldName(field.getName());
-                    if (canDumpDirect(content)) {
-                        writePrimitive(content);
+                    if (isStringDict) {
+                        writeColon();
                     } else {
-                        writeObject(content, field.getGenericType());
+                        writeComma();
                     }
-                    if (it.hasNext()) { needsComma = true; }
+                    if (dumpArrayElement(value, valueType, !isStringDict)) return false;
                 }
+                if (!iterator.hasNext()) break;
+
+                if (!first) { writeComma(); }
+                first = false;
+
+                entry = iterator.next();
+                if (dumpArrayElement(entry.getKey(), keyType, true)) return false;
             }
-            if (humanReadable && !fields.isEmpty()) { write("\n"); }
+            writeEndBracket(isStringDict ? '}' : ']');
+            return true;
         }
-        if (humanReadable) { indent -= 4; }
-        writeIndent("}");
+    }
+
+    /**
+     * Returns the maximal nesting depth of the written objects and arrays.
+     *
+     * @return the maximal nesting depth
+     */
+    public int getMaxDepth() {
+        return maxDepth;
+    }
+
+    /**
+     * Sets the maximal nesting depth of the written objects and arrays.
+     * Defaults to {@link #DEFAULT_MAX_DEPTH}. Writing deeper nested values,
+     * such as object graphs containing cycles, fails instead of writing
+     * endlessly. The nested objects and collections are written on an
+     * explicit stack, so that the depth is not bound by the call stack;
+     * only values written by {@link JSONCodec}s are written recursively.
+     *
+     * @param maxDepth the maximal nesting depth
+     * @throws IllegalArgumentException if the depth is not positive
+     */
+    public void setMaxDepth(int maxDepth) {
+        if (maxDepth <= 0) throw new IllegalArgumentException("The maximal depth must be positive!");
+
+        this.maxDepth = maxDepth;
     }
 
     /**
@@ -452,4 +1062,25 @@ public class JSONWriter {
     public void setHumanReadable(boolean humanReadable) {
         this.humanReadable = humanReadable;
     }
+
+    /**
+     * Returns whether codecs are generated for the written classes.
+     *
+     * @return whether generated codecs are used
+     */
+    public boolean isGeneratingCodecs() {
+        return generatingCodecs;
+    }
+
+    /**
+     * Sets whether to generate a specialized codec for each written
+     * class. The codec is generated once per class when it is written
+     * the first time. The classes for which no codec can be generated
+     * are written using reflection.
+     *
+     * @param generatingCodecs whether to use generated codecs
+     */
+    public void setGeneratingCodecs(boolean generatingCodecs) {
+        this.generatingCodecs = generatingCodecs;
+    }
 }